@@ -0,0 +1,95 @@
+package com.rookies.log2doc.analytics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch (고정 메모리 빈도 추정)
+ * - depth × width 개의 long 카운터, 키 개수와 무관하게 메모리 고정
+ * - 추정값은 실제값 이상 (과대 추정만 발생), 오차 ≤ 전체 건수 × e / width (확률 1 - e^-depth)
+ * - conservative update: 현재 최소값 기준으로만 증가 → 과대 추정 감소
+ *
+ * 동기화하지 않음 (호출 측에서 보호)
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x85EBCA77C2B2AE63L
+    };
+
+    private final int width;
+    private final int depth;
+    private final long[][] counters;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = Math.max(16, width);
+        this.depth = Math.max(1, Math.min(depth, SEEDS.length));
+        this.counters = new long[this.depth][this.width];
+    }
+
+    /**
+     * 키 건수 증가 후 증가된 추정값 반환
+     */
+    public long add(String key, long count) {
+        long key64 = hash64(key);
+        int[] columns = new int[depth];
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            columns[row] = column(key64, row);
+            min = Math.min(min, counters[row][columns[row]]);
+        }
+
+        long target = min + count;
+        for (int row = 0; row < depth; row++) {
+            if (counters[row][columns[row]] < target) {
+                counters[row][columns[row]] = target;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * 키 빈도 추정 (실제값 이상)
+     */
+    public long estimate(String key) {
+        long key64 = hash64(key);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row][column(key64, row)]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (long[] row : counters) {
+            Arrays.fill(row, 0L);
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    private int column(long key64, int row) {
+        long mixed = mix(key64 ^ SEEDS[row]);
+        return (int) Math.floorMod(mixed, (long) width);
+    }
+
+    /** FNV-1a 64bit (UTF-8 바이트 기준) */
+    private static long hash64(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xFF);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /** splitmix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
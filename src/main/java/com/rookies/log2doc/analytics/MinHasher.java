@@ -0,0 +1,166 @@
+package com.rookies.log2doc.analytics;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * MinHash 서명 + LSH 밴드 키 생성기
+ * - 텍스트를 정규화(소문자, 숫자열 → 0, 공백 정리)한 뒤 문자 k-shingle 집합으로 변환
+ * - 해시 함수 numHashes(= bands × rows)개의 최소값 → 서명 (같은 위치 값이 일치할 확률 = Jaccard 유사도)
+ * - 서명을 bands개 구간으로 나눠 구간별 키 생성 → 키가 하나라도 같은 리포트만 비교 후보
+ *   (유사도 s인 쌍이 후보가 될 확률 1 - (1 - s^rows)^bands, 임계값 ≈ (1/bands)^(1/rows))
+ *
+ * 불변 객체이며 스레드 안전
+ */
+public class MinHasher {
+
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int shingleSize;
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    public MinHasher(int shingleSize, int bands, int rows) {
+        this.shingleSize = Math.max(1, shingleSize);
+        this.bands = Math.max(1, bands);
+        this.rows = Math.max(1, rows);
+        this.seeds = new long[this.bands * this.rows];
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < seeds.length; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(seed);
+        }
+    }
+
+    public int getNumHashes() {
+        return seeds.length;
+    }
+
+    /**
+     * 텍스트 → MinHash 서명
+     *
+     * @return 서명 (shingle이 없으면 null → 비교 대상 아님)
+     */
+    public int[] signature(String text) {
+        Set<Long> shingles = shingles(text);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                int value = (int) (mix(shingle ^ seeds[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 서명 → 밴드별 LSH 키 (밴드 번호 포함, 밴드 간 충돌 없음)
+     */
+    public long[] bandKeys(int[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long hash = mix(0xCBF29CE484222325L ^ band);
+            for (int row = 0; row < rows; row++) {
+                hash = mix(hash ^ (signature[band * rows + row] & 0xFFFFFFFFL));
+            }
+            keys[band] = hash;
+        }
+        return keys;
+    }
+
+    /**
+     * 서명 기반 Jaccard 유사도 추정 (일치 위치 비율)
+     */
+    public static double similarity(int[] a, int[] b) {
+        if (a == null || b == null || a.length != b.length || a.length == 0) {
+            return 0.0;
+        }
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    /** 서명 → 저장용 바이트 (int big-endian 연속) */
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        for (int value : signature) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    /** 저장용 바이트 → 서명 */
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[bytes.length / Integer.BYTES];
+        for (int i = 0; i < signature.length; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+
+    /**
+     * 정규화 텍스트의 문자 shingle 해시 집합
+     * - 숫자열을 0으로 바꿔 ID/포트/타임스탬프만 다른 리포트가 같은 shingle을 갖도록 함
+     * - 정규화 텍스트가 shingle 크기보다 짧으면 텍스트 전체를 하나의 shingle로 사용
+     */
+    private Set<Long> shingles(String text) {
+        if (text == null) {
+            return Set.of();
+        }
+        String normalized = WHITESPACE.matcher(DIGITS.matcher(text.toLowerCase(Locale.ROOT)).replaceAll("0"))
+                .replaceAll(" ").trim();
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        if (normalized.length() <= shingleSize) {
+            return Set.of(hash64(normalized, 0, normalized.length()));
+        }
+
+        Set<Long> shingles = new HashSet<>();
+        for (int i = 0; i + shingleSize <= normalized.length(); i++) {
+            shingles.add(hash64(normalized, i, i + shingleSize));
+        }
+        return shingles;
+    }
+
+    /** FNV-1a 64bit (UTF-16 코드 유닛 기준) */
+    private static long hash64(String text, int from, int to) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            hash ^= (c & 0xFF);
+            hash *= 0x100000001B3L;
+            hash ^= (c >>> 8);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /** splitmix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,119 @@
+package com.rookies.log2doc.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 슬라이딩 윈도우 heavy hitter 추적기 (고정 메모리)
+ * - 윈도우를 시간 버킷 링 버퍼로 나누고 버킷마다 Count-Min Sketch + Space-Saving 보관
+ * - 이벤트 추가: 현재 버킷만 갱신 (오래된 버킷은 재사용 시 초기화) → 이벤트당 상수 비용
+ * - 조회: 윈도우 내 버킷들의 후보 키 합집합을 CMS 추정값 합으로 정렬
+ * - 메모리: 버킷 수 × (width × depth 카운터 + capacity 후보), 키 종류와 무관
+ *
+ * 윈도우 경계는 버킷 단위로 근사 (최근 bucketCount 개 버킷)
+ */
+public class SlidingWindowHeavyHitters {
+
+    private final long bucketMillis;
+    private final Bucket[] buckets;
+
+    public SlidingWindowHeavyHitters(long windowMillis, long bucketMillis,
+                                     int sketchWidth, int sketchDepth, int capacity) {
+        this.bucketMillis = Math.max(1L, bucketMillis);
+        int bucketCount = (int) Math.max(1L, (windowMillis + this.bucketMillis - 1) / this.bucketMillis);
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket(new CountMinSketch(sketchWidth, sketchDepth), new SpaceSaving(capacity));
+        }
+    }
+
+    /**
+     * 이벤트 1건 추가
+     */
+    public synchronized void add(String key, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+        bucket.total++;
+        bucket.sketch.add(key, 1L);
+        bucket.topK.add(key, 1L);
+    }
+
+    /**
+     * 윈도우 내 상위 키 조회
+     *
+     * @param limit 반환할 최대 키 수
+     */
+    public synchronized Snapshot snapshot(long nowMillis, int limit) {
+        long currentEpoch = nowMillis / bucketMillis;
+        List<Bucket> live = new ArrayList<>(buckets.length);
+        long total = 0L;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch > currentEpoch - buckets.length && bucket.epoch <= currentEpoch) {
+                live.add(bucket);
+                total += bucket.total;
+            }
+        }
+
+        Set<String> candidates = new LinkedHashSet<>();
+        for (Bucket bucket : live) {
+            candidates.addAll(bucket.topK.keys());
+        }
+
+        List<Entry> entries = new ArrayList<>(candidates.size());
+        for (String key : candidates) {
+            long count = 0L;
+            long error = 0L;
+            for (Bucket bucket : live) {
+                count += bucket.sketch.estimate(key);
+                // CMS 과대 추정 상한 (버킷 건수 × e / width)
+                error += (long) Math.ceil(bucket.total * Math.E / bucket.sketch.getWidth());
+            }
+            entries.add(new Entry(key, count, Math.min(error, count)));
+        }
+
+        entries.sort(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::key));
+        return new Snapshot(total, buckets.length * bucketMillis,
+                entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : List.copyOf(entries));
+    }
+
+    /**
+     * 윈도우 내 키 추정 빈도
+     * @param count 추정 건수 (실제값 이상)
+     * @param error 과대 추정 상한 (실제값 ≥ count - error)
+     */
+    public record Entry(String key, long count, long error) {
+    }
+
+    /**
+     * @param totalEvents  윈도우 내 전체 이벤트 수
+     * @param windowMillis 윈도우 길이
+     * @param top          상위 키 (빈도 내림차순)
+     */
+    public record Snapshot(long totalEvents, long windowMillis, List<Entry> top) {
+    }
+
+    private static final class Bucket {
+        private final CountMinSketch sketch;
+        private final SpaceSaving topK;
+        private long epoch = Long.MIN_VALUE;
+        private long total;
+
+        private Bucket(CountMinSketch sketch, SpaceSaving topK) {
+            this.sketch = sketch;
+            this.topK = topK;
+        }
+
+        private void reset(long newEpoch) {
+            sketch.clear();
+            topK.clear();
+            total = 0L;
+            epoch = newEpoch;
+        }
+    }
+}
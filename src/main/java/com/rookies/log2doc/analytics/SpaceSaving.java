@@ -0,0 +1,70 @@
+package com.rookies.log2doc.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving Top-K (고정 용량 heavy hitter 후보 추적)
+ * - 최대 capacity 개의 키만 보관
+ * - 가득 찬 상태에서 새 키가 오면 최소 카운트 키를 교체하고 (최소값 + 1)로 시작
+ *   → 빈도가 전체의 1/capacity 를 넘는 키는 반드시 후보에 남음
+ * - 후보 선정에만 사용, 빈도 추정/오차 범위는 Count-Min Sketch가 담당
+ *
+ * capacity가 작은 상수이므로 교체 시 최소값 탐색(O(capacity))도 이벤트당 상수 비용
+ * 동기화하지 않음 (호출 측에서 보호)
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public SpaceSaving(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.counters = new HashMap<>(this.capacity * 2);
+    }
+
+    public void add(String key, long count) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += count;
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, count));
+            return;
+        }
+
+        Counter min = null;
+        for (Counter candidate : counters.values()) {
+            if (min == null || candidate.count < min.count) {
+                min = candidate;
+            }
+        }
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, min.count + count));
+    }
+
+    /**
+     * 현재 후보 키 목록
+     */
+    public List<String> keys() {
+        return new ArrayList<>(counters.keySet());
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    private static final class Counter {
+        private final String key;
+        private long count;
+
+        private Counter(String key, long count) {
+            this.key = key;
+            this.count = count;
+        }
+    }
+}
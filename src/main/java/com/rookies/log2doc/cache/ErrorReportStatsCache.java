@@ -0,0 +1,137 @@
+package com.rookies.log2doc.cache;
+
+import com.rookies.log2doc.event.ErrorReportChangedEvent;
+import com.rookies.log2doc.repository.ErrorReportRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 에러 리포트 대시보드 통계 캐시
+ * - 노드별 LocalTtlCache (항목 수 제한 + TTL + single-flight)
+ * - 무효화 경로
+ *   1. 상태 변경/삭제 커밋 후 ErrorReportChangedEvent → 로컬 무효화 + Redis pub/sub 전파
+ *   2. 다른 노드의 무효화 메시지 수신 → 로컬 무효화
+ *   3. Flask가 DB에 직접 INSERT 한 신규 리포트 → 최대 ID 워터마크 폴링으로 감지 후 로컬 무효화
+ * - Redis 장애 시에도 TTL로 최대 지연 시간이 제한됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorReportStatsCache implements MessageListener {
+
+    private final ErrorReportRepository errorReportRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    /** 노드 간 무효화 채널 */
+    public static final String INVALIDATION_CHANNEL = "error-report:stats:invalidate";
+
+    /** 자기 자신이 보낸 메시지를 구분하기 위한 노드 ID */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${error-report.cache.max-entries:256}")
+    private int maxEntries;
+
+    @Value("${error-report.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private LocalTtlCache<String, Object> cache;
+
+    /** 마지막으로 확인한 최대 리포트 ID (신규 리포트 감지용) */
+    private volatile Long lastSeenMaxId;
+
+    @PostConstruct
+    public void init() {
+        cache = new LocalTtlCache<>("error_report_stats", maxEntries, Duration.ofSeconds(ttlSeconds), meterRegistry);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 이 노드의 ID (pub/sub 메시지 발신자 구분용)
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader로 계산)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        return (T) cache.get(key, loader::get);
+    }
+
+    /**
+     * 로컬 캐시 전체 무효화
+     */
+    public void invalidateLocal(String reason) {
+        cache.invalidateAll();
+        log.debug("대시보드 통계 캐시 무효화 - {}", reason);
+    }
+
+    /**
+     * 리포트 변경 커밋 후 무효화 + 다른 노드에 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportChanged(ErrorReportChangedEvent event) {
+        invalidateLocal("리포트 변경 " + event.getReportIds());
+
+        String ids = event.getReportIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + ids);
+        } catch (Exception e) {
+            log.warn("대시보드 통계 캐시 무효화 전파 실패 (TTL 만료로 보정): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        String origin = separator >= 0 ? body.substring(0, separator) : body;
+        if (nodeId.equals(origin)) {
+            return;
+        }
+        invalidateLocal("원격 노드 변경 " + (separator >= 0 ? body.substring(separator + 1) : ""));
+    }
+
+    /**
+     * 신규 리포트 유입 감지 (Flask 직접 INSERT)
+     * - 최대 ID가 바뀌면 로컬 무효화 (각 노드가 각자 감지하므로 전파 불필요)
+     */
+    @Scheduled(fixedDelayString = "${error-report.cache.watermark-interval-ms:5000}")
+    public void pollIngestionWatermark() {
+        try {
+            Long maxId = errorReportRepository.findMaxId();
+            Long previous = lastSeenMaxId;
+            lastSeenMaxId = maxId;
+            if (previous != null && maxId != null && !previous.equals(maxId)) {
+                invalidateLocal("신규 리포트 유입 (최대 ID " + previous + " → " + maxId + ")");
+            }
+        } catch (Exception e) {
+            log.debug("리포트 워터마크 확인 실패: {}", e.getMessage());
+        }
+    }
+}
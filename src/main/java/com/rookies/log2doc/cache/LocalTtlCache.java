@@ -0,0 +1,206 @@
+package com.rookies.log2doc.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 로컬(JVM) 메모리 캐시
+ * - 최대 항목 수 제한 (초과 시 가장 오래 사용하지 않은 항목 제거, LRU)
+ * - 항목별 TTL (만료 항목은 조회 시 재계산)
+ * - single-flight: 같은 키를 동시에 요청하면 한 스레드만 계산하고 나머지는 결과를 기다림
+ * - 무효화 이전에 시작된 계산 결과는 저장하지 않음
+ *   (단일 키 무효화는 그 키의 진행 중 계산만, 전체 무효화는 모든 진행 중 계산을 제외하고
+ *   무효화와 겹쳐 등록된 계산은 세대(generation)로 한 번 더 걸러냄)
+ *
+ * 메트릭 (tag cache=이름)
+ * - cache.local.requests{result=hit|miss}: 요청 수
+ * - cache.local.hit.ratio: 누적 적중률
+ * - cache.local.age: 적중 시 반환한 항목의 나이 (staleness)
+ * - cache.local.size: 현재 항목 수
+ * - cache.local.invalidations: 무효화 횟수
+ */
+public class LocalTtlCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    /** 접근 순서 기준 LinkedHashMap (this 로 동기화) */
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final ConcurrentHashMap<K, Load<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+    private final Timer ageTimer;
+
+    public LocalTtlCache(String name, int maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > LocalTtlCache.this.maxEntries;
+            }
+        };
+
+        this.hitCounter = meterRegistry.counter("cache.local.requests", "cache", name, "result", "hit");
+        this.missCounter = meterRegistry.counter("cache.local.requests", "cache", name, "result", "miss");
+        this.invalidationCounter = meterRegistry.counter("cache.local.invalidations", "cache", name);
+        this.ageTimer = meterRegistry.timer("cache.local.age", "cache", name);
+        Gauge.builder("cache.local.hit.ratio", this, LocalTtlCache::hitRatio)
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.local.size", this, LocalTtlCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료되었으면 loader로 계산 후 저장
+     * - loader 예외는 그대로 전파되고 저장되지 않음
+     */
+    public V get(K key, Supplier<V> loader) {
+        CacheEntry<V> cached = lookup(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            hitCounter.increment();
+            ageTimer.record(System.nanoTime() - cached.loadedAtNanos, TimeUnit.NANOSECONDS);
+            return cached.value;
+        }
+
+        missCount.incrementAndGet();
+        missCounter.increment();
+
+        Load<V> mine = new Load<>(generation.get());
+        Load<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing.future);
+        }
+
+        try {
+            V value = loader.get();
+            store(key, value, mine);
+            mine.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 단일 키 무효화
+     * - 이 키의 진행 중인 계산 결과는 저장하지 않음 (다른 키의 진행 중 계산에는 영향 없음)
+     * - 이후 조회는 진행 중인 계산을 기다리지 않고 새로 계산
+     */
+    public void invalidate(K key) {
+        synchronized (this) {
+            entries.remove(key);
+            Load<V> load = inFlight.remove(key);
+            if (load != null) {
+                load.invalidated = true;
+            }
+        }
+        invalidationCounter.increment();
+    }
+
+    /**
+     * 전체 무효화
+     * - 진행 중인 모든 계산 결과는 저장하지 않음
+     * - 이후 조회는 진행 중인 계산을 기다리지 않고 새로 계산
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            generation.incrementAndGet();
+            entries.clear();
+            inFlight.values().forEach(load -> load.invalidated = true);
+            inFlight.clear();
+        }
+        invalidationCounter.increment();
+    }
+
+    /**
+     * 현재 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 누적 적중률 (요청이 없으면 0)
+     */
+    public double hitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private synchronized CacheEntry<V> lookup(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAtNanos > ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void store(K key, V value, Load<V> load) {
+        // 계산 도중 이 키 또는 전체가 무효화되었으면 오래된 결과를 저장하지 않음
+        if (load.invalidated || generation.get() != load.generation) {
+            return;
+        }
+        entries.put(key, new CacheEntry<>(value, System.nanoTime()));
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record CacheEntry<V>(V value, long loadedAtNanos) {
+    }
+
+    /**
+     * 진행 중인 계산 (single-flight 결과 + 시작 시점 세대 + 단일 키 무효화 여부)
+     */
+    private static final class Load<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final long generation;
+
+        /** this(캐시) 로 동기화 */
+        private boolean invalidated;
+
+        private Load(long generation) {
+            this.generation = generation;
+        }
+    }
+}
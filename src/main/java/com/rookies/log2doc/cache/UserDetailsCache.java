@@ -0,0 +1,225 @@
+package com.rookies.log2doc.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies.log2doc.entity.Role;
+import com.rookies.log2doc.event.UserChangedEvent;
+import com.rookies.log2doc.security.services.UserDetailsImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 정보(UserDetails) 2단계 캐시
+ * - L1: 노드별 LocalTtlCache (항목 수 제한 + 짧은 TTL + single-flight)
+ * - L2: Redis 공유 캐시 (user:details:{username}, JSON)
+ * - 둘 다 없으면 loader(DB)로 조회 후 L2 → L1 순으로 저장
+ * - L2 저장은 사용자별 버전(user:details:ver:{username})이 조회 시작 시점과 같을 때만 수행 (Lua compare-and-set)
+ *   → DB 조회 도중 무효화되면 오래된 사용자 정보를 L2에 다시 쓰지 않음
+ * - 비밀번호 해시는 어느 단계에도 저장하지 않음 (로그인 시 비밀번호 검증은 항상 DB 조회)
+ *
+ * 무효화 경로
+ * 1. User 엔티티 수정/삭제 커밋 후 UserChangedEvent → 버전 증가 + L2 삭제 + L1 무효화 + Redis pub/sub 전파
+ * 2. 다른 노드의 무효화 메시지 수신 → L1 무효화
+ * - Redis 장애 시 L1 TTL로 최대 지연 시간이 제한됨
+ *
+ * 메트릭
+ * - cache.local.*{cache=user_details}: L1 적중/미스 (LocalTtlCache)
+ * - user.details.cache.l2{result=hit|miss}: L2 적중/미스
+ * - user.details.cache.l2.stale-write-skipped: 조회 중 무효화되어 L2 저장을 생략한 횟수
+ * - user.details.db.loads: DB 조회 횟수 (캐시 도입 전후 DB 부하 비교용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserDetailsCache implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /** 노드 간 무효화 채널 */
+    public static final String INVALIDATION_CHANNEL = "user:details:invalidate";
+
+    private static final String REDIS_KEY_PREFIX = "user:details:";
+    private static final String VERSION_KEY_PREFIX = "user:details:ver:";
+
+    /** KEYS[1]=사용자 정보 키, KEYS[2]=버전 키, ARGV[1]=조회 시작 시 버전, ARGV[2]=JSON, ARGV[3]=TTL(초) */
+    private static final RedisScript<Long> WRITE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) return 1", Long.class);
+
+    /** KEYS[1]=사용자 정보 키, KEYS[2]=버전 키, ARGV[1]=버전 키 TTL(초) */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return redis.call('DEL', KEYS[1])", Long.class);
+
+    /** 자기 자신이 보낸 메시지를 구분하기 위한 노드 ID */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${user-details.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${user-details.cache.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${user-details.cache.redis-ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    private LocalTtlCache<String, UserDetailsImpl> cache;
+    private Counter l2HitCounter;
+    private Counter l2MissCounter;
+    private Counter dbLoadCounter;
+    private Counter staleWriteSkipCounter;
+
+    @PostConstruct
+    public void init() {
+        cache = new LocalTtlCache<>("user_details", maxEntries, Duration.ofSeconds(localTtlSeconds), meterRegistry);
+        l2HitCounter = meterRegistry.counter("user.details.cache.l2", "result", "hit");
+        l2MissCounter = meterRegistry.counter("user.details.cache.l2", "result", "miss");
+        dbLoadCounter = meterRegistry.counter("user.details.db.loads");
+        staleWriteSkipCounter = meterRegistry.counter("user.details.cache.l2.stale-write-skipped");
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 사용자 정보 조회 (L1 → L2 → loader)
+     * - 반환값에는 비밀번호가 포함되지 않음
+     * - loader 예외(UsernameNotFoundException 등)는 그대로 전파되고 캐시되지 않음
+     */
+    public UserDetailsImpl get(String username, Supplier<UserDetailsImpl> loader) {
+        return cache.get(username, () -> loadShared(username, loader));
+    }
+
+    /**
+     * 사용자 정보 무효화 (버전 증가 + L2 삭제 + L1 무효화 + 다른 노드에 전파)
+     * - 버전이 바뀌므로 이미 DB 조회를 시작한 다른 요청/노드는 L2에 저장하지 못함
+     */
+    public void invalidate(String username) {
+        cache.invalidate(username);
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT,
+                    List.of(REDIS_KEY_PREFIX + username, VERSION_KEY_PREFIX + username),
+                    String.valueOf(versionTtlSeconds()));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + username);
+        } catch (Exception e) {
+            log.warn("사용자 정보 캐시 무효화 전파 실패 (TTL 만료로 보정) - {}: {}", username, e.getMessage());
+        }
+        log.debug("사용자 정보 캐시 무효화 - {}", username);
+    }
+
+    /**
+     * 사용자 변경 커밋 후 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        cache.invalidate(body.substring(separator + 1));
+    }
+
+    /**
+     * L2(Redis) 조회, 없으면 loader로 조회 후 L2에 저장
+     * - 버전을 먼저 읽고 DB 조회 후 버전이 그대로일 때만 저장 (조회 도중 무효화된 결과는 L2에 쓰지 않음)
+     * - Redis 장애 시 loader 결과를 그대로 사용 (L2 저장 생략)
+     */
+    private UserDetailsImpl loadShared(String username, Supplier<UserDetailsImpl> loader) {
+        String key = REDIS_KEY_PREFIX + username;
+        String versionKey = VERSION_KEY_PREFIX + username;
+        String version = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(versionKey, key));
+            if (values != null && values.size() == 2) {
+                version = values.get(0) != null ? values.get(0) : "0";
+                String json = values.get(1);
+                if (json != null) {
+                    l2HitCounter.increment();
+                    return toPrincipal(objectMapper.readValue(json, CachedUserDetails.class));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("사용자 정보 Redis 캐시 조회 실패 - {}: {}", username, e.getMessage());
+        }
+        l2MissCounter.increment();
+
+        dbLoadCounter.increment();
+        CachedUserDetails loaded = CachedUserDetails.of(loader.get());
+        if (version != null) {
+            try {
+                Long written = redisTemplate.execute(WRITE_IF_VERSION_SCRIPT, List.of(key, versionKey),
+                        version, objectMapper.writeValueAsString(loaded), String.valueOf(redisTtlSeconds));
+                if (written == null || written == 0) {
+                    staleWriteSkipCounter.increment();
+                    log.debug("사용자 정보 Redis 캐시 저장 생략 - 조회 중 무효화됨: {}", username);
+                }
+            } catch (Exception e) {
+                log.debug("사용자 정보 Redis 캐시 저장 실패 - {}: {}", username, e.getMessage());
+            }
+        }
+        return toPrincipal(loaded);
+    }
+
+    /**
+     * 버전 키 TTL (L2 항목보다 오래 유지 → 진행 중 조회가 끝나기 전에 버전이 사라지지 않음)
+     */
+    private long versionTtlSeconds() {
+        return redisTtlSeconds * 2;
+    }
+
+    private UserDetailsImpl toPrincipal(CachedUserDetails cached) {
+        Role.RoleName roleName = Role.RoleName.valueOf(cached.roleName());
+        return new UserDetailsImpl(
+                cached.id(),
+                cached.username(),
+                cached.email(),
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority(roleName.name())),
+                roleName,
+                roleName.name(),
+                roleName.getLevel()
+        );
+    }
+
+    /**
+     * Redis에 저장하는 사용자 정보 (비밀번호 제외)
+     */
+    record CachedUserDetails(Long id, String username, String email, String roleName) {
+
+        static CachedUserDetails of(UserDetailsImpl userDetails) {
+            return new CachedUserDetails(userDetails.getId(), userDetails.getUsername(),
+                    userDetails.getEmail(), userDetails.getRoleName());
+        }
+    }
+}
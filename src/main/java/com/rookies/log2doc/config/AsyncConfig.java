@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 작업 실행을 위한 Async 설정 클래스.
@@ -35,4 +36,41 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 문서 파일 I/O(스테이징 기록) 전용 ThreadPoolTaskExecutor Bean 등록.
+     * - 일괄 업로드 시 파일을 동시에 기록하되 NFS 동시 쓰기 수를 제한
+     * - 대기열이 가득 차면 호출 스레드에서 직접 실행 (자연스러운 backpressure)
+     *
+     * @return Executor Bean
+     */
+    @Bean(name = "documentIoExecutor")
+    public Executor documentIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);             // 기본 스레드 수
+        executor.setMaxPoolSize(8);              // 최대 스레드 수
+        executor.setQueueCapacity(200);          // 작업 대기열 용량
+        executor.setThreadNamePrefix("Doc-IO-"); // 스레드 이름 접두사
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 에러 리포트 SSE 전송 전용 ThreadPoolTaskExecutor Bean 등록.
+     * - 구독자별 전송 작업을 처리하여 느린 클라이언트가 변경 감지 스레드를 막지 않도록 함
+     * - 구독자당 동시에 최대 1개의 전송 작업만 대기하므로 대기열은 최대 연결 수보다 크게 설정
+     *
+     * @return Executor Bean
+     */
+    @Bean(name = "reportStreamExecutor")
+    public Executor reportStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);             // 기본 스레드 수
+        executor.setMaxPoolSize(4);              // 최대 스레드 수
+        executor.setQueueCapacity(500);          // 작업 대기열 용량
+        executor.setThreadNamePrefix("Report-SSE-"); // 스레드 이름 접두사
+        executor.initialize();
+        return executor;
+    }
 }
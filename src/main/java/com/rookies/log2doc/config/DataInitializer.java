@@ -10,6 +10,7 @@ import com.rookies.log2doc.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,6 +39,10 @@ public class DataInitializer implements CommandLineRunner {
     private final PasswordEncoder passwordEncoder;
     private final CategoryTypeRepository categoryTypeRepository;
     private final ErrorReportRepository errorReportRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 시퀀스 allocationSize (Document / DocumentCategory 엔티티와 동일) */
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
 
     /**
      * 애플리케이션 시작 시 실행되는 메서드
@@ -61,6 +66,10 @@ public class DataInitializer implements CommandLineRunner {
             // 4. 테스트 카테고리 생성
             initializeCategoryTypes();
 
+            // 5. 문서 시퀀스를 기존 IDENTITY ID 이후로 맞춤
+            alignSequence("documents_seq", "documents");
+            alignSequence("document_category_seq", "document_category");
+
             log.info("데이터베이스 초기화 완료!");
         } catch (Exception e) {
             log.error("데이터베이스 초기화 중 오류 발생: {}", e.getMessage(), e);
@@ -226,4 +235,34 @@ public class DataInitializer implements CommandLineRunner {
         log.info("카테고리 타입 초기화 완료");
     }
 
-}
\ No newline at end of file
+    /**
+     * 시퀀스 다음 값을 테이블의 현재 최대 ID 이후로 맞추는 메서드
+     *
+     * 알고리즘:
+     * 1. 테이블의 MAX(id) 조회
+     * 2. pooled 옵티마이저가 할당할 구간(next - allocationSize + 1 ~ next)이
+     *    기존 ID와 겹치지 않도록 next = MAX(id) + allocationSize + 1 로 설정
+     * 3. SETVAL은 현재 값보다 작은 값이면 무시하므로 재실행해도 안전
+     * 4. NEXTVAL로 다음 할당 구간의 시작이 MAX(id)보다 큰지 확인 (구간 하나를 소비하지만 기동 시 1회)
+     *
+     * 에지 케이스:
+     * - 정렬/확인에 실패하면 기동 중단 (정렬되지 않은 시퀀스는 기존 ID와 겹쳐 업로드 시 PK 충돌 발생)
+     */
+    private void alignSequence(String sequenceName, String tableName) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tableName, Long.class);
+            long currentMax = maxId != null ? maxId : 0L;
+            long nextValue = currentMax + SEQUENCE_ALLOCATION_SIZE + 1;
+            jdbcTemplate.queryForObject("SELECT SETVAL(" + sequenceName + ", " + nextValue + ")", Object.class);
+
+            Long allocated = jdbcTemplate.queryForObject("SELECT NEXTVAL(" + sequenceName + ")", Long.class);
+            if (allocated == null || allocated - SEQUENCE_ALLOCATION_SIZE + 1 <= currentMax) {
+                throw new IllegalStateException("시퀀스 " + sequenceName + "의 다음 구간(" + allocated
+                        + ")이 기존 최대 ID(" + currentMax + ")와 겹칩니다.");
+            }
+            log.info("시퀀스 정렬 완료: {} → {} (기존 최대 ID {})", sequenceName, allocated, currentMax);
+        } catch (Exception e) {
+            throw new IllegalStateException("시퀀스 정렬 실패: " + sequenceName + " - 기동을 중단합니다.", e);
+        }
+    }
+}
@@ -26,6 +26,9 @@ public class FileStorageConfig {
     // 실제 사용할 NFS Path 객체
     private Path nfsStoragePath;
 
+    // 업로드 스테이징 경로 (NFS 하위 → 같은 파일시스템이라 원자적 이동 가능)
+    private Path stagingPath;
+
     @PostConstruct
     public void init() {
         log.info("=== NFS 전용 파일 저장 설정 ===");
@@ -63,6 +66,11 @@ public class FileStorageConfig {
             throw new RuntimeException("NFS 디렉토리를 생성할 수 없습니다: " + nfsStoragePath);
         }
 
+        stagingPath = nfsStoragePath.resolve(".staging");
+        if (!createDirectoryIfNotExists(stagingPath)) {
+            throw new RuntimeException("스테이징 디렉토리를 생성할 수 없습니다: " + stagingPath);
+        }
+
         log.info("NFS 디렉토리 준비 완료: {}", nfsStoragePath.toAbsolutePath());
     }
 
@@ -115,6 +123,16 @@ public class FileStorageConfig {
         return nfsStoragePath;
     }
 
+    /**
+     * 업로드 스테이징 경로 반환 (트랜잭션 커밋 전 임시 기록 위치)
+     */
+    public Path getStagingPath() {
+        if (stagingPath == null) {
+            throw new RuntimeException("스테이징 경로가 초기화되지 않았습니다.");
+        }
+        return stagingPath;
+    }
+
     /**
      * 저장 방식 정보 반환
      */
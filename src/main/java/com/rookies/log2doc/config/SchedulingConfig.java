@@ -0,0 +1,13 @@
+package com.rookies.log2doc.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스.
+ * @EnableScheduling 을 통해 @Scheduled 작업(토큰 정리, 파일 저장소 점검 등)을 활성화함.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.rookies.log2doc.config;
 
 import com.rookies.log2doc.log.LoggingInterceptor;
+import com.rookies.log2doc.log.UniqueVisitorInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -17,13 +18,21 @@ public class WebMvcConfig implements WebMvcConfigurer {
     /** 요청/응답 공통 로깅 Interceptor */
     private final LoggingInterceptor loggingInterceptor;
 
+    /** 고유 사용자/IP 집계 Interceptor */
+    private final UniqueVisitorInterceptor uniqueVisitorInterceptor;
+
     /**
      * 애플리케이션 전역에 Interceptor 등록.
      * 모든 경로에 LoggingInterceptor를 적용함.
+     * 고유 사용자/IP 집계는 문서화/모니터링 경로를 제외하고 적용함.
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor)
                 .addPathPatterns("/**"); // 모든 요청 경로에 적용
+
+        registry.addInterceptor(uniqueVisitorInterceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/swagger-ui/**", "/v3/api-docs/**", "/actuator/**");
     }
 }
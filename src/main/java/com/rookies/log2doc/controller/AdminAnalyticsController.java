@@ -0,0 +1,120 @@
+package com.rookies.log2doc.controller;
+
+import com.rookies.log2doc.dto.response.ApiResponse;
+import com.rookies.log2doc.dto.response.HeavyHitterResponse;
+import com.rookies.log2doc.dto.response.UniqueCountResponse;
+import com.rookies.log2doc.exception.PermissionDeniedException;
+import com.rookies.log2doc.security.services.UserDetailsImpl;
+import com.rookies.log2doc.service.LogAnalyticsService;
+import com.rookies.log2doc.service.UniqueVisitorService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자용 실시간 요청 분석 컨트롤러 (임원급 이상)
+ * - 최근 윈도우 동안의 사용자 / URL 템플릿 / User-Agent / 액션 타입별 heavy hitter
+ * - 기간별 고유 사용자 / 고유 IP 수 (HyperLogLog)
+ */
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "관리자 실시간 분석", description = "요청 로그 실시간 heavy hitter 조회 API (임원급 이상)")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AdminAnalyticsController {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final LogAnalyticsService logAnalyticsService;
+    private final UniqueVisitorService uniqueVisitorService;
+
+    /**
+     * heavy hitter 조회
+     * - dimension 미지정 시 전체 기준 반환
+     */
+    @GetMapping("/heavy-hitters")
+    @Operation(summary = "실시간 heavy hitter 조회",
+            description = "최근 윈도우 동안 가장 많이 요청한 사용자, URL 템플릿, User-Agent, 액션 타입과 요청률을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<HeavyHitterResponse>>> getHeavyHitters(
+            @RequestParam(required = false) String dimension,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            HttpServletRequest request) {
+        requireExecutive(userDetails);
+
+        int resolvedLimit = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        List<HeavyHitterResponse> result = (dimension == null || dimension.isBlank())
+                ? List.copyOf(logAnalyticsService.getAllHeavyHitters(resolvedLimit).values())
+                : List.of(logAnalyticsService.getHeavyHitters(LogAnalyticsService.Dimension.from(dimension), resolvedLimit));
+
+        request.setAttribute("admin_action", "heavy_hitters");
+
+        return ResponseEntity.ok(ApiResponse.<List<HeavyHitterResponse>>builder()
+                .success(true)
+                .message("실시간 heavy hitter 조회 성공")
+                .data(result)
+                .build());
+    }
+
+    /**
+     * 기간별 고유 사용자 / 고유 IP 수 조회
+     * - to 미지정 시 현재, from 미지정 시 단위별 기본 기간(시간: 최근 24시간, 일: 최근 7일)
+     */
+    @GetMapping("/unique")
+    @Operation(summary = "고유 사용자/IP 수 조회",
+            description = "기간 내 고유 사용자 또는 고유 IP 수를 버킷별 값과 전체 병합 값으로 조회합니다. "
+                    + "endpoint(예: GET /documents/{id})는 고유 IP 일별 조회에서만 지정할 수 있습니다.")
+    public ResponseEntity<ApiResponse<UniqueCountResponse>> getUniqueCounts(
+            @RequestParam(defaultValue = "USERS") String metric,
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String endpoint,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            HttpServletRequest request) {
+        requireExecutive(userDetails);
+
+        UniqueVisitorService.Granularity resolvedGranularity = UniqueVisitorService.Granularity.from(granularity);
+        LocalDateTime resolvedTo = to != null ? to : LocalDateTime.now();
+        LocalDateTime resolvedFrom = from != null ? from
+                : resolvedGranularity == UniqueVisitorService.Granularity.HOUR
+                        ? resolvedTo.minusHours(23) : resolvedTo.minusDays(6);
+
+        UniqueCountResponse result = uniqueVisitorService.count(
+                UniqueVisitorService.Metric.from(metric),
+                endpoint == null || endpoint.isBlank() ? null : endpoint.trim(),
+                resolvedGranularity, resolvedFrom, resolvedTo);
+
+        request.setAttribute("admin_action", "unique_counts");
+
+        return ResponseEntity.ok(ApiResponse.<UniqueCountResponse>builder()
+                .success(true)
+                .message("고유 사용자/IP 수 조회 성공")
+                .data(result)
+                .build());
+    }
+
+    /**
+     * 임원급 이상 권한 확인
+     */
+    private void requireExecutive(UserDetailsImpl userDetails) {
+        if (userDetails == null || !userDetails.isExecutive()) {
+            throw new PermissionDeniedException("임원급 이상만 실시간 분석 정보를 조회할 수 있습니다.");
+        }
+    }
+}
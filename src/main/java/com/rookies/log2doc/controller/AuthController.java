@@ -4,24 +4,28 @@ import com.rookies.log2doc.dto.request.LoginRequest;
 import com.rookies.log2doc.dto.request.TokenRefreshRequest;
 import com.rookies.log2doc.dto.response.JwtResponse;
 import com.rookies.log2doc.dto.response.MessageResponse;
-import com.rookies.log2doc.entity.RefreshToken;
 import com.rookies.log2doc.entity.User;
 import com.rookies.log2doc.exception.TokenRefreshException;
 import com.rookies.log2doc.repository.RoleRepository;
 import com.rookies.log2doc.repository.UserRepository;
+import com.rookies.log2doc.security.ClientIpExtractor;
 import com.rookies.log2doc.security.jwt.JwtUtils;
 import com.rookies.log2doc.security.services.UserDetailsImpl;
+import com.rookies.log2doc.security.services.UserDetailsServiceImpl;
 import com.rookies.log2doc.service.RefreshTokenService;
+import com.rookies.log2doc.service.TokenVersionService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -44,7 +48,9 @@ public class AuthController {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final TokenVersionService tokenVersionService;
     private final RefreshTokenService refreshTokenService;
+    private final UserDetailsServiceImpl userDetailsService;
 
     /**
      * 사용자 로그인
@@ -64,21 +70,21 @@ public class AuthController {
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            // JWT 토큰 생성
-            String jwt = jwtUtils.generateJwtToken(authentication);
-
             UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+
+            // JWT 토큰 생성 (사용자 ID/직급/토큰 버전 클레임 포함)
+            String jwt = jwtUtils.generateJwtToken(userDetails, tokenVersionService.currentVersion(userDetails.getId()));
             List<String> roles = userDetails.getAuthorities().stream()
                     .map(item -> item.getAuthority())
                     .collect(Collectors.toList());
 
             // 기기 정보 및 IP 주소 추출
             String deviceInfo = getDeviceInfo(request);
-            String ipAddress = getClientIpAddress(request);
+            String ipAddress = ClientIpExtractor.extract(request);
 
-            // 리프레시 토큰 생성
-            RefreshToken refreshToken = refreshTokenService.createRefreshToken(
-                    userDetails.getId(), deviceInfo, ipAddress
+            // 리프레시 토큰 생성 (Redis에는 해시만 저장)
+            String refreshToken = refreshTokenService.createRefreshToken(
+                    userDetails.getId(), userDetails.getUsername(), deviceInfo, ipAddress
             );
 
             // JWT 토큰 만료 시간 계산
@@ -88,7 +94,7 @@ public class AuthController {
 
             return ResponseEntity.ok(new JwtResponse(
                     jwt,
-                    refreshToken.getToken(),
+                    refreshToken,
                     userDetails.getId(),
                     userDetails.getUsername(),
                     userDetails.getEmail(),
@@ -105,36 +111,47 @@ public class AuthController {
 
     /**
      * 토큰 갱신
+     * - 리프레시 토큰을 회전(이전 토큰 폐기 + 새 토큰 발급)하고 새 액세스 토큰 발급
+     * - 사용자 정보는 사용자 정보 캐시에서 조회 (DB 조회 없음, 비활성 사용자는 갱신 불가)
      *
      * @param request 토큰 갱신 요청
-     * @return 새로운 JWT 토큰
+     * @return 새로운 JWT 토큰 + 새 리프레시 토큰
      */
     @PostMapping("/refreshtoken")
     public ResponseEntity<?> refreshToken(@Valid @RequestBody TokenRefreshRequest request) {
+        String requestRefreshToken = request.getRefreshToken();
         try {
-            String requestRefreshToken = request.getRefreshToken();
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(requestRefreshToken)
+                    .orElseThrow(() -> new TokenRefreshException(requestRefreshToken,
+                            "리프레시 토큰이 만료되었거나 존재하지 않습니다. 다시 로그인해주세요."));
+
+            UserDetailsImpl userDetails;
+            try {
+                userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(rotation.session().username());
+            } catch (UsernameNotFoundException e) {
+                refreshTokenService.revoke(rotation.token());
+                throw new TokenRefreshException(requestRefreshToken, "사용자를 찾을 수 없거나 비활성화된 계정입니다.");
+            }
 
-            return refreshTokenService.findByToken(requestRefreshToken)
-                    .map(refreshTokenService::verifyExpiration)
-                    .map(RefreshToken::getUser)
-                    .map(user -> {
-                        String token = jwtUtils.generateTokenFromUsername(user.getUsername());
-                        long expiresIn = jwtUtils.getExpirationTimeFromJwtToken(token);
+            String token = jwtUtils.generateJwtToken(userDetails, tokenVersionService.currentVersion(userDetails.getId()));
+            long expiresIn = jwtUtils.getExpirationTimeFromJwtToken(token);
 
-                        log.info("토큰 갱신 성공: {}", user.getUsername());
+            log.info("토큰 갱신 성공: {}", userDetails.getUsername());
 
-                        return ResponseEntity.ok(JwtResponse.builder()
-                                .token(token)
-                                .refreshToken(requestRefreshToken)
-                                .expiresIn(expiresIn)
-                                .build());
-                    })
-                    .orElseThrow(() -> new TokenRefreshException(requestRefreshToken, "리프레시 토큰이 데이터베이스에 없습니다."));
+            return ResponseEntity.ok(JwtResponse.builder()
+                    .token(token)
+                    .refreshToken(rotation.token())
+                    .expiresIn(expiresIn)
+                    .build());
 
         } catch (TokenRefreshException e) {
             log.error("토큰 갱신 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(new MessageResponse(e.getMessage(), false));
+        } catch (DataAccessException e) {
+            log.error("토큰 갱신 실패 (토큰 저장소 오류): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new MessageResponse("일시적으로 토큰을 갱신할 수 없습니다. 잠시 후 다시 시도해주세요.", false));
         }
     }
 
@@ -149,12 +166,10 @@ public class AuthController {
         try {
             String refreshToken = request.getRefreshToken();
 
-            RefreshToken token = refreshTokenService.findByToken(refreshToken)
+            RefreshTokenService.Session session = refreshTokenService.revoke(refreshToken)
                     .orElseThrow(() -> new TokenRefreshException(refreshToken, "리프레시 토큰을 찾을 수 없습니다."));
 
-            refreshTokenService.deleteRefreshToken(token);
-
-            log.info("사용자 로그아웃: {}", token.getUser().getUsername());
+            log.info("사용자 로그아웃: {}", session.username());
 
             return ResponseEntity.ok(new MessageResponse("로그아웃되었습니다."));
 
@@ -179,7 +194,9 @@ public class AuthController {
                 User user = userRepository.findByUsername(username)
                         .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-                refreshTokenService.deleteByUser(user);
+                refreshTokenService.revokeAllForUser(user.getId());
+                // 이미 발급된 액세스 토큰도 즉시 폐기
+                tokenVersionService.revokeAll(user.getId());
 
                 log.info("모든 기기에서 로그아웃: {}", username);
 
@@ -206,24 +223,4 @@ public class AuthController {
         String userAgent = request.getHeader("User-Agent");
         return userAgent != null ? userAgent.substring(0, Math.min(userAgent.length(), 500)) : "Unknown";
     }
-
-    /**
-     * 클라이언트 IP 주소 추출
-     *
-     * @param request HTTP 요청 객체
-     * @return IP 주소
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
-    }
 }
\ No newline at end of file
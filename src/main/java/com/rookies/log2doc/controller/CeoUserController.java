@@ -3,6 +3,8 @@ package com.rookies.log2doc.controller;
 import com.rookies.log2doc.dto.response.ApiResponse;
 import com.rookies.log2doc.dto.response.UserDetailResponse;
 import com.rookies.log2doc.dto.response.UserListResponse;
+import com.rookies.log2doc.security.jwt.JwtAuthenticationToken;
+import com.rookies.log2doc.security.jwt.JwtClaims;
 import com.rookies.log2doc.service.CeoUserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,8 +37,8 @@ public class CeoUserController {
      * 전체 사용자 목록 조회 API (CEO 전용)
      *
      * 알고리즘 설명:
-     * 1. HTTP 헤더에서 Authorization Bearer 토큰 추출
-     * 2. JWT 토큰 유효성 검증 및 CEO 권한 확인
+     * 1. 인증 필터에서 검증한 JWT 클레임 조회
+     * 2. CEO 권한 확인
      * 3. 전체 사용자 목록 조회
      * 4. DTO로 변환하여 응답 반환
      *
@@ -58,9 +60,9 @@ public class CeoUserController {
         log.info("CEO 전용 전체 사용자 목록 조회 요청");
 
         try {
-            String jwtToken = extractJwtToken(request);
+            JwtClaims claims = currentClaims();
 
-            UserListResponse response = ceoUserService.getAllUsers(jwtToken);
+            UserListResponse response = ceoUserService.getAllUsers(claims);
 
             return ResponseEntity.ok(ApiResponse.<UserListResponse>builder()
                     .success(true)
@@ -90,7 +92,7 @@ public class CeoUserController {
      *
      * 알고리즘 설명:
      * 1. 경로 변수에서 사용자 ID 추출
-     * 2. JWT 토큰 추출 및 CEO 권한 검증
+     * 2. 검증된 JWT 클레임으로 CEO 권한 검증
      * 3. 사용자 ID로 상세 정보 조회 (서비스에서 DTO 변환)
      * 4. 변환된 상세 정보 DTO 응답
      *
@@ -115,11 +117,11 @@ public class CeoUserController {
         log.info("CEO 전용 사용자 상세 정보 조회 요청 - 사용자 ID: {}", userId);
 
         try {
-            // 1단계: JWT 토큰 추출
-            String jwtToken = extractJwtToken(request);
+            // 1단계: 인증 필터에서 검증한 JWT 클레임
+            JwtClaims claims = currentClaims();
 
             // 2단계: CEO 권한 검증 및 사용자 상세 정보 조회 (서비스에서 DTO 변환)
-            UserDetailResponse response = ceoUserService.getUserById(jwtToken, userId);
+            UserDetailResponse response = ceoUserService.getUserById(claims, userId);
 
             log.info("CEO 전용 사용자 상세 정보 조회 성공 - 사용자 ID: {}", userId);
 
@@ -170,9 +172,8 @@ public class CeoUserController {
         log.info("CEO 접근 통계 조회 요청");
 
         try {
-            String jwtToken = extractJwtToken(request);
-            // JWT에서 사용자명 추출 (간단한 검증)
-            String username = extractUsernameFromToken(jwtToken);
+            // 인증 필터에서 검증한 JWT 클레임의 사용자명
+            String username = currentClaims().subject();
 
             long accessCount = ceoUserService.getCeoAccessCount(username);
 
@@ -193,43 +194,14 @@ public class CeoUserController {
     }
 
     /**
-     * HTTP 요청에서 JWT 토큰 추출
+     * 현재 요청의 JWT 클레임 조회
+     * - AuthTokenFilter가 요청당 한 번 검증/파싱해 인증 객체에 보관한 값을 사용 (토큰 재파싱 없음)
      *
-     * 알고리즘 설명:
-     * 1. Authorization 헤더에서 Bearer 토큰 추출
-     * 2. "Bearer " 접두사 제거
-     * 3. 순수 JWT 토큰 반환
-     *
-     * 시간 복잡도: O(1)
-     * 공간 복잡도: O(1)
-     *
-     * @param request HTTP 요청 객체
-     * @return JWT 토큰 문자열
-     * @throws IllegalArgumentException 토큰이 없거나 형식이 잘못된 경우
-     */
-    private String extractJwtToken(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            log.error("Authorization 헤더가 없거나 형식이 잘못됨: {}", authHeader);
-            throw new IllegalArgumentException("Authorization 헤더가 필요합니다.");
-        }
-
-        String token = authHeader.substring(7); // "Bearer " 제거
-        log.debug("JWT 토큰 추출 성공");
-
-        return token;
-    }
-
-    /**
-     * JWT 토큰에서 사용자명 추출 (간단한 검증용)
-     *
-     * @param jwtToken JWT 토큰
-     * @return 사용자명
+     * @return 검증된 JWT 클레임
+     * @throws AccessDeniedException JWT로 인증되지 않은 요청인 경우
      */
-    private String extractUsernameFromToken(String jwtToken) {
-        // 실제 구현에서는 JwtUtils를 사용하여 검증과 함께 추출
-        // 여기서는 간단히 처리
-        return "extracted_username"; // 실제로는 JwtUtils 사용
+    private JwtClaims currentClaims() {
+        return JwtAuthenticationToken.currentClaims()
+                .orElseThrow(() -> new AccessDeniedException("유효하지 않은 토큰입니다."));
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.rookies.log2doc.controller;
 
+import com.rookies.log2doc.dto.request.DocumentBatchUploadRequest;
 import com.rookies.log2doc.dto.request.DocumentCreateRequest;
 import com.rookies.log2doc.dto.response.DocumentResponseDTO;
+import com.rookies.log2doc.dto.response.DocumentUploadResultDTO;
 import com.rookies.log2doc.entity.Document;
 import com.rookies.log2doc.entity.Role;
 import com.rookies.log2doc.exception.PermissionDeniedException;
+import com.rookies.log2doc.export.ExportFormat;
 import com.rookies.log2doc.repository.RoleRepository;
 import com.rookies.log2doc.security.services.UserDetailsImpl;
 import com.rookies.log2doc.service.DocumentService;
@@ -15,10 +18,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 import java.io.IOException;
@@ -89,6 +94,41 @@ public class DocumentController {
         return ResponseEntity.ok(saved);
     }
 
+    /**
+     * 여러 파일 일괄 업로드
+     * - 읽기 권한 Role은 한 번만 조회해서 직급 검증 후 서비스에 그대로 전달
+     * - 파일별 성공/실패 결과 반환
+     */
+    @PostMapping("/upload/batch")
+    public ResponseEntity<List<DocumentUploadResultDTO>> uploadDocuments(
+            @Valid @ModelAttribute DocumentBatchUploadRequest request,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            HttpServletRequest servletRequest
+    ) {
+        // 업로드 대상 읽기 권한 Role 불러오기
+        Role readRole = roleRepository.findById(request.getReadRoleId())
+                .orElseThrow(() -> new RuntimeException("권한 정보가 없습니다."));
+
+        // 직급 비교: 내 레벨보다 높은 직급이면 차단!
+        if (readRole.getName().getLevel() > userDetails.getRoleId()) {
+            throw new PermissionDeniedException("내 직급보다 높은 접근 권한은 설정할 수 없습니다!");
+        }
+
+        List<DocumentUploadResultDTO> results = documentService.uploadDocuments(
+                request.getFiles(),
+                request.getContent(),
+                request.getCategoryTypeId(),
+                readRole,
+                userDetails.getId(),
+                userDetails.getRoleName()
+        );
+
+        // Request Attribute 설정 (Interceptor에서 사용)
+        servletRequest.setAttribute("document_count", results.size());
+
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * 문서 리스트 조회
      * - 카테고리 및 기간(startDate ~ endDate) 필터링 가능
@@ -112,6 +152,36 @@ public class DocumentController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 문서 목록 내보내기 (NDJSON / CSV 스트리밍)
+     * - 카테고리 및 기간(startDate ~ endDate) 필터링 가능, 읽기 권한이 있는 문서만 포함
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDocuments(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long categoryTypeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            HttpServletRequest request
+    ) {
+        // 잘못된 형식은 스트리밍 시작 전에 400으로 응답
+        ExportFormat exportFormat = ExportFormat.from(format);
+        String roleName = userDetails.getRoleName();
+
+        // Request Attribute 설정
+        request.setAttribute("export_format", exportFormat.name());
+
+        StreamingResponseBody body = out -> documentService.exportCatalog(
+                exportFormat, roleName, categoryTypeId, startDate, endDate, out);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"documents." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     /**
      * 단일 문서 조회 (해시 경로 기준)
      * - 권한 체크 포함 + DTO 변환
@@ -162,17 +232,89 @@ public class DocumentController {
             HttpServletRequest request
     ) throws MalformedURLException {
 
-        Resource fileResource = documentService.loadFileAsResource(id, userDetails.getRoleId());
+        // gzip 저장 파일은 클라이언트가 gzip을 받을 수 있으면 압축된 그대로 전달
+        DocumentService.CustomFileResource fileResource =
+                documentService.loadFileAsResource(id, userDetails.getRoleId(), acceptsGzip(request));
         DocumentResponseDTO doc = documentService.getDocument(id, userDetails.getRoleId());
 
         // Request Attribute 설정
         request.setAttribute("document_id", doc.getId());
         request.setAttribute("document_owner", doc.getOwner());
 
-        return ResponseEntity.ok()
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + fileResource.getFilename() + "\"")
-                .body(fileResource);
+                        "attachment; filename=\"" + fileResource.getFilename() + "\"");
+
+        if (fileResource.getStoredEncoding() != null) {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (fileResource.getContentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, fileResource.getContentEncoding());
+        }
+
+        return response.body(fileResource);
+    }
+
+    /**
+     * 여러 문서 ZIP 일괄 다운로드
+     * - ids 목록 또는 categoryTypeId 기준
+     * - 권한 체크는 한 번의 조회로 끝내고, ZIP은 응답 스트림에 바로 기록
+     */
+    @GetMapping("/download/zip")
+    public ResponseEntity<StreamingResponseBody> downloadDocumentsAsZip(
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(required = false) Long categoryTypeId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            HttpServletRequest request
+    ) {
+        List<DocumentService.ZipEntrySource> entries =
+                documentService.resolveZipEntries(ids, categoryTypeId, userDetails.getRoleId());
+
+        // Request Attribute 설정
+        request.setAttribute("document_count", entries.size());
+
+        String zipName = (categoryTypeId != null && (ids == null || ids.isEmpty()))
+                ? "documents_category_" + categoryTypeId + ".zip"
+                : "documents.zip";
+
+        StreamingResponseBody body = out -> documentService.writeZip(entries, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + zipName + "\"")
+                .body(body);
+    }
+
+    /**
+     * Accept-Encoding 헤더에 gzip(q > 0)이 포함되어 있는지 확인
+     */
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase(DocumentService.ENCODING_GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
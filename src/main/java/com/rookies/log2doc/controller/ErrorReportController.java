@@ -1,22 +1,36 @@
 package com.rookies.log2doc.controller;
 
 import com.rookies.log2doc.dto.ErrorCountPerDayDTO;
+import com.rookies.log2doc.dto.ErrorReportClusterDTO;
 import com.rookies.log2doc.dto.ErrorReportDTO;
+import com.rookies.log2doc.dto.request.ErrorReportBulkStatusRequest;
 import com.rookies.log2doc.dto.response.ApiResponse;
+import com.rookies.log2doc.dto.response.BulkUpdateResultDTO;
+import com.rookies.log2doc.dto.response.CursorPageResponse;
+import com.rookies.log2doc.dto.response.DashboardSnapshotResponse;
+import com.rookies.log2doc.exception.ConcurrentUpdateException;
+import com.rookies.log2doc.export.ExportFormat;
 import com.rookies.log2doc.entity.ErrorReport;
 import com.rookies.log2doc.service.ErrorReportService;
+import com.rookies.log2doc.service.ErrorReportStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,6 +43,13 @@ import java.util.stream.Collectors;
 public class ErrorReportController {
 
     private final ErrorReportService errorReportService;
+    private final ErrorReportStreamService errorReportStreamService;
+
+    /** 내보내기 파일명 시각 형식 */
+    private static final DateTimeFormatter EXPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    /** 버전 충돌 시 현재 리포트 버전을 전달하는 응답 헤더 */
+    public static final String CURRENT_VERSION_HEADER = "X-Current-Version";
 
     // ========================================
     // 대시보드/통계 API
@@ -127,70 +148,291 @@ public class ErrorReportController {
         }
     }
 
+    // 대시보드 스냅샷 (통계 일괄 조회)
+    @GetMapping("/analytics/snapshot")
+    @Operation(summary = "대시보드 스냅샷 조회", description = "상태/카테고리 통계, 오늘/최근 공격 건수, 일별 추이, 최신 리포트를 같은 시점 기준으로 한 번에 조회합니다.")
+    public ResponseEntity<ApiResponse<DashboardSnapshotResponse>> getDashboardSnapshot(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(required = false) Integer latest,
+            HttpServletRequest request) {
+        try {
+            DashboardSnapshotResponse snapshot = errorReportService.getDashboardSnapshot(days, latest);
+
+            request.setAttribute("error_report_action", "dashboard_snapshot");
+            request.setAttribute("days_range", days);
+
+            return ResponseEntity.ok(ApiResponse.<DashboardSnapshotResponse>builder()
+                    .success(true)
+                    .message("대시보드 스냅샷 조회 성공")
+                    .data(snapshot)
+                    .build());
+
+        } catch (Exception e) {
+            log.error("대시보드 스냅샷 조회 실패", e);
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<DashboardSnapshotResponse>builder()
+                            .success(false)
+                            .message("대시보드 스냅샷 조회 중 오류가 발생했습니다: " + e.getMessage())
+                            .build());
+        }
+    }
+
+    // ========================================
+    // 실시간 스트림 API (SSE)
+    // ========================================
+
+    /**
+     * 신규/변경 리포트 실시간 스트림
+     * - 이벤트: created / updated / deleted / resync (resync 수신 시 목록 API로 다시 조회)
+     * - 최대 연결 수 초과 시 503
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "에러 리포트 실시간 스트림", description = "신규/변경 에러 리포트를 SSE로 전달합니다. 카테고리/상태로 필터링할 수 있습니다.")
+    public ResponseEntity<SseEmitter> streamReports(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            HttpServletRequest request) {
+        ErrorReport.ReportCategory categoryFilter = errorReportService.parseCategory(category);
+        ErrorReport.ReportStatus statusFilter = errorReportService.parseStatus(status);
+
+        request.setAttribute("error_report_action", "stream_subscribe");
+
+        try {
+            return ResponseEntity.ok(errorReportStreamService.subscribe(categoryFilter, statusFilter));
+        } catch (IllegalStateException e) {
+            log.warn("에러 리포트 스트림 구독 거부: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     // ========================================
     // 목록 조회 API (AI가 생성한 데이터 조회)
     // ========================================
+    // 모든 목록 API는 (createdDt, id) 커서 기반으로 페이지 단위 조회
+    // - cursor: 이전 응답의 다음 페이지 커서 (첫 페이지면 생략)
+    // - size: 페이지 크기 (기본 50, 최대 100)
+    // - 응답은 ApiResponse<CursorPageResponse>로 통일 (items + nextCursor)
+    // - fields: 응답 필드 선택 (예: fields=reportTitle,reportStatus 또는 fields=summary)
+    //   요약 필드만 요청하면 TEXT 컬럼을 읽지 않는 프로젝션 쿼리로 조회
+
+    /**
+     * 통합 커서 페이지 조회
+     * - 상태/카테고리/기간 조건 조합 가능
+     */
+    @GetMapping("/list/page")
+    @Operation(summary = "에러 리포트 커서 페이지 조회", description = "상태/카테고리/기간 조건으로 에러 리포트를 커서 기반 페이지 단위로 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getReportPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.getReportPage(
+                errorReportService.parseStatus(status),
+                errorReportService.parseCategory(category),
+                startDate, endDate, cursor, size, fields);
+
+        request.setAttribute("error_report_action", "page_list");
+        request.setAttribute("result_count", page.getItems().size());
+
+        return ResponseEntity.ok(ApiResponse.<CursorPageResponse<ErrorReportDTO>>builder()
+                .success(true)
+                .message("에러 리포트 페이지 조회 성공")
+                .data(page)
+                .build());
+    }
+
+    /**
+     * 제목/미리보기 키워드 검색
+     * - FULLTEXT 인덱스 사용 시 관련도순, 아니면 최신순
+     */
+    @GetMapping("/list/search")
+    @Operation(summary = "에러 리포트 검색", description = "제목/미리보기에서 키워드로 에러 리포트를 검색합니다. (페이지 단위, 관련도순)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> searchReports(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.searchReports(keyword, cursor, size, fields);
+
+        request.setAttribute("error_report_action", "search");
+        request.setAttribute("search_keyword_length", keyword.length());
+        request.setAttribute("result_count", page.getItems().size());
+
+        return ResponseEntity.ok(ApiResponse.<CursorPageResponse<ErrorReportDTO>>builder()
+                .success(true)
+                .message("에러 리포트 검색 성공")
+                .data(page)
+                .build());
+    }
+
+    /**
+     * 유사 리포트 클러스터 목록
+     * - 클러스터당 대표 리포트 1건 + 구성원 수, 최근 활동순
+     */
+    @GetMapping("/clusters")
+    @Operation(summary = "유사 리포트 클러스터 목록", description = "제목/미리보기가 거의 같은 리포트를 묶은 클러스터를 대표 리포트와 구성원 수로 조회합니다. (최근 활동순)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportClusterDTO>>> getClusters(
+            @RequestParam(required = false) Integer minMembers,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportClusterDTO> page = errorReportService.getClusters(minMembers, cursor, size);
+
+        request.setAttribute("error_report_action", "cluster_list");
+        request.setAttribute("result_count", page.getItems().size());
+
+        return ResponseEntity.ok(ApiResponse.<CursorPageResponse<ErrorReportClusterDTO>>builder()
+                .success(true)
+                .message("유사 리포트 클러스터 조회 성공")
+                .data(page)
+                .build());
+    }
+
+    /**
+     * 클러스터 구성원 목록 (최신순)
+     */
+    @GetMapping("/clusters/{clusterId}/members")
+    @Operation(summary = "클러스터 구성원 조회", description = "유사 리포트 클러스터에 속한 리포트를 최신순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getClusterMembers(
+            @PathVariable Long clusterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.getClusterMembers(clusterId, cursor, size, fields);
+
+        request.setAttribute("error_report_action", "cluster_members");
+        request.setAttribute("result_count", page.getItems().size());
+
+        return ResponseEntity.ok(ApiResponse.<CursorPageResponse<ErrorReportDTO>>builder()
+                .success(true)
+                .message("클러스터 구성원 조회 성공")
+                .data(page)
+                .build());
+    }
+
+    /**
+     * 에러 리포트 내보내기 (NDJSON / CSV 스트리밍)
+     * - 전체 목록을 메모리에 올리지 않고 DB 커서에서 읽는 대로 응답에 기록
+     */
+    @GetMapping("/export")
+    @Operation(summary = "에러 리포트 내보내기", description = "조건에 맞는 에러 리포트 전체를 NDJSON 또는 CSV로 스트리밍 다운로드합니다. (감사용)")
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            HttpServletRequest request) {
+        // 잘못된 파라미터는 스트리밍 시작 전에 400으로 응답
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ErrorReport.ReportStatus reportStatus = errorReportService.parseStatus(status);
+        ErrorReport.ReportCategory reportCategory = errorReportService.parseCategory(category);
+
+        request.setAttribute("error_report_action", "export");
+        request.setAttribute("export_format", exportFormat.name());
+
+        String fileName = "error_reports_" + LocalDateTime.now().format(EXPORT_FILE_TIME) + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out -> errorReportService.exportReports(
+                exportFormat, reportStatus, reportCategory, startDate, endDate, out);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
 
     /**
-     * 전체 에러 리포트 조회 (리스트 형태)
+     * 전체 에러 리포트 조회 (커서 페이지)
      */
     @GetMapping("/list/all")
-    @Operation(summary = "전체 에러 리포트 리스트 조회", description = "모든 에러 리포트를 리스트 형태로 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getAllReportsList(HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getAllReportsList();
+    @Operation(summary = "전체 에러 리포트 리스트 조회", description = "모든 에러 리포트를 커서 기반 페이지 단위로 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getAllReportsList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page =
+                errorReportService.getReportPage(null, null, null, null, cursor, size, fields);
 
         request.setAttribute("error_report_action", "all_reports_list");
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "전체 에러 리포트 조회 성공");
     }
 
     // 최신순 리스트
     @GetMapping("/list/latest")
     @Operation(summary = "최신 에러 리스트 조회", description = "AI가 생성한 최신순 에러 리포트를 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getLatestReports(HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getLatestReports();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getLatestReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page =
+                errorReportService.getReportPage(null, null, null, null, cursor, size, fields);
 
         request.setAttribute("error_report_action", "latest_list");
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "최신 에러 리포트 조회 성공");
     }
 
     // 진행중인 리포트 조회
     @GetMapping("/list/in-progress")
     @Operation(summary = "진행중인 리포트 조회", description = "현재 진행중인 에러 리포트를 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getInProgressReports(HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getInProgressReports();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getInProgressReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.getReportPage(
+                ErrorReport.ReportStatus.IN_PROGRESS, null, null, null, cursor, size, fields);
 
         request.setAttribute("error_report_action", "in_progress_list");
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "진행중인 리포트 조회 성공");
     }
 
     // 완료된 리포트 조회
     @GetMapping("/list/completed")
     @Operation(summary = "완료된 리포트 조회", description = "완료된 에러 리포트를 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getCompletedReports(HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getCompletedReports();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getCompletedReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.getReportPage(
+                ErrorReport.ReportStatus.COMPLETED, null, null, null, cursor, size, fields);
 
         request.setAttribute("error_report_action", "completed_list");
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "완료된 리포트 조회 성공");
     }
 
     // 시작되지 않은 리포트 조회
     @GetMapping("/list/not-started")
     @Operation(summary = "시작되지 않은 리포트 조회", description = "아직 시작되지 않은 에러 리포트를 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getNotStartedReports(HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getNotStartedReports();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getNotStartedReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.getReportPage(
+                ErrorReport.ReportStatus.NOT_STARTED, null, null, null, cursor, size, fields);
 
         request.setAttribute("error_report_action", "not_started_list");
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "시작되지 않은 리포트 조회 성공");
     }
 
     // ========================================
@@ -200,40 +442,55 @@ public class ErrorReportController {
     // 공격 탐지 리포트 조회 (AI가 분류한 중요 데이터!)
     @GetMapping("/list/attacks")
     @Operation(summary = "공격 탐지 리포트 조회", description = "AI가 공격으로 분류한 에러 리포트를 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getAttackReports(HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getAttackReports();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getAttackReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.getReportPage(
+                null, ErrorReport.ReportCategory.ATTACK, null, null, cursor, size, fields);
 
         request.setAttribute("error_report_action", "attack_reports");
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
         // 공격 탐지는 중요하므로 로그 레벨 높임
-        log.warn("🚨 공격 탐지 리포트 조회 요청 - 총 {} 건", reports.size());
+        log.warn("🚨 공격 탐지 리포트 조회 요청 - {} 건", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "공격 탐지 리포트 조회 성공");
     }
 
     // 정상 리포트 조회
     @GetMapping("/list/valid")
     @Operation(summary = "정상 리포트 조회", description = "AI가 정상으로 분류한 에러 리포트를 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getValidReports(HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getValidReports();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getValidReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.getReportPage(
+                null, ErrorReport.ReportCategory.VALID, null, null, cursor, size, fields);
 
         request.setAttribute("error_report_action", "valid_reports");
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "정상 리포트 조회 성공");
     }
 
     // 비정상 리포트 조회
     @GetMapping("/list/invalid")
     @Operation(summary = "비정상 리포트 조회", description = "AI가 비정상으로 분류한 에러 리포트를 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getInvalidReports(HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getInvalidReports();
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getInvalidReports(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+        CursorPageResponse<ErrorReportDTO> page = errorReportService.getReportPage(
+                null, ErrorReport.ReportCategory.INVALID, null, null, cursor, size, fields);
 
         request.setAttribute("error_report_action", "invalid_reports");
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "비정상 리포트 조회 성공");
     }
 
     // ========================================
@@ -243,18 +500,34 @@ public class ErrorReportController {
     // 기간별 조회
     @GetMapping("/list/by-date-range")
     @Operation(summary = "기간별 리포트 조회", description = "특정 기간의 에러 리포트를 조회합니다.")
-    public ResponseEntity<List<ErrorReportDTO>> getReportsByDateRange(
+    public ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> getReportsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields,
             HttpServletRequest request) {
-        List<ErrorReportDTO> reports = errorReportService.getReportsByDateRange(startDate, endDate);
+        CursorPageResponse<ErrorReportDTO> page =
+                errorReportService.getReportPage(null, null, startDate, endDate, cursor, size, fields);
 
         request.setAttribute("error_report_action", "date_range_query");
         request.setAttribute("start_date", startDate);
         request.setAttribute("end_date", endDate);
-        request.setAttribute("result_count", reports.size());
+        request.setAttribute("result_count", page.getItems().size());
 
-        return ResponseEntity.ok(reports);
+        return toPageResponse(page, "기간별 리포트 조회 성공");
+    }
+
+    /**
+     * 커서 페이지 응답 변환 (/list/page와 같은 ApiResponse 형태)
+     */
+    private ResponseEntity<ApiResponse<CursorPageResponse<ErrorReportDTO>>> toPageResponse(
+            CursorPageResponse<ErrorReportDTO> page, String message) {
+        return ResponseEntity.ok(ApiResponse.<CursorPageResponse<ErrorReportDTO>>builder()
+                .success(true)
+                .message(message)
+                .data(page)
+                .build());
     }
 
     // ========================================
@@ -300,9 +573,10 @@ public class ErrorReportController {
     public ResponseEntity<ApiResponse<ErrorReportDTO>> updateComment(
             @PathVariable Long id,
             @RequestParam String comment,
+            @RequestParam(required = false) Long expectedVersion,
             HttpServletRequest request) {
         try {
-            ErrorReportDTO updated = errorReportService.updateComment(id, comment);
+            ErrorReportDTO updated = errorReportService.updateComment(id, comment, expectedVersion);
 
             request.setAttribute("error_report_id", updated.getId());
             request.setAttribute("error_report_action", "comment_update");
@@ -314,6 +588,13 @@ public class ErrorReportController {
                     .data(updated)
                     .build());
 
+        } catch (ConcurrentUpdateException e) {
+            request.setAttribute("error_report_id", id);
+            request.setAttribute("error_report_action", "comment_update_conflict");
+            request.setAttribute("error_message", e.getMessage());
+
+            return conflictResponse(e);
+
         } catch (RuntimeException e) {
             request.setAttribute("error_report_id", id);
             request.setAttribute("error_report_action", "comment_update_failed");
@@ -332,9 +613,10 @@ public class ErrorReportController {
     @Operation(summary = "리포트 상태를 '시작 안함'으로 변경", description = "관리자 페이지에서 리포트를 초기 상태로 되돌립니다.")
     public ResponseEntity<ApiResponse<ErrorReportDTO>> setStatusNotStarted(
             @PathVariable Long id,
+            @RequestParam(required = false) Long expectedVersion,
             HttpServletRequest request) {
         try {
-            ErrorReportDTO updated = errorReportService.updateReportStatus(id, "NOT_STARTED");
+            ErrorReportDTO updated = errorReportService.updateReportStatus(id, "NOT_STARTED", expectedVersion);
 
             request.setAttribute("error_report_id", updated.getId());
             request.setAttribute("error_report_action", "status_reset");
@@ -348,6 +630,13 @@ public class ErrorReportController {
                     .data(updated)
                     .build());
 
+        } catch (ConcurrentUpdateException e) {
+            request.setAttribute("error_report_id", id);
+            request.setAttribute("error_report_action", "status_reset_conflict");
+            request.setAttribute("error_message", e.getMessage());
+
+            return conflictResponse(e);
+
         } catch (RuntimeException e) {
             request.setAttribute("error_report_id", id);
             request.setAttribute("error_report_action", "status_reset_failed");
@@ -366,9 +655,10 @@ public class ErrorReportController {
     @Operation(summary = "리포트 상태를 '진행중'으로 변경", description = "관리자 페이지에서 리포트 처리를 시작합니다.")
     public ResponseEntity<ApiResponse<ErrorReportDTO>> setStatusInProgress(
             @PathVariable Long id,
+            @RequestParam(required = false) Long expectedVersion,
             HttpServletRequest request) {
         try {
-            ErrorReportDTO updated = errorReportService.updateReportStatus(id, "IN_PROGRESS");
+            ErrorReportDTO updated = errorReportService.updateReportStatus(id, "IN_PROGRESS", expectedVersion);
 
             request.setAttribute("error_report_id", updated.getId());
             request.setAttribute("error_report_action", "status_start");
@@ -387,6 +677,13 @@ public class ErrorReportController {
                     .data(updated)
                     .build());
 
+        } catch (ConcurrentUpdateException e) {
+            request.setAttribute("error_report_id", id);
+            request.setAttribute("error_report_action", "status_start_conflict");
+            request.setAttribute("error_message", e.getMessage());
+
+            return conflictResponse(e);
+
         } catch (RuntimeException e) {
             request.setAttribute("error_report_id", id);
             request.setAttribute("error_report_action", "status_start_failed");
@@ -406,14 +703,11 @@ public class ErrorReportController {
     public ResponseEntity<ApiResponse<ErrorReportDTO>> setStatusCompleted(
             @PathVariable Long id,
             @RequestParam(required = false) String completionComment,
+            @RequestParam(required = false) Long expectedVersion,
             HttpServletRequest request) {
         try {
-            ErrorReportDTO updated = errorReportService.updateReportStatus(id, "COMPLETED");
-
-            // 완료 코멘트가 있으면 추가
-            if (completionComment != null && !completionComment.trim().isEmpty()) {
-                updated = errorReportService.updateComment(id, completionComment);
-            }
+            // 상태 변경 + 완료 코멘트 추가를 한 트랜잭션으로 처리
+            ErrorReportDTO updated = errorReportService.setStatusCompleted(id, completionComment, expectedVersion);
 
             request.setAttribute("error_report_id", updated.getId());
             request.setAttribute("error_report_action", "status_complete");
@@ -432,6 +726,13 @@ public class ErrorReportController {
                     .data(updated)
                     .build());
 
+        } catch (ConcurrentUpdateException e) {
+            request.setAttribute("error_report_id", id);
+            request.setAttribute("error_report_action", "status_complete_conflict");
+            request.setAttribute("error_message", e.getMessage());
+
+            return conflictResponse(e);
+
         } catch (RuntimeException e) {
             request.setAttribute("error_report_id", id);
             request.setAttribute("error_report_action", "status_complete_failed");
@@ -445,14 +746,34 @@ public class ErrorReportController {
         }
     }
 
+    // 상태 일괄 변경
+    @PatchMapping("/status/bulk")
+    @Operation(summary = "리포트 상태 일괄 변경", description = "ID 목록 또는 필터 조건에 해당하는 리포트의 상태를 한 번에 변경하고 선택적으로 코멘트를 추가합니다.")
+    public ResponseEntity<ApiResponse<BulkUpdateResultDTO>> bulkUpdateStatus(
+            @Valid @RequestBody ErrorReportBulkStatusRequest bulkRequest,
+            HttpServletRequest request) {
+        BulkUpdateResultDTO result = errorReportService.bulkUpdateStatus(bulkRequest);
+
+        request.setAttribute("error_report_action", "status_bulk_update");
+        request.setAttribute("new_status", result.getTargetStatus());
+        request.setAttribute("result_count", result.getUpdated());
+
+        return ResponseEntity.ok(ApiResponse.<BulkUpdateResultDTO>builder()
+                .success(true)
+                .message(String.format("리포트 %d건의 상태가 변경되었습니다.", result.getUpdated()))
+                .data(result)
+                .build());
+    }
+
     // 에러 리포트 삭제 (소프트 삭제)
     @DeleteMapping("/{id}")
     @Operation(summary = "에러 리포트 삭제", description = "에러 리포트를 삭제합니다 (소프트 삭제).")
     public ResponseEntity<ApiResponse<Void>> deleteReport(
             @PathVariable Long id,
+            @RequestParam(required = false) Long expectedVersion,
             HttpServletRequest request) {
         try {
-            errorReportService.deleteReport(id);
+            errorReportService.deleteReport(id, expectedVersion);
 
             request.setAttribute("error_report_id", id);
             request.setAttribute("error_report_action", "delete");
@@ -462,6 +783,13 @@ public class ErrorReportController {
                     .message("에러 리포트가 삭제되었습니다.")
                     .build());
 
+        } catch (ConcurrentUpdateException e) {
+            request.setAttribute("error_report_id", id);
+            request.setAttribute("error_report_action", "delete_conflict");
+            request.setAttribute("error_message", e.getMessage());
+
+            return conflictResponse(e);
+
         } catch (RuntimeException e) {
             request.setAttribute("error_report_id", id);
             request.setAttribute("error_report_action", "delete_failed");
@@ -475,4 +803,22 @@ public class ErrorReportController {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 버전 충돌 응답 (409)
+     * - 현재 버전은 X-Current-Version 헤더로 전달 (data는 비어 있음)
+     *   → 클라이언트는 헤더의 버전으로 재조회 후 다시 시도
+     * - 버전 값이 없으면(마이그레이션 이전 행 등) 헤더 생략
+     */
+    private <T> ResponseEntity<ApiResponse<T>> conflictResponse(ConcurrentUpdateException e) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (e.getCurrentVersion() != null) {
+            response.header(CURRENT_VERSION_HEADER, String.valueOf(e.getCurrentVersion()));
+        }
+        return response
+                .body(ApiResponse.<T>builder()
+                        .success(false)
+                        .message(e.getMessage())
+                        .build());
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.rookies.log2doc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 파일 저장소 정합성 점검용 문서 키 DTO.
+ * 엔티티 전체 대신 ID, 파일 해시(UUID), 원본 파일명만 조회할 때 사용됨.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class DocumentFileKeyDTO {
+
+    /** 문서 ID */
+    private Long id;
+
+    /** 저장 파일 UUID (documents.file_path) */
+    private String filePath;
+
+    /** 원본 파일명 (확장자 추출용) */
+    private String fileName;
+}
@@ -0,0 +1,22 @@
+package com.rookies.log2doc.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ErrorReportClusterDTO - 유사 에러 리포트 클러스터 (대표 리포트 + 구성원 수)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ErrorReportClusterDTO {
+
+    private Long clusterId;                  // 클러스터 ID (첫 리포트 ID)
+    private Long memberCount;                // 활성(미삭제) 구성원 수
+    private Long totalMemberCount;           // 배정된 전체 리포트 수 (삭제/보관 포함)
+    private LocalDateTime latestCreatedDt;   // 가장 최근 구성원 생성일
+    private ErrorReportDTO representative;   // 대표 리포트 (가장 먼저 배정된 활성 리포트)
+}
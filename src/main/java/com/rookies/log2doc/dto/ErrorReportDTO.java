@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 
 /**
  * ErrorReportDTO - 새 Entity 구조에 맞춤
+ * - 값이 없는 필드도 null 로 응답에 포함 (fields 파라미터 응답은 SparseErrorReportDTO 사용)
  */
 @Data
 @Builder
@@ -28,4 +29,6 @@ public class ErrorReportDTO {
     private Boolean isDeleted;               // 삭제 여부
     private LocalDateTime createdDt;         // 생성일
     private LocalDateTime deletedDt;         // 삭제일
+    private Long version;                    // 버전 (수정 요청 시 expectedVersion 으로 전달)
+    private Boolean archived;                // 보관(archive)된 리포트 여부 (보관본 조회 시에만 true, 수정 불가)
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.rookies.log2doc.dto;
+
+import com.rookies.log2doc.entity.ErrorReport;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에러 리포트 목록용 요약 프로젝션 DTO.
+ * JPQL 생성자 표현식으로 필요한 컬럼(id, 제목, 카테고리, 상태, 생성일)만 조회할 때 사용됨.
+ * TEXT 컬럼(reportPreview, reportComment)은 읽지 않음.
+ */
+@Getter
+@AllArgsConstructor
+public class ErrorReportSummaryDTO {
+
+    /** 리포트 ID */
+    private Long id;
+
+    /** 리포트 제목 */
+    private String reportTitle;
+
+    /** 리포트 카테고리 */
+    private ErrorReport.ReportCategory reportCategory;
+
+    /** 리포트 상태 */
+    private ErrorReport.ReportStatus reportStatus;
+
+    /** 생성일 */
+    private LocalDateTime createdDt;
+}
@@ -0,0 +1,29 @@
+package com.rookies.log2doc.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 목록 API fields 파라미터(sparse fieldset) 응답용 DTO.
+ * 선택되지 않아 null 인 필드는 응답에서 제외됨.
+ * (fields 파라미터가 없는 일반 응답은 ErrorReportDTO 그대로 → null 필드도 포함)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SparseErrorReportDTO extends ErrorReportDTO {
+
+    public SparseErrorReportDTO(ErrorReportDTO source) {
+        super(source.getId(),
+                source.getReportTitle(),
+                source.getReportPreview(),
+                source.getReportCategory(),
+                source.getReportCategoryDescription(),
+                source.getReportPath(),
+                source.getReportStatus(),
+                source.getReportStatusDescription(),
+                source.getReportComment(),
+                source.getIsDeleted(),
+                source.getCreatedDt(),
+                source.getDeletedDt(),
+                source.getVersion(),
+                source.getArchived());
+    }
+}
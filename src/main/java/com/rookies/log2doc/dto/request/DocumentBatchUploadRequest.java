@@ -0,0 +1,35 @@
+package com.rookies.log2doc.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * 여러 파일 일괄 업로드 요청 DTO
+ * - 문서 제목은 각 파일의 원본 파일명으로 설정
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DocumentBatchUploadRequest {
+
+    // 업로드 파일 목록
+    @NotEmpty(message = "파일은 최소 1개 이상 필요합니다!")
+    private List<MultipartFile> files;
+
+    // 공통 본문 내용 (선택)
+    private String content;
+
+    // FK: 카테고리 타입 ID
+    @NotNull(message = "카테고리는 필수입니다!")
+    private Long categoryTypeId;
+
+    // 읽기 권한 Role ID
+    @NotNull(message = "읽기 권한은 필수입니다!")
+    private Long readRoleId;
+}
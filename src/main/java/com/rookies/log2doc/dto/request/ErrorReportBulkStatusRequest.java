@@ -0,0 +1,45 @@
+package com.rookies.log2doc.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 에러 리포트 상태 일괄 변경 요청 DTO
+ * - ids 또는 필터(status/category/startDate/endDate) 중 하나로 대상 지정
+ * - ids가 있으면 필터는 무시
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ErrorReportBulkStatusRequest {
+
+    // 대상 리포트 ID 목록
+    private List<Long> ids;
+
+    // 필터: 현재 상태 (NOT_STARTED, IN_PROGRESS, COMPLETED)
+    private String status;
+
+    // 필터: 카테고리 (ATTACK, VALID, INVALID)
+    private String category;
+
+    // 필터: 생성일 시작 (포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime startDate;
+
+    // 필터: 생성일 끝 (포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime endDate;
+
+    // 변경할 상태
+    @NotBlank(message = "변경할 상태는 필수입니다!")
+    private String targetStatus;
+
+    // 추가할 코멘트 (선택, 기존 코멘트 뒤에 "[상태] 코멘트" 형식으로 추가)
+    private String comment;
+}
@@ -0,0 +1,27 @@
+package com.rookies.log2doc.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 일괄 상태 변경 결과 DTO.
+ */
+@Data
+@Builder
+public class BulkUpdateResultDTO {
+
+    /** 변경 대상으로 지정/선택된 리포트 수 */
+    private int matched;
+
+    /** 실제로 변경된 리포트 수 */
+    private int updated;
+
+    /** 건너뛴 리포트 수 (없음/삭제됨/이미 해당 상태) */
+    private int skipped;
+
+    /** 처리한 청크(트랜잭션) 수 */
+    private int chunks;
+
+    /** 변경된 상태 */
+    private String targetStatus;
+}
@@ -0,0 +1,40 @@
+package com.rookies.log2doc.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반(keyset) 페이지 응답 DTO.
+ * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달하면 이어서 조회됨
+ * - 커서는 불투명(opaque) 문자열로, 클라이언트가 해석하거나 조작하지 않아야 함
+ *
+ * @param <T> 항목 타입
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지 응답")
+public class CursorPageResponse<T> {
+
+    /** 현재 페이지 항목 */
+    @Schema(description = "현재 페이지 항목")
+    private List<T> items;
+
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    /** 요청에 적용된 페이지 크기 */
+    @Schema(description = "적용된 페이지 크기", example = "50")
+    private int size;
+}
@@ -0,0 +1,62 @@
+package com.rookies.log2doc.dto.response;
+
+import com.rookies.log2doc.dto.ErrorCountPerDayDTO;
+import com.rookies.log2doc.dto.ErrorReportDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 에러 리포트 대시보드 스냅샷 응답 DTO.
+ * - 대시보드에 필요한 통계를 한 번에 반환
+ * - 모든 값은 하나의 읽기 트랜잭션에서 계산되어 asOf 시점 기준으로 서로 일관됨
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "에러 리포트 대시보드 스냅샷")
+public class DashboardSnapshotResponse {
+
+    /** 스냅샷 기준 시각 */
+    @Schema(description = "스냅샷 기준 시각")
+    private LocalDateTime asOf;
+
+    /** 상태별 리포트 개수 */
+    @Schema(description = "상태별 리포트 개수")
+    private Map<String, Long> statusCounts;
+
+    /** 카테고리별 리포트 개수 */
+    @Schema(description = "카테고리별 리포트 개수")
+    private Map<String, Long> categoryCounts;
+
+    /** 전체 리포트 개수 */
+    @Schema(description = "전체 리포트 개수", example = "1200")
+    private long totalCount;
+
+    /** 오늘 생성된 리포트 개수 */
+    @Schema(description = "오늘 생성된 리포트 개수", example = "35")
+    private long todayCount;
+
+    /** 최근 공격 탐지 집계 기간 (일) */
+    @Schema(description = "최근 공격 탐지 집계 기간 (일)", example = "7")
+    private int recentAttackDays;
+
+    /** 최근 N일간 공격 탐지 건수 */
+    @Schema(description = "최근 N일간 공격 탐지 건수", example = "12")
+    private long recentAttackCount;
+
+    /** 일별 리포트 개수 (최신 일자순) */
+    @Schema(description = "일별 리포트 개수")
+    private List<ErrorCountPerDayDTO> dailyCounts;
+
+    /** 최신 리포트 요약 */
+    @Schema(description = "최신 리포트 요약 (제목/카테고리/상태/생성일)")
+    private List<ErrorReportDTO> latestReports;
+}
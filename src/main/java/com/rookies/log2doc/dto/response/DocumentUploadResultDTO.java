@@ -0,0 +1,27 @@
+package com.rookies.log2doc.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 일괄 업로드 시 파일별 처리 결과 DTO.
+ */
+@Data
+@Builder
+public class DocumentUploadResultDTO {
+
+    /** 업로드한 원본 파일명 */
+    private String fileName;
+
+    /** 처리 성공 여부 */
+    private boolean success;
+
+    /** 생성된 문서 ID (성공 시) */
+    private Long documentId;
+
+    /** 저장 파일 해시 (성공 시) */
+    private String filePath;
+
+    /** 실패 사유 (실패 시) */
+    private String errorMessage;
+}
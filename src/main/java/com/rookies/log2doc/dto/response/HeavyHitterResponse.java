@@ -0,0 +1,75 @@
+package com.rookies.log2doc.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 실시간 요청 heavy hitter 응답 DTO.
+ * - 최근 윈도우 동안 가장 많이 요청한 사용자 / URL 템플릿 / User-Agent / 액션 타입
+ * - 건수는 고정 메모리 스케치 기반 추정값 (실제값 이상, errorBound 이내 과대 추정)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "실시간 요청 heavy hitter")
+public class HeavyHitterResponse {
+
+    /** 집계 기준 (USER, URL, USER_AGENT, ACTION) */
+    @Schema(description = "집계 기준", example = "USER")
+    private String dimension;
+
+    /** 조회 시각 */
+    @Schema(description = "조회 시각")
+    private LocalDateTime asOf;
+
+    /** 윈도우 길이 (초) */
+    @Schema(description = "윈도우 길이 (초)", example = "300")
+    private long windowSeconds;
+
+    /** 윈도우 내 전체 이벤트 수 */
+    @Schema(description = "윈도우 내 전체 이벤트 수", example = "12000")
+    private long totalEvents;
+
+    /** 윈도우 내 초당 이벤트 수 */
+    @Schema(description = "윈도우 내 초당 이벤트 수", example = "40.0")
+    private double eventsPerSecond;
+
+    /** 상위 항목 (빈도 내림차순) */
+    @Schema(description = "상위 항목 (빈도 내림차순)")
+    private List<Item> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "heavy hitter 항목")
+    public static class Item {
+
+        /** 키 (사용자 ID, URL 템플릿 등) */
+        @Schema(description = "키", example = "GET /documents/{id}")
+        private String key;
+
+        /** 추정 건수 */
+        @Schema(description = "추정 건수", example = "3400")
+        private long count;
+
+        /** 과대 추정 상한 (실제 건수 ≥ count - errorBound) */
+        @Schema(description = "과대 추정 상한", example = "12")
+        private long errorBound;
+
+        /** 전체 대비 비율 (0~1) */
+        @Schema(description = "전체 대비 비율", example = "0.28")
+        private double share;
+
+        /** 초당 건수 */
+        @Schema(description = "초당 건수", example = "11.3")
+        private double ratePerSecond;
+    }
+}
@@ -0,0 +1,67 @@
+package com.rookies.log2doc.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 고유 사용자 / 고유 IP 집계 응답 DTO.
+ * - HyperLogLog 기반 추정값 (표준 오차 약 0.81%)
+ * - total은 기간 전체 병합 값이므로 버킷별 값의 합보다 작을 수 있음 (버킷 간 중복 제거)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "고유 사용자/IP 집계")
+public class UniqueCountResponse {
+
+    /** 집계 대상 (USERS, IPS) */
+    @Schema(description = "집계 대상", example = "USERS")
+    private String metric;
+
+    /** 버킷 단위 (HOUR, DAY) */
+    @Schema(description = "버킷 단위", example = "DAY")
+    private String granularity;
+
+    /** 엔드포인트 (전체 집계이면 null) */
+    @Schema(description = "엔드포인트", example = "GET /documents/{id}")
+    private String endpoint;
+
+    /** 시작 시각 (포함) */
+    @Schema(description = "시작 시각 (포함)")
+    private LocalDateTime from;
+
+    /** 종료 시각 (미포함) */
+    @Schema(description = "종료 시각 (미포함)")
+    private LocalDateTime to;
+
+    /** 기간 전체 고유 수 */
+    @Schema(description = "기간 전체 고유 수", example = "342")
+    private long total;
+
+    /** 버킷별 고유 수 */
+    @Schema(description = "버킷별 고유 수")
+    private List<Bucket> buckets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "버킷별 고유 수")
+    public static class Bucket {
+
+        /** 버킷 시작 시각 */
+        @Schema(description = "버킷 시작 시각")
+        private LocalDateTime start;
+
+        /** 고유 수 */
+        @Schema(description = "고유 수", example = "120")
+        private long count;
+    }
+}
@@ -9,13 +9,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        @Index(name = "idx_documents_file_path", columnList = "file_path")
+})
 @Getter
 @Setter
 public class Document {
 
+    /**
+     * PK: 시퀀스 기반 (allocationSize 단위로 미리 할당 → 일괄 INSERT 시 JDBC 배치 가능)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documents_seq_gen")
+    @SequenceGenerator(name = "documents_seq_gen", sequenceName = "documents_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -49,6 +55,14 @@ public class Document {
     @Column(nullable = false)
     private String mimeType;   // MIME 타입
 
+    /**
+     * 저장 시 적용된 압축 인코딩 (예: gzip)
+     * - null이면 원본 그대로 저장된 파일
+     * - fileSize는 항상 원본(압축 해제) 크기
+     */
+    @Column(name = "content_encoding", length = 20)
+    private String contentEncoding;
+
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false; // 기본값 false
 
@@ -16,9 +16,10 @@ import java.time.LocalDateTime;
 @Setter
 public class DocumentCategory {
 
-    /** PK: 문서-카테고리 매핑 ID */
+    /** PK: 문서-카테고리 매핑 ID (시퀀스 기반, JDBC 배치 INSERT 가능) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "document_category_seq_gen")
+    @SequenceGenerator(name = "document_category_seq_gen", sequenceName = "document_category_seq", allocationSize = 50)
     private Long id;
 
     /** 연관된 문서 */
@@ -11,7 +11,18 @@ import java.time.LocalDateTime;
  * Flask에서 생성된 리포트 파일의 메타데이터와 상태 관리용
  */
 @Entity
-@Table(name = "error_report")
+@Table(name = "error_report", indexes = {
+        // 전체 최신순 목록/기간 조회/커서 페이지 (is_deleted, created_dt [, id])
+        @Index(name = "idx_error_report_deleted_created", columnList = "is_deleted, created_dt"),
+        // 카테고리별 최신순 (공격/정상/비정상 목록, 공격 건수)
+        @Index(name = "idx_error_report_deleted_category_created", columnList = "is_deleted, report_category, created_dt"),
+        // 상태별 최신순 (진행중/완료/미시작 목록)
+        @Index(name = "idx_error_report_deleted_status_created", columnList = "is_deleted, report_status, created_dt"),
+        // 카테고리 + 상태 최신순 (중요 리포트, 조합 조회)
+        @Index(name = "idx_error_report_deleted_category_status_created", columnList = "is_deleted, report_category, report_status, created_dt"),
+        // 리포트 파일 경로 조회
+        @Index(name = "idx_error_report_report_path", columnList = "report_path")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -70,6 +81,12 @@ public class ErrorReport {
     @Column(name = "deleted_dt", columnDefinition = "DATETIME NULL COMMENT '삭제일 (삭제 시 설정, null: 미삭제)'")
     private LocalDateTime deletedDt;
 
+    /** 낙관적 동시성 제어 버전 (Flask INSERT 시 DB 기본값 0) */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0 COMMENT '수정 버전 (낙관적 락)'")
+    @Builder.Default
+    private Long version = 0L;
+
     // ======================
     // Enum 정의
     // ======================
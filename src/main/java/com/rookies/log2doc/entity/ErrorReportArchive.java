@@ -0,0 +1,65 @@
+package com.rookies.log2doc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(archive)된 에러 리포트 색인 엔티티
+ * - 리포트 본문은 모든 노드가 공유하는 저장소(NFS)의 월별 압축 세그먼트(gzip NDJSON)에 저장
+ * - 이 테이블은 리포트 ID → (세그먼트 파일, 블록 위치)만 보관 → ID로 단건 조회 시 블록 하나만 읽음
+ * - 세그먼트는 여러 gzip 멤버(블록)를 이어 붙인 파일 (블록마다 독립적으로 압축 해제 가능)
+ */
+@Entity
+@Table(name = "error_report_archive", indexes = {
+        // 보존 기간 만료 세그먼트 조회
+        @Index(name = "idx_error_report_archive_segment", columnList = "segment_path, created_dt"),
+        @Index(name = "idx_error_report_archive_created", columnList = "created_dt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorReportArchive {
+
+    /** 원본 리포트 ID (PK, error_report.id 그대로 사용) */
+    @Id
+    @Column(name = "report_id", nullable = false)
+    private Long reportId;
+
+    /** 리포트 카테고리 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_category", length = 50)
+    private ErrorReport.ReportCategory reportCategory;
+
+    /** 보관 시점 리포트 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_status", length = 50)
+    private ErrorReport.ReportStatus reportStatus;
+
+    /** 삭제 여부 (소프트 삭제 후 보관된 리포트) */
+    @Column(name = "is_deleted", nullable = false)
+    private Boolean isDeleted;
+
+    /** 원본 생성일 (보존 기간 기준) */
+    @Column(name = "created_dt", nullable = false)
+    private LocalDateTime createdDt;
+
+    /** 보관 처리일 */
+    @Column(name = "archived_dt", nullable = false)
+    private LocalDateTime archivedDt;
+
+    /** 세그먼트 파일 경로 (보관 루트 기준 상대 경로, 예: 2025-01/error-report-....ndjson.gz) */
+    @Column(name = "segment_path", nullable = false, length = 255)
+    private String segmentPath;
+
+    /** 리포트가 들어 있는 gzip 블록 시작 위치 (byte) */
+    @Column(name = "block_offset", nullable = false)
+    private Long blockOffset;
+
+    /** gzip 블록 길이 (byte) */
+    @Column(name = "block_length", nullable = false)
+    private Integer blockLength;
+}
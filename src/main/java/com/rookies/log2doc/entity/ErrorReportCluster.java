@@ -0,0 +1,46 @@
+package com.rookies.log2doc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유사 에러 리포트 클러스터 엔티티
+ * - 클러스터 ID = 클러스터에 처음 배정된 리포트 ID
+ * - 구성원 수/최근 리포트는 배정 시 증분 갱신 (목록 API가 전체 그룹 집계 없이 최근 활동순으로 조회)
+ * - memberCount는 배정된 전체 리포트 수 (삭제/보관 포함), 목록 응답의 건수는 조회 시 활성 리포트 기준으로 계산
+ */
+@Entity
+@Table(name = "error_report_cluster", indexes = {
+        // 최근 활동순 목록 (keyset)
+        @Index(name = "idx_error_report_cluster_latest", columnList = "latest_created_dt, cluster_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorReportCluster {
+
+    /** 클러스터 ID (첫 리포트 ID) */
+    @Id
+    @Column(name = "cluster_id", nullable = false)
+    private Long clusterId;
+
+    /** 배정된 리포트 수 */
+    @Column(name = "member_count", nullable = false)
+    private Long memberCount;
+
+    /** 가장 최근 배정된 리포트 ID */
+    @Column(name = "latest_report_id", nullable = false)
+    private Long latestReportId;
+
+    /** 가장 최근 배정된 리포트 생성일 */
+    @Column(name = "latest_created_dt", nullable = false)
+    private LocalDateTime latestCreatedDt;
+
+    /** 클러스터 생성일 (첫 리포트 생성일) */
+    @Column(name = "created_dt", nullable = false)
+    private LocalDateTime createdDt;
+}
@@ -0,0 +1,48 @@
+package com.rookies.log2doc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 에러 리포트 일별 집계(rollup) 엔티티
+ * - (일자 × 카테고리 × 상태) 단위 미삭제 리포트 개수
+ * - error_report 테이블 트리거(INSERT/UPDATE/DELETE)로 같은 트랜잭션 안에서 증감
+ *   → Flask가 DB에 직접 INSERT 하는 리포트도 반영됨
+ * - 대시보드 통계는 이 테이블(일 수 × 조합 수 행)만 읽음
+ */
+@Entity
+@Table(name = "error_report_daily_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_error_report_daily_stat",
+                columnNames = {"stat_date", "report_category", "report_status"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorReportDailyStat {
+
+    /** 집계 행 ID (PK) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 집계 일자 (DATE(created_dt)) */
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    /** 리포트 카테고리 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_category", nullable = false, length = 50)
+    private ErrorReport.ReportCategory reportCategory;
+
+    /** 리포트 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_status", nullable = false, length = 50)
+    private ErrorReport.ReportStatus reportStatus;
+
+    /** 미삭제 리포트 개수 */
+    @Column(name = "report_count", nullable = false)
+    private Long reportCount;
+}
@@ -0,0 +1,46 @@
+package com.rookies.log2doc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 에러 리포트 LSH 밴드 엔티티 (유사 리포트 후보 검색용)
+ * - 리포트당 밴드 수만큼 행 (밴드 키 = 서명 구간 해시)
+ * - 밴드 키가 같은 리포트만 서명 비교 → 전체 쌍 비교 없이 후보만 확인
+ */
+@Entity
+@Table(name = "error_report_lsh_band", indexes = {
+        // 보존 기간 정리 (리포트 ID 범위 삭제)
+        @Index(name = "idx_error_report_lsh_band_report", columnList = "report_id")
+})
+@IdClass(ErrorReportLshBand.BandId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorReportLshBand {
+
+    /** 밴드 키 (밴드 번호 + 서명 구간 해시) */
+    @Id
+    @Column(name = "band_key", nullable = false)
+    private Long bandKey;
+
+    /** 리포트 ID */
+    @Id
+    @Column(name = "report_id", nullable = false)
+    private Long reportId;
+
+    /** 복합 키 */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class BandId implements Serializable {
+        private Long bandKey;
+        private Long reportId;
+    }
+}
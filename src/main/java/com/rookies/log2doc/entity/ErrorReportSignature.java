@@ -0,0 +1,44 @@
+package com.rookies.log2doc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에러 리포트 MinHash 서명 엔티티 (유사 리포트 클러스터링)
+ * - 리포트당 1행: 제목 + 미리보기 shingle의 MinHash 서명과 배정된 클러스터
+ * - 보관(archive)/삭제된 리포트의 행도 유지 → 이후 유입되는 유사 리포트가 같은 클러스터로 묶임
+ *   (보존 기간이 지나면 ErrorReportClusterService가 정리)
+ */
+@Entity
+@Table(name = "error_report_signature", indexes = {
+        // 클러스터별 구성원 조회
+        @Index(name = "idx_error_report_signature_cluster", columnList = "cluster_id, report_id"),
+        // 보존 기간 정리
+        @Index(name = "idx_error_report_signature_created", columnList = "created_dt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorReportSignature {
+
+    /** 리포트 ID (PK, error_report.id 그대로 사용) */
+    @Id
+    @Column(name = "report_id", nullable = false)
+    private Long reportId;
+
+    /** 배정된 클러스터 ID (= 클러스터 첫 리포트 ID) */
+    @Column(name = "cluster_id", nullable = false)
+    private Long clusterId;
+
+    /** MinHash 서명 (int big-endian 연속, 제목/미리보기가 비어 있으면 null) */
+    @Column(name = "signature", columnDefinition = "VARBINARY(1024)")
+    private byte[] signature;
+
+    /** 원본 리포트 생성일 */
+    @Column(name = "created_dt", nullable = false)
+    private LocalDateTime createdDt;
+}
@@ -11,13 +11,15 @@ import java.time.LocalDateTime;
 
 /**
  * JWT Refresh Token 정보를 저장하는 Entity 클래스
- * Redis와 함께 사용하여 토큰 관리의 이중화 구현
+ * 토큰 조회/회전/폐기는 Redis에서 처리하고, 이 테이블은 발급/폐기 이력(감사 기록)으로 사용
+ * (RefreshTokenService가 write-behind 방식으로 반영)
  */
 @Entity
 @Table(name = "refresh_tokens",
         indexes = {
                 @Index(name = "idx_refresh_token", columnList = "token"),
-                @Index(name = "idx_user_id", columnList = "user_id")
+                @Index(name = "idx_user_id", columnList = "user_id"),
+                @Index(name = "idx_refresh_token_expiry", columnList = "expiry_date")
         })
 @Getter
 @NoArgsConstructor
@@ -30,6 +32,7 @@ public class RefreshToken {
     @Column(name = "token_id")
     private Long id;
 
+    // 토큰 원문이 아닌 SHA-256 해시 (hex)
     @Column(name = "token", nullable = false, unique = true, length = 255)
     private String token;
 
@@ -1,5 +1,6 @@
 package com.rookies.log2doc.entity;
 
+import com.rookies.log2doc.event.UserEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(columnNames = "username"),
                 @UniqueConstraint(columnNames = "email")
         })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserEntityListener.class})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
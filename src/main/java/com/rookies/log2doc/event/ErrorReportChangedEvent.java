@@ -0,0 +1,19 @@
+package com.rookies.log2doc.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 에러 리포트 변경 이벤트
+ * - 상태 변경, 삭제 등 통계에 영향을 주는 변경이 커밋된 뒤 처리됨
+ *   (@TransactionalEventListener AFTER_COMMIT)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ErrorReportChangedEvent {
+
+    /** 변경된 리포트 ID 목록 */
+    private final List<Long> reportIds;
+}
@@ -0,0 +1,20 @@
+package com.rookies.log2doc.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 변경 이벤트
+ * - 직급, 활성 여부 등 사용자 정보가 수정/삭제되면 발행
+ * - 커밋된 뒤 사용자 정보 캐시 무효화 + 기존 액세스 토큰 폐기에 사용 (@TransactionalEventListener AFTER_COMMIT)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    /** 변경된 사용자 ID */
+    private final Long userId;
+
+    /** 변경된 사용자명 */
+    private final String username;
+}
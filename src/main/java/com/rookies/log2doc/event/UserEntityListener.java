@@ -0,0 +1,26 @@
+package com.rookies.log2doc.event;
+
+import com.rookies.log2doc.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 변경 감지 리스너
+ * - 수정/삭제가 flush 되면 UserChangedEvent 발행 → 커밋 후 사용자 정보 캐시 무효화 + 액세스 토큰 폐기
+ * - 변경 경로(서비스, 관리 API 등)와 무관하게 모든 수정이 캐시에 반영되도록 엔티티 수준에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUsername()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.rookies.log2doc.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 보관된 리포트 읽기 불가 예외
+ * 보관 색인에는 있지만 세그먼트 파일이 없거나 읽을 수 없을 때 발생 (보존 기간 정리, 저장소 장애 등)
+ * 410 Gone 응답으로 처리
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class ArchivedReportUnavailableException extends RuntimeException {
+
+    public ArchivedReportUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
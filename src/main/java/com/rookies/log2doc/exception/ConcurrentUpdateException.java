@@ -0,0 +1,27 @@
+package com.rookies.log2doc.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 동시 수정 충돌 예외
+ * 클라이언트가 전달한 버전(expectedVersion)과 현재 버전이 달라 조건부 UPDATE가 적용되지 않았을 때 발생
+ * 409 Conflict 응답으로 처리
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConcurrentUpdateException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    public ConcurrentUpdateException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * 충돌 시점의 현재 버전
+     */
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
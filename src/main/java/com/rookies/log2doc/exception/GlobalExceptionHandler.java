@@ -187,6 +187,42 @@ public class GlobalExceptionHandler {
                 .body(new MessageResponse(combinedErrors, false));
     }
 
+    // 11순위: 잘못된 요청 값 (400)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<MessageResponse> handleIllegalArgument(
+            IllegalArgumentException ex, HttpServletRequest request) {
+
+        log.warn("잘못된 요청 값: {}", ex.getMessage());
+        sendExceptionLog(request, ex.getMessage(), "VALIDATION_ERROR", "VALIDATE", 400);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new MessageResponse(ex.getMessage(), false));
+    }
+
+    // 12순위: 동시 수정 충돌 (409)
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<MessageResponse> handleConcurrentUpdate(
+            ConcurrentUpdateException ex, HttpServletRequest request) {
+
+        log.warn("동시 수정 충돌: {} (현재 버전: {})", ex.getMessage(), ex.getCurrentVersion());
+        sendExceptionLog(request, ex.getMessage(), "CONFLICT", "UPDATE", 409);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new MessageResponse(ex.getMessage(), false));
+    }
+
+    // 13순위: 보관된 리포트 읽기 불가 (410)
+    @ExceptionHandler(ArchivedReportUnavailableException.class)
+    public ResponseEntity<MessageResponse> handleArchivedReportUnavailable(
+            ArchivedReportUnavailableException ex, HttpServletRequest request) {
+
+        log.warn("보관된 리포트 읽기 불가: {}", ex.getMessage());
+        sendExceptionLog(request, ex.getMessage(), "GONE", "READ", 410);
+
+        return ResponseEntity.status(HttpStatus.GONE)
+                .body(new MessageResponse(ex.getMessage(), false));
+    }
+
     // 마지막 순위: 런타임 예외 (500) - 이제 PermissionDeniedException 제외됨
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<MessageResponse> handleRuntimeException(
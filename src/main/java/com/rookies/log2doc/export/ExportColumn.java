@@ -0,0 +1,17 @@
+package com.rookies.log2doc.export;
+
+import java.util.function.Function;
+
+/**
+ * 내보내기 컬럼 정의 (NDJSON 필드명 = CSV 헤더명)
+ *
+ * @param name  컬럼 이름
+ * @param value 행 → 컬럼 값
+ * @param <T>   행 타입
+ */
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+
+    public static <T> ExportColumn<T> of(String name, Function<T, Object> value) {
+        return new ExportColumn<>(name, value);
+    }
+}
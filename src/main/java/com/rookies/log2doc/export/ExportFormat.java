@@ -0,0 +1,43 @@
+package com.rookies.log2doc.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * 스트리밍 내보내기 형식
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return MediaType.parseMediaType(contentType + ";charset=UTF-8");
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 형식 문자열 → Enum 변환 (null/빈 값이면 NDJSON)
+     */
+    public static ExportFormat from(String format) {
+        if (format == null || format.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+    }
+}
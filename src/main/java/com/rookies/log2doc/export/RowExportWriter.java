@@ -0,0 +1,142 @@
+package com.rookies.log2doc.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 행 단위 스트리밍 내보내기 Writer
+ * - 행을 받는 즉시 응답 스트림에 기록 (전체 목록을 메모리에 올리지 않음)
+ * - NDJSON: Jackson JsonGenerator로 한 줄에 JSON 객체 하나
+ * - CSV: 헤더 + RFC 4180 escape, 엑셀 한글 호환을 위한 UTF-8 BOM,
+ *   수식으로 해석될 수 있는 값(=, +, -, @ 시작)은 앞에 ' 를 붙여 수식 주입 방지
+ * - flushEvery 행마다 flush → 클라이언트가 바로 수신 시작
+ *
+ * close()는 내부 버퍼만 비우고 응답 스트림은 닫지 않음 (서블릿 컨테이너가 관리)
+ *
+ * @param <T> 행 타입
+ */
+public class RowExportWriter<T> implements Closeable {
+
+    private static final int DEFAULT_FLUSH_EVERY = 500;
+
+    private final ExportFormat format;
+    private final List<ExportColumn<T>> columns;
+    private final int flushEvery;
+
+    private final JsonGenerator generator;
+    private final Writer csvWriter;
+
+    private long rowCount = 0;
+
+    public RowExportWriter(ExportFormat format, List<ExportColumn<T>> columns,
+                           OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this(format, columns, out, objectMapper, DEFAULT_FLUSH_EVERY);
+    }
+
+    public RowExportWriter(ExportFormat format, List<ExportColumn<T>> columns,
+                           OutputStream out, ObjectMapper objectMapper, int flushEvery) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.flushEvery = Math.max(1, flushEvery);
+
+        if (format == ExportFormat.NDJSON) {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+            this.csvWriter = null;
+        } else {
+            this.generator = null;
+            this.csvWriter = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            csvWriter.write('\uFEFF');
+            writeCsvHeader();
+        }
+    }
+
+    /**
+     * 행 기록
+     */
+    public void write(T row) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            generator.writeStartObject();
+            for (ExportColumn<T> column : columns) {
+                generator.writeFieldName(column.name());
+                generator.writeObject(column.value().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } else {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    csvWriter.write(',');
+                }
+                csvWriter.write(toCsvValue(columns.get(i).value().apply(row)));
+            }
+            csvWriter.write("\r\n");
+        }
+
+        if (++rowCount % flushEvery == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * 지금까지 기록한 행 수
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (generator != null) {
+            generator.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        } else {
+            csvWriter.flush();
+        }
+    }
+
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                csvWriter.write(',');
+            }
+            csvWriter.write(toCsvValue(columns.get(i).name()));
+        }
+        csvWriter.write("\r\n");
+    }
+
+    private String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        // 날짜/시간은 NDJSON(Jackson)과 같은 ISO-8601 형식 (초 단위 생략 없음)
+        String text = value instanceof LocalDateTime dateTime
+                ? dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                : value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.time.Instant;
 import java.util.Collections;
@@ -31,6 +32,12 @@ public class LogBuilder {
         logData.put("request_method", request.getMethod());
         logData.put("request_url", request.getRequestURI());
 
+        // 핸들러 매핑 경로 패턴 (예: /documents/{id}) - 실시간 집계용, Flask 전송 대상 아님
+        Object urlTemplate = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (urlTemplate != null) {
+            logData.put("request_url_template", urlTemplate.toString());
+        }
+
         // 헤더 수집
         Map<String, String> headersMap = Collections.list(request.getHeaderNames()).stream()
                 .collect(HashMap::new, (m, k) -> m.put(k, request.getHeader(k)), HashMap::putAll);
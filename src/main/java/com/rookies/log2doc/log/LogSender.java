@@ -1,6 +1,7 @@
 package com.rookies.log2doc.log;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies.log2doc.service.LogAnalyticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +18,7 @@ public class LogSender {
 
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
+    private final LogAnalyticsService logAnalyticsService;
 
     // Flask 설정값 주입
     @Value("${flask.base.url}")
@@ -29,6 +31,9 @@ public class LogSender {
      * Flask 요구사항에 맞는 필드만 필터링해서 전송
      */
     public void sendLog(Map<String, Object> logData) {
+        // 실시간 heavy hitter 집계 (Flask 전송 성공 여부와 무관)
+        logAnalyticsService.record(logData);
+
         try {
 //            // ✅ 입력 데이터 디버깅
 //            log.debug("🔍 [DEBUG] 입력 로그 데이터 키들: {}", logData.keySet());
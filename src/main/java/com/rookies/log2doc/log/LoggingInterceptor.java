@@ -10,6 +10,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import java.time.Instant;
@@ -96,6 +97,12 @@ public class LoggingInterceptor implements HandlerInterceptor {
         String fullUrl = buildFullUrl(request);
         logData.put("request_url", fullUrl);  // 전체 URL 사용
 
+        // 핸들러 매핑 경로 패턴 (예: /documents/{id}) - 실시간 집계용, Flask 전송 대상 아님
+        Object urlTemplate = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (urlTemplate != null) {
+            logData.put("request_url_template", urlTemplate.toString());
+        }
+
         // 세션 정보 안전하게 처리
         String sessionId = getSessionIdSafely(request);
         logData.put("session_id", sessionId);
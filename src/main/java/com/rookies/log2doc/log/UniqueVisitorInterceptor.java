@@ -0,0 +1,47 @@
+package com.rookies.log2doc.log;
+
+import com.rookies.log2doc.security.ClientIpExtractor;
+import com.rookies.log2doc.service.UniqueVisitorService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고유 사용자 / 고유 IP 집계 Interceptor
+ * - 인증된 요청(응답 상태 무관)의 사용자 ID, 클라이언트 IP, 엔드포인트를 UniqueVisitorService에 기록
+ * - 기록은 메모리 큐에만 넣으므로 요청 처리 시간에 영향 없음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UniqueVisitorInterceptor implements HandlerInterceptor {
+
+    private final UniqueVisitorService uniqueVisitorService;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return;
+        }
+
+        try {
+            Object urlTemplate = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = urlTemplate != null ? request.getMethod() + " " + urlTemplate : null;
+
+            uniqueVisitorService.record(auth.getName(), ClientIpExtractor.extract(request), endpoint, LocalDateTime.now());
+        } catch (Exception e) {
+            log.debug("고유 방문자 기록 실패: {}", e.getMessage());
+        }
+    }
+}
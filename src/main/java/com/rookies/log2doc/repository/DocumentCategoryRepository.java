@@ -2,6 +2,11 @@ package com.rookies.log2doc.repository;
 
 import com.rookies.log2doc.entity.DocumentCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * DocumentCategory Repository
@@ -17,5 +22,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface DocumentCategoryRepository extends JpaRepository<DocumentCategory, Long> {
 
-    // 현재는 기본 CRUD만 사용 중
+    /**
+     * 문서 ID 목록의 카테고리 이름 (문서 ID, 카테고리 이름)
+     * - 목록 내보내기에서 청크 단위로 한 번에 조회 (문서별 지연 로딩 N+1 방지)
+     */
+    @Query("SELECT dc.document.id, ct.name FROM DocumentCategory dc JOIN dc.categoryType ct " +
+            "WHERE dc.document.id IN :documentIds")
+    List<Object[]> findCategoryNamesByDocumentIds(@Param("documentIds") Collection<Long> documentIds);
 }
@@ -1,10 +1,17 @@
 package com.rookies.log2doc.repository;
 
+import com.rookies.log2doc.dto.DocumentFileKeyDTO;
 import com.rookies.log2doc.entity.Document;
+import com.rookies.log2doc.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -84,5 +91,56 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
             """)
     Optional<Document> findByFilePathWithRolesAndCategories(@Param("filePath") String filePath);
 
+    /**
+     * ID 목록으로 문서 일괄 조회 + 권한 Role Fetch Join
+     * - 일괄 ZIP 다운로드 시 권한 체크를 한 번의 쿼리로 처리
+     */
+    @Query("""
+                SELECT d FROM Document d
+                JOIN FETCH d.readRole
+                WHERE d.id IN :ids
+            """)
+    List<Document> findAllByIdInWithRoles(@Param("ids") Collection<Long> ids);
 
+    /**
+     * 파일 해시(filePath) 순으로 문서 키를 배치 조회 (keyset 방식)
+     * - 저장소 정합성 점검 시 after 이후 ~ upper 미만 범위를 정렬된 순서로 스트리밍
+     */
+    @Query("""
+                SELECT new com.rookies.log2doc.dto.DocumentFileKeyDTO(d.id, d.filePath, d.fileName)
+                FROM Document d
+                WHERE d.filePath > :after AND d.filePath < :upper
+                ORDER BY d.filePath
+                LIMIT :limit
+            """)
+    List<DocumentFileKeyDTO> findFileKeysAfter(@Param("after") String after,
+                                               @Param("upper") String upper,
+                                               @Param("limit") int limit);
+
+    /**
+     * 문서 목록 내보내기용 페이지 조회 (ID 순 keyset 방식)
+     * - 읽기 권한(readRoles), 카테고리, 기간 조건을 SQL에서 처리 (null이면 미적용)
+     * - afterId 이후 limit건을 한 번에 읽어 결과 집합을 닫음
+     *   (열린 스트리밍 결과 집합 위에서 다른 쿼리를 실행하지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            SELECT d FROM Document d
+            JOIN FETCH d.readRole r
+            WHERE d.isDeleted = false
+              AND r.name IN :readRoles
+              AND (:categoryTypeId IS NULL OR EXISTS (
+                   SELECT 1 FROM DocumentCategory dc WHERE dc.document = d AND dc.categoryType.id = :categoryTypeId))
+              AND (:startAt IS NULL OR d.createdAt >= :startAt)
+              AND (:endAt IS NULL OR d.createdAt < :endAt)
+              AND d.id > :afterId
+            ORDER BY d.id
+            LIMIT :limit
+            """)
+    List<Document> findCatalogPage(@Param("readRoles") Collection<Role.RoleName> readRoles,
+                                   @Param("categoryTypeId") Long categoryTypeId,
+                                   @Param("startAt") LocalDateTime startAt,
+                                   @Param("endAt") LocalDateTime endAt,
+                                   @Param("afterId") Long afterId,
+                                   @Param("limit") int limit);
 }
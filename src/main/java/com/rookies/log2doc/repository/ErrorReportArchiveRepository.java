@@ -0,0 +1,31 @@
+package com.rookies.log2doc.repository;
+
+import com.rookies.log2doc.entity.ErrorReportArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ErrorReportArchive Repository
+ * - 세그먼트 파일 기록/삭제는 ErrorReportArchiveService에서 처리
+ */
+public interface ErrorReportArchiveRepository extends JpaRepository<ErrorReportArchive, Long> {
+
+    /**
+     * 보존 기간이 지난 세그먼트 목록
+     * - 세그먼트 안의 모든 리포트가 기준일 이전에 생성된 경우만 (일부만 만료된 세그먼트는 다음 주기에 처리)
+     */
+    @Query("SELECT a.segmentPath FROM ErrorReportArchive a " +
+            "GROUP BY a.segmentPath " +
+            "HAVING MAX(a.createdDt) < :cutoff")
+    List<String> findExpiredSegments(@Param("cutoff") LocalDateTime cutoff);
+
+    /** 세그먼트 색인 삭제 */
+    @Modifying
+    @Query("DELETE FROM ErrorReportArchive a WHERE a.segmentPath = :segmentPath")
+    int deleteBySegmentPath(@Param("segmentPath") String segmentPath);
+}
@@ -0,0 +1,39 @@
+package com.rookies.log2doc.repository;
+
+import com.rookies.log2doc.entity.ErrorReportCluster;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ErrorReportCluster Repository
+ */
+public interface ErrorReportClusterRepository extends JpaRepository<ErrorReportCluster, Long> {
+
+    /**
+     * 최근 활동순 클러스터 페이지 (keyset: latestCreatedDt DESC, clusterId DESC)
+     * - cursorDt/cursorId가 null이면 첫 페이지
+     */
+    @Query("""
+            SELECT c FROM ErrorReportCluster c
+            WHERE c.memberCount >= :minMembers
+              AND (:cursorDt IS NULL
+                   OR c.latestCreatedDt < :cursorDt
+                   OR (c.latestCreatedDt = :cursorDt AND c.clusterId < :cursorId))
+            ORDER BY c.latestCreatedDt DESC, c.clusterId DESC
+            LIMIT :limit
+            """)
+    List<ErrorReportCluster> findPage(@Param("minMembers") long minMembers,
+                                      @Param("cursorDt") LocalDateTime cursorDt,
+                                      @Param("cursorId") Long cursorId,
+                                      @Param("limit") int limit);
+
+    /** 최근 배정이 기준일 이전인 클러스터 삭제 */
+    @Modifying
+    @Query("DELETE FROM ErrorReportCluster c WHERE c.latestCreatedDt < :cutoff")
+    int deleteInactiveBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,48 @@
+package com.rookies.log2doc.repository;
+
+import com.rookies.log2doc.dto.ErrorCountPerDayDTO;
+import com.rookies.log2doc.entity.ErrorReport;
+import com.rookies.log2doc.entity.ErrorReportDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * ErrorReportDailyStat Repository (조회 전용)
+ * - 집계 행 증감은 error_report 트리거, 재계산은 ErrorReportRollupService에서 처리
+ */
+public interface ErrorReportDailyStatRepository extends JpaRepository<ErrorReportDailyStat, Long> {
+
+    /** 일별 리포트 개수 (최신 일자순) */
+    @Query("SELECT new com.rookies.log2doc.dto.ErrorCountPerDayDTO(s.statDate, SUM(s.reportCount)) " +
+            "FROM ErrorReportDailyStat s " +
+            "GROUP BY s.statDate " +
+            "HAVING SUM(s.reportCount) > 0 " +
+            "ORDER BY s.statDate DESC")
+    List<ErrorCountPerDayDTO> findDailyCounts();
+
+    /** 상태별 개수 */
+    @Query("SELECT s.reportStatus, SUM(s.reportCount) FROM ErrorReportDailyStat s GROUP BY s.reportStatus")
+    List<Object[]> sumByReportStatus();
+
+    /** 카테고리별 개수 */
+    @Query("SELECT s.reportCategory, SUM(s.reportCount) FROM ErrorReportDailyStat s GROUP BY s.reportCategory")
+    List<Object[]> sumByReportCategory();
+
+    /** 전체 개수 */
+    @Query("SELECT COALESCE(SUM(s.reportCount), 0) FROM ErrorReportDailyStat s")
+    long sumAll();
+
+    /** 특정 일자 개수 */
+    @Query("SELECT COALESCE(SUM(s.reportCount), 0) FROM ErrorReportDailyStat s WHERE s.statDate = :date")
+    long sumByDate(@Param("date") LocalDate date);
+
+    /** 특정 카테고리의 from 일자 이후(포함) 개수 */
+    @Query("SELECT COALESCE(SUM(s.reportCount), 0) FROM ErrorReportDailyStat s " +
+            "WHERE s.reportCategory = :category AND s.statDate >= :from")
+    long sumByCategorySince(@Param("category") ErrorReport.ReportCategory category,
+                            @Param("from") LocalDate from);
+}
@@ -0,0 +1,20 @@
+package com.rookies.log2doc.repository;
+
+import com.rookies.log2doc.entity.ErrorReportLshBand;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+
+/**
+ * ErrorReportLshBand Repository
+ * - 후보 조회는 밴드 수만큼 UNION ALL 하는 가변 SQL이라 ErrorReportClusterService에서 JdbcTemplate으로 실행
+ */
+public interface ErrorReportLshBandRepository extends JpaRepository<ErrorReportLshBand, ErrorReportLshBand.BandId> {
+
+    /** 리포트 ID 이하 밴드 삭제 (청크 단위) */
+    @Modifying
+    @Query(value = "DELETE FROM error_report_lsh_band WHERE report_id <= :maxReportId LIMIT :limit", nativeQuery = true)
+    int deleteUpTo(@Param("maxReportId") Long maxReportId, @Param("limit") int limit);
+}
@@ -1,14 +1,23 @@
 package com.rookies.log2doc.repository;
 
 import com.rookies.log2doc.dto.ErrorCountPerDayDTO;
+import com.rookies.log2doc.dto.ErrorReportSummaryDTO;
 import com.rookies.log2doc.entity.ErrorReport;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ErrorReport Repository (조회 전용)
@@ -34,8 +43,74 @@ public interface ErrorReportRepository extends JpaRepository<ErrorReport, Long>
             "ORDER BY CAST(e.createdDt AS date) DESC")
     List<ErrorCountPerDayDTO> findDailyErrorCounts();
 
-    /** 최신순 전체 리스트 */
-    List<ErrorReport> findByIsDeletedFalseOrderByCreatedDtDesc();
+    /**
+     * 최신순 커서(keyset) 페이지 조회
+     * - 정렬 키: (createdDt DESC, id DESC) → 같은 시각 리포트도 순서가 고정됨
+     * - cursorDt/cursorId가 null이면 첫 페이지, 아니면 해당 위치 이후부터
+     * - status/category/startDate/endDate는 null이면 조건 미적용
+     * - LIMIT까지 SQL에서 처리 (다음 페이지 존재 여부 확인을 위해 호출 측에서 size + 1 전달)
+     */
+    @Query("""
+            SELECT e FROM ErrorReport e
+            WHERE e.isDeleted = false
+              AND (:status IS NULL OR e.reportStatus = :status)
+              AND (:category IS NULL OR e.reportCategory = :category)
+              AND (:startDate IS NULL OR e.createdDt >= :startDate)
+              AND (:endDate IS NULL OR e.createdDt <= :endDate)
+              AND (:cursorDt IS NULL
+                   OR e.createdDt < :cursorDt
+                   OR (e.createdDt = :cursorDt AND e.id < :cursorId))
+            ORDER BY e.createdDt DESC, e.id DESC
+            LIMIT :limit
+            """)
+    List<ErrorReport> findPage(@Param("status") ErrorReport.ReportStatus status,
+                               @Param("category") ErrorReport.ReportCategory category,
+                               @Param("startDate") LocalDateTime startDate,
+                               @Param("endDate") LocalDateTime endDate,
+                               @Param("cursorDt") LocalDateTime cursorDt,
+                               @Param("cursorId") Long cursorId,
+                               @Param("limit") int limit);
+
+    /**
+     * 최신순 커서(keyset) 요약 페이지 조회
+     * - findPage와 동일한 조건/정렬이지만 목록에 필요한 컬럼만 SELECT
+     * - TEXT 컬럼(report_preview, report_comment)을 읽지 않아 행 크기/전송량 감소
+     */
+    @Query("""
+            SELECT new com.rookies.log2doc.dto.ErrorReportSummaryDTO(
+                   e.id, e.reportTitle, e.reportCategory, e.reportStatus, e.createdDt)
+            FROM ErrorReport e
+            WHERE e.isDeleted = false
+              AND (:status IS NULL OR e.reportStatus = :status)
+              AND (:category IS NULL OR e.reportCategory = :category)
+              AND (:startDate IS NULL OR e.createdDt >= :startDate)
+              AND (:endDate IS NULL OR e.createdDt <= :endDate)
+              AND (:cursorDt IS NULL
+                   OR e.createdDt < :cursorDt
+                   OR (e.createdDt = :cursorDt AND e.id < :cursorId))
+            ORDER BY e.createdDt DESC, e.id DESC
+            LIMIT :limit
+            """)
+    List<ErrorReportSummaryDTO> findSummaryPage(@Param("status") ErrorReport.ReportStatus status,
+                                                @Param("category") ErrorReport.ReportCategory category,
+                                                @Param("startDate") LocalDateTime startDate,
+                                                @Param("endDate") LocalDateTime endDate,
+                                                @Param("cursorDt") LocalDateTime cursorDt,
+                                                @Param("cursorId") Long cursorId,
+                                                @Param("limit") int limit);
+
+    /**
+     * 특정 ID 이후 신규 리포트 요약 (ID 오름차순, 변경 감지용)
+     */
+    @Query("""
+            SELECT new com.rookies.log2doc.dto.ErrorReportSummaryDTO(
+                   e.id, e.reportTitle, e.reportCategory, e.reportStatus, e.createdDt)
+            FROM ErrorReport e
+            WHERE e.isDeleted = false AND e.id > :afterId
+            ORDER BY e.id ASC
+            LIMIT :limit
+            """)
+    List<ErrorReportSummaryDTO> findSummariesAfterId(@Param("afterId") Long afterId, @Param("limit") int limit);
 
     /** ID로 단일 조회 (삭제된 것 제외) */
     Optional<ErrorReport> findByIdAndIsDeletedFalse(Long id);
@@ -44,42 +119,46 @@ public interface ErrorReportRepository extends JpaRepository<ErrorReport, Long>
     @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportPath = :path")
     Optional<ErrorReport> findByReportPath(@Param("path") String path);
 
-    /** 제목 키워드로 검색 */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportTitle LIKE %:title% ORDER BY e.createdDt DESC")
-    List<ErrorReport> findByReportTitleContaining(@Param("title") String title);
-
-    // ========================================
-    // 상태별 조회 메서드들
-    // ========================================
-
-    /** 진행중인 리포트 */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportStatus = 'IN_PROGRESS' ORDER BY e.createdDt DESC")
-    List<ErrorReport> findInProgressReports();
-
-    /** 완료된 리포트 */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportStatus = 'COMPLETED' ORDER BY e.createdDt DESC")
-    List<ErrorReport> findCompletedReports();
+    /**
+     * 제목/미리보기 FULLTEXT 검색 (관련도순 페이지)
+     * - ftx_error_report_title_preview 인덱스 사용 (ErrorReportSearchService가 생성)
+     * - query는 BOOLEAN MODE 질의 (ErrorReportSearchService.toBooleanQuery)
+     */
+    @Query(value = """
+            SELECT * FROM error_report e
+            WHERE e.is_deleted = FALSE
+              AND MATCH(e.report_title, e.report_preview) AGAINST (:query IN BOOLEAN MODE)
+            ORDER BY MATCH(e.report_title, e.report_preview) AGAINST (:query IN BOOLEAN MODE) DESC, e.id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<ErrorReport> searchFullText(@Param("query") String query,
+                                     @Param("offset") int offset,
+                                     @Param("limit") int limit);
 
-    /** 시작되지 않은 리포트 */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportStatus = 'NOT_STARTED' ORDER BY e.createdDt DESC")
-    List<ErrorReport> findNotStartedReports();
+    /**
+     * 제목/미리보기 키워드 LIKE 검색 (FULLTEXT 미사용 시, 최신순 커서 페이지)
+     * - keyword의 %, _, ! 는 호출 측에서 '!'로 escape
+     */
+    @Query("""
+            SELECT e FROM ErrorReport e
+            WHERE e.isDeleted = false
+              AND (e.reportTitle LIKE CONCAT('%', :keyword, '%') ESCAPE '!'
+                   OR e.reportPreview LIKE CONCAT('%', :keyword, '%') ESCAPE '!')
+              AND (:cursorDt IS NULL
+                   OR e.createdDt < :cursorDt
+                   OR (e.createdDt = :cursorDt AND e.id < :cursorId))
+            ORDER BY e.createdDt DESC, e.id DESC
+            LIMIT :limit
+            """)
+    List<ErrorReport> searchByKeyword(@Param("keyword") String keyword,
+                                      @Param("cursorDt") LocalDateTime cursorDt,
+                                      @Param("cursorId") Long cursorId,
+                                      @Param("limit") int limit);
 
     // ========================================
     // 카테고리별 조회 메서드들 (AI 분류)
     // ========================================
 
-    /** AI가 탐지한 공격 리포트 (중요) */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportCategory = 'ATTACK' ORDER BY e.createdDt DESC")
-    List<ErrorReport> findAttackReports();
-
-    /** 정상으로 분류된 리포트 */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportCategory = 'VALID' ORDER BY e.createdDt DESC")
-    List<ErrorReport> findValidReports();
-
-    /** 비정상으로 분류된 리포트 */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportCategory = 'INVALID' ORDER BY e.createdDt DESC")
-    List<ErrorReport> findInvalidReports();
-
     /** 공격 카테고리 + 진행중/완료 상태 리포트 */
     @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportCategory = 'ATTACK' AND e.reportStatus IN ('IN_PROGRESS', 'COMPLETED') ORDER BY e.createdDt DESC")
     List<ErrorReport> findCriticalReports();
@@ -93,10 +172,6 @@ public interface ErrorReportRepository extends JpaRepository<ErrorReport, Long>
     List<ErrorReport> findByStatusAndCategory(@Param("status") ErrorReport.ReportStatus status,
                                               @Param("category") ErrorReport.ReportCategory category);
 
-    /** 특정 기간의 리포트 */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.createdDt BETWEEN :startDate AND :endDate ORDER BY e.createdDt DESC")
-    List<ErrorReport> findByCreatedDtBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-
     // ========================================
     // 통계 메서드들
     // ========================================
@@ -109,17 +184,28 @@ public interface ErrorReportRepository extends JpaRepository<ErrorReport, Long>
     @Query("SELECT e.reportCategory, COUNT(e) FROM ErrorReport e WHERE e.isDeleted = false GROUP BY e.reportCategory")
     List<Object[]> countByReportCategory();
 
+    /** 최대 리포트 ID (신규 리포트 유입 감지용, 삭제 여부 무관) */
+    @Query("SELECT MAX(e.id) FROM ErrorReport e")
+    Long findMaxId();
+
     /** 전체 리포트 개수 */
     long countByIsDeletedFalse();
 
-    /** 오늘 생성된 리포트 */
-    @Query("SELECT COUNT(e) FROM ErrorReport e WHERE e.isDeleted = false AND DATE(e.createdDt) = CURRENT_DATE")
-    long countTodayReports();
+    /**
+     * 구간 [from, to) 생성 리포트 개수 (오늘 생성 건수 등)
+     * - created_dt 범위 조건 → (is_deleted, created_dt) 인덱스 사용
+     */
+    @Query("SELECT COUNT(e) FROM ErrorReport e WHERE e.isDeleted = false AND e.createdDt >= :from AND e.createdDt < :to")
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
     /** 최근 N일간의 공격 탐지 */
     @Query("SELECT COUNT(e) FROM ErrorReport e WHERE e.isDeleted = false AND e.reportCategory = 'ATTACK' AND e.createdDt >= :since")
     long countAttackReportsSince(@Param("since") LocalDateTime since);
 
+    /** 구간 [since, until) 공격 탐지 (집계 테이블의 경계 일자 보정용) */
+    @Query("SELECT COUNT(e) FROM ErrorReport e WHERE e.isDeleted = false AND e.reportCategory = 'ATTACK' AND e.createdDt >= :since AND e.createdDt < :until")
+    long countAttackReportsBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
     // ========================================
     // 기타/특화 조회 메서드들
     // ========================================
@@ -132,9 +218,12 @@ public interface ErrorReportRepository extends JpaRepository<ErrorReport, Long>
     @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportCategory = 'ATTACK' ORDER BY e.createdDt DESC LIMIT :limit")
     List<ErrorReport> findLatestAttackReports(@Param("limit") int limit);
 
-    /** 특정 날짜 리포트 */
-    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND DATE(e.createdDt) = :date ORDER BY e.createdDt DESC")
-    List<ErrorReport> findByCreatedDate(@Param("date") String date);
+    /**
+     * 특정 날짜 리포트
+     * - DATE() 대신 [dayStart, nextDayStart) 범위 조건 → 인덱스 사용
+     */
+    @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.createdDt >= :dayStart AND e.createdDt < :nextDayStart ORDER BY e.createdDt DESC")
+    List<ErrorReport> findByCreatedDate(@Param("dayStart") LocalDateTime dayStart, @Param("nextDayStart") LocalDateTime nextDayStart);
 
     /** 카테고리 + 상태로 최신 리포트 */
     @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportCategory = :category AND e.reportStatus = :status ORDER BY e.createdDt DESC LIMIT :limit")
@@ -153,4 +242,199 @@ public interface ErrorReportRepository extends JpaRepository<ErrorReport, Long>
     /** 제목+미리보기 둘 다 있는 리포트 */
     @Query("SELECT e FROM ErrorReport e WHERE e.isDeleted = false AND e.reportTitle IS NOT NULL AND e.reportTitle != '' AND e.reportPreview IS NOT NULL AND e.reportPreview != '' ORDER BY e.createdDt DESC")
     List<ErrorReport> findAiAnalyzedReports();
+
+    // ========================================
+    // 일괄 변경 메서드들 (set-based UPDATE)
+    // ========================================
+
+    /**
+     * 일괄 변경 대상 ID 조회 (ID 오름차순 keyset)
+     * - 이미 목표 상태인 리포트는 제외
+     */
+    @Query("""
+            SELECT e.id FROM ErrorReport e
+            WHERE e.isDeleted = false
+              AND e.reportStatus <> :target
+              AND (:status IS NULL OR e.reportStatus = :status)
+              AND (:category IS NULL OR e.reportCategory = :category)
+              AND (:startDate IS NULL OR e.createdDt >= :startDate)
+              AND (:endDate IS NULL OR e.createdDt <= :endDate)
+              AND e.id > :afterId
+            ORDER BY e.id ASC
+            LIMIT :limit
+            """)
+    List<Long> findIdsForBulkUpdate(@Param("target") ErrorReport.ReportStatus target,
+                                    @Param("status") ErrorReport.ReportStatus status,
+                                    @Param("category") ErrorReport.ReportCategory category,
+                                    @Param("startDate") LocalDateTime startDate,
+                                    @Param("endDate") LocalDateTime endDate,
+                                    @Param("afterId") Long afterId,
+                                    @Param("limit") int limit);
+
+    /**
+     * 상태 일괄 변경 (삭제/이미 목표 상태인 리포트 제외)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ErrorReport e SET e.reportStatus = :target, e.version = e.version + 1 " +
+            "WHERE e.id IN :ids AND e.isDeleted = false AND e.reportStatus <> :target")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("target") ErrorReport.ReportStatus target);
+
+    /**
+     * 상태 일괄 변경 + 코멘트 추가
+     * - 기존 코멘트가 없으면 comment, 있으면 기존 코멘트 뒤에 appendedComment(줄바꿈 포함)를 덧붙임
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ErrorReport e SET e.reportStatus = :target, e.version = e.version + 1, " +
+            "e.reportComment = CASE WHEN e.reportComment IS NULL THEN :comment " +
+            "ELSE CONCAT(e.reportComment, :appendedComment) END " +
+            "WHERE e.id IN :ids AND e.isDeleted = false AND e.reportStatus <> :target")
+    int updateStatusAndAppendCommentByIds(@Param("ids") Collection<Long> ids,
+                                          @Param("target") ErrorReport.ReportStatus target,
+                                          @Param("comment") String comment,
+                                          @Param("appendedComment") String appendedComment);
+
+    // ========================================
+    // 단건 조건부 변경 메서드들 (버전 확인 + 버전 증가를 UPDATE 한 번으로 처리)
+    // - version이 null이면 버전 확인 생략
+    // - 반환값 0: 리포트 없음/삭제됨 또는 버전 불일치
+    // ========================================
+
+    /** 상태 변경 */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ErrorReport e SET e.reportStatus = :target, e.version = e.version + 1 " +
+            "WHERE e.id = :id AND e.isDeleted = false AND (:version IS NULL OR e.version = :version)")
+    int updateStatusIfVersion(@Param("id") Long id,
+                              @Param("target") ErrorReport.ReportStatus target,
+                              @Param("version") Long version);
+
+    /** 상태 변경 + 코멘트 덧붙이기 */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ErrorReport e SET e.reportStatus = :target, e.version = e.version + 1, " +
+            "e.reportComment = CASE WHEN e.reportComment IS NULL THEN :comment " +
+            "ELSE CONCAT(e.reportComment, :appendedComment) END " +
+            "WHERE e.id = :id AND e.isDeleted = false AND (:version IS NULL OR e.version = :version)")
+    int updateStatusAndAppendCommentIfVersion(@Param("id") Long id,
+                                              @Param("target") ErrorReport.ReportStatus target,
+                                              @Param("comment") String comment,
+                                              @Param("appendedComment") String appendedComment,
+                                              @Param("version") Long version);
+
+    /** 코멘트 교체 */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ErrorReport e SET e.reportComment = :comment, e.version = e.version + 1 " +
+            "WHERE e.id = :id AND e.isDeleted = false AND (:version IS NULL OR e.version = :version)")
+    int updateCommentIfVersion(@Param("id") Long id,
+                               @Param("comment") String comment,
+                               @Param("version") Long version);
+
+    /** 소프트 삭제 */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ErrorReport e SET e.isDeleted = true, e.deletedDt = :deletedDt, e.version = e.version + 1 " +
+            "WHERE e.id = :id AND e.isDeleted = false AND (:version IS NULL OR e.version = :version)")
+    int softDeleteIfVersion(@Param("id") Long id,
+                            @Param("deletedDt") LocalDateTime deletedDt,
+                            @Param("version") Long version);
+
+    // ========================================
+    // 보관(archive) 처리용 메서드들
+    // ========================================
+
+    /**
+     * 보관 대상 리포트 ID (id 순 keyset 배치)
+     * - 소프트 삭제 후 유예 기간이 지난 리포트 (deletedDt가 없으면 createdDt 기준)
+     * - 완료 상태로 보관 기준일보다 오래된 리포트
+     */
+    @Query("""
+            SELECT e.id FROM ErrorReport e
+            WHERE e.id > :afterId
+              AND ((e.isDeleted = true AND COALESCE(e.deletedDt, e.createdDt) < :deletedBefore)
+                   OR (e.isDeleted = false AND e.reportStatus = :archiveStatus AND e.createdDt < :createdBefore))
+            ORDER BY e.id
+            LIMIT :limit
+            """)
+    List<Long> findArchiveCandidateIds(@Param("deletedBefore") LocalDateTime deletedBefore,
+                                       @Param("createdBefore") LocalDateTime createdBefore,
+                                       @Param("archiveStatus") ErrorReport.ReportStatus archiveStatus,
+                                       @Param("afterId") long afterId,
+                                       @Param("limit") int limit);
+
+    /**
+     * 보관 직전 행 잠금 조회 (세그먼트 기록 이후 변경된 행을 걸러내기 위함)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ErrorReport e WHERE e.id IN :ids")
+    List<ErrorReport> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 보관 완료된 리포트 물리 삭제 (집계 트리거가 미삭제 행 개수를 차감)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ErrorReport e WHERE e.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ========================================
+    // 스트리밍 내보내기
+    // ========================================
+
+    /** 내보내기 JDBC fetch size (드라이버가 이 단위로 행을 나눠 받음) */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * 내보내기용 forward-only 스트림 (최신순)
+     * - 반드시 트랜잭션 안에서 소비하고 close 해야 함
+     * - 읽기 전용 힌트로 dirty checking 스냅샷을 만들지 않음
+     * - 조건이 null이면 미적용
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT e FROM ErrorReport e
+            WHERE e.isDeleted = false
+              AND (:status IS NULL OR e.reportStatus = :status)
+              AND (:category IS NULL OR e.reportCategory = :category)
+              AND (:startDate IS NULL OR e.createdDt >= :startDate)
+              AND (:endDate IS NULL OR e.createdDt <= :endDate)
+            ORDER BY e.createdDt DESC, e.id DESC
+            """)
+    Stream<ErrorReport> streamForExport(@Param("status") ErrorReport.ReportStatus status,
+                                        @Param("category") ErrorReport.ReportCategory category,
+                                        @Param("startDate") LocalDateTime startDate,
+                                        @Param("endDate") LocalDateTime endDate);
+
+    // ===============================
+    // 유사 리포트 클러스터링
+    // ===============================
+
+    /**
+     * 클러스터 색인 대상 (afterId 이후 ID 순, 삭제 포함)
+     */
+    @Query("SELECT e FROM ErrorReport e WHERE e.id > :afterId ORDER BY e.id LIMIT :limit")
+    List<ErrorReport> findIndexBatch(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 워터마크가 없을 때(최초 색인, 보존 기간 정리로 서명이 모두 삭제된 경우)의 첫 색인 대상
+     * - 보존 기간 안(createdSince 이후)에 생성된 리포트부터 ID 순 → 만료된 리포트를 다시 색인하지 않음
+     */
+    @Query("SELECT e FROM ErrorReport e WHERE e.createdDt >= :createdSince ORDER BY e.id LIMIT :limit")
+    List<ErrorReport> findFirstIndexBatch(@Param("createdSince") LocalDateTime createdSince, @Param("limit") int limit);
+
+    /**
+     * 클러스터 구성원 페이지 (미삭제, ID 역순 keyset)
+     */
+    @Query("""
+            SELECT e FROM ErrorReport e
+            WHERE e.isDeleted = false
+              AND e.id IN (SELECT s.reportId FROM ErrorReportSignature s WHERE s.clusterId = :clusterId)
+              AND (:beforeId IS NULL OR e.id < :beforeId)
+            ORDER BY e.id DESC
+            LIMIT :limit
+            """)
+    List<ErrorReport> findClusterMembers(@Param("clusterId") Long clusterId,
+                                         @Param("beforeId") Long beforeId,
+                                         @Param("limit") int limit);
 }
@@ -0,0 +1,40 @@
+package com.rookies.log2doc.repository;
+
+import com.rookies.log2doc.entity.ErrorReportSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ErrorReportSignature Repository
+ * - 서명/밴드 INSERT는 ErrorReportClusterService에서 JDBC 배치로 처리
+ */
+public interface ErrorReportSignatureRepository extends JpaRepository<ErrorReportSignature, Long> {
+
+    /** 마지막으로 색인된 리포트 ID (증분 색인 워터마크) */
+    @Query("SELECT MAX(s.reportId) FROM ErrorReportSignature s")
+    Long findMaxReportId();
+
+    /**
+     * 클러스터별 활성(미삭제, 미보관) 구성원 수와 대표 리포트 ID(가장 먼저 배정된 활성 리포트)
+     * - [clusterId, count, representativeId]
+     */
+    @Query("SELECT s.clusterId, COUNT(e), MIN(e.id) FROM ErrorReportSignature s, ErrorReport e " +
+            "WHERE e.id = s.reportId AND e.isDeleted = false AND s.clusterId IN :clusterIds " +
+            "GROUP BY s.clusterId")
+    List<Object[]> countActiveMembers(@Param("clusterIds") Collection<Long> clusterIds);
+
+    /** 보존 기간이 지난 서명 중 가장 큰 리포트 ID */
+    @Query("SELECT MAX(s.reportId) FROM ErrorReportSignature s WHERE s.createdDt < :cutoff")
+    Long findMaxReportIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /** 리포트 ID 이하 서명 삭제 (청크 단위) */
+    @Modifying
+    @Query(value = "DELETE FROM error_report_signature WHERE report_id <= :maxReportId LIMIT :limit", nativeQuery = true)
+    int deleteUpTo(@Param("maxReportId") Long maxReportId, @Param("limit") int limit);
+}
@@ -34,13 +34,15 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     List<RefreshToken> findByUserAndIsRevokedFalse(User user);
     
     /**
-     * 만료된 토큰들 삭제
-     * @param now 현재 시간
+     * 만료된 토큰 삭제 (청크 단위, expiry_date 인덱스 순)
+     * @param now 기준 시간
+     * @param limit 최대 삭제 건수
      * @return 삭제된 토큰 수
      */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :now")
-    int deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Query(value = "DELETE FROM refresh_tokens WHERE expiry_date < :now ORDER BY expiry_date LIMIT :limit",
+            nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
     
     /**
      * 사용자의 모든 토큰 무효화
@@ -0,0 +1,529 @@
+package com.rookies.log2doc.scheduler;
+
+import com.rookies.log2doc.config.FileStorageConfig;
+import com.rookies.log2doc.dto.DocumentFileKeyDTO;
+import com.rookies.log2doc.repository.DocumentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 문서 저장소(NFS)와 documents 테이블 정합성 점검 스케줄러
+ * - 고아 파일: 디스크에는 있지만 documents 행이 없는 파일 → 보고 또는 격리(.quarantine)
+ * - 누락 파일: documents 행은 있지만 디스크에 파일이 없는 문서 → 보고
+ * - 스테이징 잔여 파일: 업로드 도중 프로세스가 죽어 남은 .staging 파일 → 삭제
+ *
+ * 처리 방식
+ * - 클러스터 전체에서 한 노드만 실행 (RedisLeaseLock, 파티션 완료마다 임대 연장)
+ *   → 락을 잃으면 남은 파티션은 처리하지 않고, 진행 중인 파티션도 격리(이동) 없이 보고만 함
+ * - 파티션을 partitions-per-pass 개씩 묶어 묶음마다 저장소 디렉토리를 한 번 나열하고,
+ *   그 묶음에 속한 파일명만 UUID 앞자리(prefix)별로 분류해 보관 (나열한 항목 수도 처리량 제한에 포함)
+ *   → 메모리에는 한 묶음의 파일명만 유지 (전체 목록을 올리지 않음), 나열 횟수 = 파티션 수 / 묶음 크기
+ * - 파티션마다 파일 목록(정렬)과 DB 키(filePath 정렬, keyset 배치)를 merge-join 하여 병렬 처리
+ *   → DB 행은 배치 단위로만 메모리에 올림, 묶음 처리가 끝나면 파일 목록 해제
+ * - 완료한 파티션은 Redis에 기록 → 중단 후 재실행 시 이어서 처리 (완료 파티션의 파일명은 보관하지 않음)
+ * - 초당 처리 파일 수 제한으로 운영 NFS I/O 보호 (디렉토리 나열, 고아/스테이징 파일 수정 시각 조회 모두 포함)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentStoreReconciler {
+
+    private final DocumentRepository documentRepository;
+    private final FileStorageConfig fileStorageConfig;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLeaseLock redisLeaseLock;
+    private final MeterRegistry meterRegistry;
+
+    private static final String COMPLETED_PARTITIONS_KEY = "document:reconcile:completed";
+    private static final String LOCK_NAME = "document-reconcile";
+    /** 디렉토리 나열 시 처리량 제한에 반영하는 단위 (항목 수) */
+    private static final int LISTING_PERMIT_BATCH = 100;
+    /** 디렉토리 나열 중 락 임대를 연장하는 주기 (항목 수) */
+    private static final int LISTING_RENEW_INTERVAL = 10_000;
+    private static final Duration COMPLETED_PARTITIONS_TTL = Duration.ofDays(2);
+    private static final String QUARANTINE_DIR = ".quarantine";
+    private static final String HEX = "0123456789abcdef";
+
+    /** 저장 파일명 형식: UUID + (선택) 확장자 */
+    private static final Pattern STORED_FILE_NAME = Pattern.compile(
+            "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(\\..*)?$");
+    private static final int UUID_LENGTH = 36;
+
+    @Value("${file.reconcile.enabled:true}")
+    private boolean enabled;
+
+    /** REPORT: 로그/메트릭만, QUARANTINE: 고아 파일을 .quarantine 으로 이동 */
+    @Value("${file.reconcile.mode:REPORT}")
+    private String mode;
+
+    @Value("${file.reconcile.parallelism:4}")
+    private int parallelism;
+
+    /** 파티션 prefix 길이 (1 → 16개, 2 → 256개 파티션) */
+    @Value("${file.reconcile.prefix-length:2}")
+    private int prefixLength;
+
+    /** 디렉토리 한 번 나열로 처리할 파티션 수 (메모리에 올리는 파일명 범위) */
+    @Value("${file.reconcile.partitions-per-pass:16}")
+    private int partitionsPerPass;
+
+    @Value("${file.reconcile.batch-size:500}")
+    private int batchSize;
+
+    @Value("${file.reconcile.max-files-per-second:500}")
+    private int maxFilesPerSecond;
+
+    /** 업로드 진행 중인 파일 오탐 방지를 위한 유예 시간 */
+    @Value("${file.reconcile.grace-minutes:60}")
+    private long graceMinutes;
+
+    /** 클러스터 락 임대 기간 (파티션 완료마다 연장) */
+    @Value("${file.reconcile.lock-ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 정기 점검 실행 (기본: 매일 03:30)
+     */
+    @Scheduled(cron = "${file.reconcile.cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        if (!enabled) {
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * 저장소 점검 실행
+     * - 같은 인스턴스에서 동시에 두 번 실행되지 않음
+     * - 다른 노드가 실행 중이면(락 보유) 건너뜀
+     */
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("저장소 점검이 이미 실행 중입니다.");
+            return;
+        }
+
+        try {
+            Optional<RedisLeaseLock.Lease> acquired;
+            try {
+                acquired = redisLeaseLock.tryAcquire(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+            } catch (Exception e) {
+                log.warn("저장소 점검 락 획득 실패 - 이번 실행 건너뜀: {}", e.getMessage());
+                return;
+            }
+            if (acquired.isEmpty()) {
+                log.info("저장소 점검 건너뜀 - 다른 노드에서 실행 중");
+                return;
+            }
+
+            try (RedisLeaseLock.Lease lease = acquired.get()) {
+                reconcileWithLease(lease);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void reconcileWithLease(RedisLeaseLock.Lease lease) {
+        long startNanos = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, parallelism), reconcileThreadFactory());
+        LeaseGuard leaseGuard = new LeaseGuard(lease);
+
+        try {
+            Set<String> completed = loadCompletedPartitions();
+            List<String> partitions = buildPartitions().stream()
+                    .filter(p -> !completed.contains(p))
+                    .toList();
+
+            log.info("저장소 점검 시작 - 대상 파티션: {}개 (이미 완료: {}개), 모드: {}",
+                    partitions.size(), completed.size(), mode);
+
+            RateLimiter rateLimiter = new RateLimiter(maxFilesPerSecond);
+            Path storageDir = fileStorageConfig.getActiveStoragePath();
+            int passSize = Math.max(1, partitionsPerPass);
+
+            int orphans = 0;
+            int missing = 0;
+            int failedPartitions = 0;
+            for (int from = 0; from < partitions.size() && !leaseGuard.isLost(); from += passSize) {
+                List<String> group = partitions.subList(from, Math.min(from + passSize, partitions.size()));
+                Map<String, TreeMap<String, String>> filesByPartition =
+                        listStoredFiles(storageDir, group, rateLimiter, leaseGuard);
+
+                List<Future<PartitionResult>> futures = new ArrayList<>(group.size());
+                for (String partition : group) {
+                    TreeMap<String, String> partitionFiles = filesByPartition.remove(partition);
+                    futures.add(pool.submit(() ->
+                            reconcilePartition(partition, storageDir, partitionFiles, rateLimiter, leaseGuard)));
+                }
+
+                for (Future<PartitionResult> future : futures) {
+                    try {
+                        PartitionResult result = future.get();
+                        orphans += result.orphans;
+                        missing += result.missing;
+                    } catch (Exception e) {
+                        failedPartitions++;
+                        log.error("저장소 점검 파티션 처리 실패", e);
+                    }
+                }
+            }
+
+            if (leaseGuard.isLost()) {
+                log.warn("저장소 점검 중단 - 락 상실 (고아 파일: {}개, 누락 파일: {}개까지 확인)", orphans, missing);
+                return;
+            }
+
+            cleanupStaleStagingFiles(rateLimiter);
+
+            // 모든 파티션 완료 시 다음 주기를 위해 진행 상태 초기화
+            if (failedPartitions == 0) {
+                clearCompletedPartitions();
+            }
+
+            log.info("저장소 점검 완료 - 고아 파일: {}개, 누락 파일: {}개, 실패 파티션: {}개",
+                    orphans, missing, failedPartitions);
+
+        } catch (IOException e) {
+            log.error("저장소 디렉토리 나열 실패", e);
+        } finally {
+            pool.shutdownNow();
+            meterRegistry.timer("document.reconcile.duration")
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 저장소 디렉토리를 한 번 나열하여 이번 묶음 파티션별 파일 목록(UUID → 저장 파일명, 정렬) 생성
+     * - 묶음에 속하지 않는 파티션(완료했거나 다른 묶음)의 파일은 보관하지 않음
+     * - 나열한 모든 항목을 처리량 제한에 반영, 나열이 길어지면 중간중간 락 임대 연장
+     */
+    private Map<String, TreeMap<String, String>> listStoredFiles(Path storageDir, List<String> partitions,
+                                                                 RateLimiter rateLimiter, LeaseGuard leaseGuard)
+            throws IOException {
+        Map<String, TreeMap<String, String>> filesByPartition = new HashMap<>();
+        for (String partition : partitions) {
+            filesByPartition.put(partition, new TreeMap<>());
+        }
+
+        int partitionLength = partitions.isEmpty() ? 0 : partitions.get(0).length();
+        int listed = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(storageDir)) {
+            for (Path path : stream) {
+                if (++listed % LISTING_PERMIT_BATCH == 0) {
+                    rateLimiter.acquire(LISTING_PERMIT_BATCH);
+                }
+                if (listed % LISTING_RENEW_INTERVAL == 0 && !leaseGuard.renew()) {
+                    break;
+                }
+                String name = path.getFileName().toString();
+                if (!STORED_FILE_NAME.matcher(name).matches()) {
+                    continue;
+                }
+                TreeMap<String, String> files = filesByPartition.get(name.substring(0, partitionLength));
+                // 이번 묶음에 속한 파티션의 파일만 보관
+                if (files != null) {
+                    files.put(name.substring(0, UUID_LENGTH), name);
+                }
+            }
+        }
+        rateLimiter.acquire(listed % LISTING_PERMIT_BATCH);
+        return filesByPartition;
+    }
+
+    /**
+     * 파티션 단위 merge-join
+     * - 디스크: prefix로 시작하는 파일명을 UUID 기준 정렬 (listStoredFiles 결과)
+     * - DB: filePath 범위 [prefix, nextPrefix) 를 batchSize 단위로 정렬 조회
+     */
+    private PartitionResult reconcilePartition(String prefix, Path storageDir, TreeMap<String, String> files,
+                                               RateLimiter rateLimiter, LeaseGuard leaseGuard) {
+        PartitionResult result = new PartitionResult();
+        if (leaseGuard.isLost()) {
+            return result;
+        }
+        Instant graceLimit = Instant.now().minus(Duration.ofMinutes(graceMinutes));
+
+        String upper = nextPrefix(prefix);
+        Iterator<Map.Entry<String, String>> fileIterator = files.entrySet().iterator();
+        Map.Entry<String, String> currentFile = fileIterator.hasNext() ? fileIterator.next() : null;
+
+        String after = prefix;
+
+        while (true) {
+            List<DocumentFileKeyDTO> batch = documentRepository.findFileKeysAfter(after, upper, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            for (DocumentFileKeyDTO key : batch) {
+                // DB 키보다 앞선 파일 → 대응하는 행 없음 (고아)
+                while (currentFile != null && currentFile.getKey().compareTo(key.getFilePath()) < 0) {
+                    handleOrphan(storageDir.resolve(currentFile.getValue()), graceLimit, result, rateLimiter, leaseGuard);
+                    currentFile = fileIterator.hasNext() ? fileIterator.next() : null;
+                }
+
+                String expectedName = key.getFilePath() + getFileExtension(key.getFileName());
+                if (currentFile != null && currentFile.getKey().equals(key.getFilePath())) {
+                    if (!currentFile.getValue().equals(expectedName)) {
+                        // UUID는 같지만 확장자가 다른 경우 → 행 기준 누락 + 파일 기준 고아
+                        handleMissing(key, expectedName, result);
+                        handleOrphan(storageDir.resolve(currentFile.getValue()), graceLimit, result, rateLimiter, leaseGuard);
+                    }
+                    currentFile = fileIterator.hasNext() ? fileIterator.next() : null;
+                } else {
+                    handleMissing(key, expectedName, result);
+                }
+            }
+
+            after = batch.get(batch.size() - 1).getFilePath();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        // DB 키를 모두 소진한 뒤 남은 파일 → 고아
+        while (currentFile != null) {
+            handleOrphan(storageDir.resolve(currentFile.getValue()), graceLimit, result, rateLimiter, leaseGuard);
+            currentFile = fileIterator.hasNext() ? fileIterator.next() : null;
+        }
+
+        // 락을 잃었으면 완료로 기록하지 않음 (다른 노드가 다시 처리)
+        if (!leaseGuard.renew()) {
+            return result;
+        }
+        markPartitionCompleted(prefix);
+        log.debug("파티션 {} 점검 완료 - 파일: {}개, 고아: {}개, 누락: {}개",
+                prefix, files.size(), result.orphans, result.missing);
+        return result;
+    }
+
+    /**
+     * 고아 파일 처리 (유예 시간 내 파일은 업로드 진행 중일 수 있어 건너뜀)
+     * - 락을 잃었으면 격리(이동)하지 않음 → 두 노드가 같은 파일을 동시에 옮기지 않음
+     * - 수정 시각 조회도 NFS 요청이므로 처리량 제한에 포함
+     */
+    private void handleOrphan(Path path, Instant graceLimit, PartitionResult result,
+                              RateLimiter rateLimiter, LeaseGuard leaseGuard) {
+        try {
+            rateLimiter.acquire(1);
+            if (Files.getLastModifiedTime(path).toInstant().isAfter(graceLimit)) {
+                return;
+            }
+
+            result.orphans++;
+            meterRegistry.counter("document.reconcile.orphans").increment();
+
+            if ("QUARANTINE".equalsIgnoreCase(mode) && !leaseGuard.isLost()) {
+                Path quarantineDir = fileStorageConfig.getActiveStoragePath().resolve(QUARANTINE_DIR);
+                Files.createDirectories(quarantineDir);
+                Files.move(path, quarantineDir.resolve(path.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                meterRegistry.counter("document.reconcile.quarantined").increment();
+                log.warn("고아 파일 격리: {}", path);
+            } else {
+                log.warn("고아 파일 발견: {}", path);
+            }
+        } catch (IOException e) {
+            log.error("고아 파일 처리 실패: {}", path, e);
+        }
+    }
+
+    /** 유예 시간이 지난 스테이징 파일 삭제 (정상 업로드는 커밋 직전에 이동되어 남지 않음) */
+    private void cleanupStaleStagingFiles(RateLimiter rateLimiter) {
+        Instant graceLimit = Instant.now().minus(Duration.ofMinutes(graceMinutes));
+        int deleted = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(fileStorageConfig.getStagingPath())) {
+            for (Path path : stream) {
+                rateLimiter.acquire(1);
+                if (Files.isRegularFile(path) && Files.getLastModifiedTime(path).toInstant().isBefore(graceLimit)) {
+                    Files.deleteIfExists(path);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("스테이징 파일 정리 실패", e);
+        }
+        if (deleted > 0) {
+            log.info("스테이징 잔여 파일 {}개 삭제", deleted);
+        }
+    }
+
+    /** 누락 파일 처리 (DB 행은 자동 변경하지 않고 보고만) */
+    private void handleMissing(DocumentFileKeyDTO key, String expectedName, PartitionResult result) {
+        result.missing++;
+        meterRegistry.counter("document.reconcile.missing").increment();
+        log.warn("누락 파일 발견 - 문서 ID: {}, 기대 파일명: {}", key.getId(), expectedName);
+    }
+
+    /** prefix 길이에 맞는 전체 파티션 목록 생성 (예: 00 ~ ff) */
+    private List<String> buildPartitions() {
+        List<String> partitions = new ArrayList<>();
+        partitions.add("");
+        for (int i = 0; i < Math.max(1, prefixLength); i++) {
+            List<String> next = new ArrayList<>(partitions.size() * HEX.length());
+            for (String p : partitions) {
+                for (char c : HEX.toCharArray()) {
+                    next.add(p + c);
+                }
+            }
+            partitions = next;
+        }
+        return partitions;
+    }
+
+    /** prefix 바로 다음 범위의 시작값 (마지막 문자 +1) */
+    private String nextPrefix(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+
+    /** 파일 확장자 추출 (DocumentService와 동일 규칙) */
+    private String getFileExtension(String filename) {
+        return filename != null && filename.contains(".")
+                ? filename.substring(filename.lastIndexOf("."))
+                : "";
+    }
+
+    // ===================================
+    // 재개(resume) 상태 관리 - Redis
+    // ===================================
+
+    private Set<String> loadCompletedPartitions() {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(COMPLETED_PARTITIONS_KEY);
+            return members != null ? members : Set.of();
+        } catch (Exception e) {
+            log.warn("저장소 점검 진행 상태 조회 실패 - 처음부터 실행: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private void markPartitionCompleted(String prefix) {
+        try {
+            redisTemplate.opsForSet().add(COMPLETED_PARTITIONS_KEY, prefix);
+            redisTemplate.expire(COMPLETED_PARTITIONS_KEY, COMPLETED_PARTITIONS_TTL);
+        } catch (Exception e) {
+            log.warn("저장소 점검 진행 상태 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void clearCompletedPartitions() {
+        try {
+            redisTemplate.delete(COMPLETED_PARTITIONS_KEY);
+        } catch (Exception e) {
+            log.warn("저장소 점검 진행 상태 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private ThreadFactory reconcileThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "Doc-Reconcile-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 파티션 작업이 공유하는 락 임대 상태
+     * - 파티션 완료마다 임대 연장, 한 번이라도 실패하면 이후 격리/완료 기록 중단
+     */
+    private static class LeaseGuard {
+        private final RedisLeaseLock.Lease lease;
+        private final AtomicBoolean lost = new AtomicBoolean(false);
+
+        LeaseGuard(RedisLeaseLock.Lease lease) {
+            this.lease = lease;
+        }
+
+        boolean isLost() {
+            return lost.get();
+        }
+
+        boolean renew() {
+            if (lost.get()) {
+                return false;
+            }
+            boolean held;
+            try {
+                held = lease.extend();
+            } catch (Exception e) {
+                held = false;
+            }
+            if (!held && lost.compareAndSet(false, true)) {
+                log.warn("저장소 점검 락 연장 실패 - 남은 작업 중단");
+            }
+            return held;
+        }
+    }
+
+    /** 파티션 처리 결과 */
+    private static class PartitionResult {
+        private int orphans;
+        private int missing;
+    }
+
+    /**
+     * 단순 처리량 제한기 (초당 permits 개)
+     * - 모든 파티션 작업이 공유하여 전체 NFS 조회 속도를 제한
+     */
+    private static class RateLimiter {
+        private final long nanosPerPermit;
+        private long nextFreeNanos = System.nanoTime();
+
+        RateLimiter(int permitsPerSecond) {
+            this.nanosPerPermit = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0;
+        }
+
+        void acquire(int permits) {
+            if (nanosPerPermit == 0 || permits <= 0) {
+                return;
+            }
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long start = Math.max(now, nextFreeNanos);
+                nextFreeNanos = start + nanosPerPermit * permits;
+                waitNanos = start - now;
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
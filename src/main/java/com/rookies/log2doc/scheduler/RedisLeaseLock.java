@@ -0,0 +1,90 @@
+package com.rookies.log2doc.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 임대(lease) 락
+ * - 여러 노드에서 같은 스케줄 작업이 동시에 실행되지 않도록 한 노드만 락을 획득 (SET NX PX)
+ * - 락 값은 획득마다 고유한 토큰 → 연장/해제는 토큰이 일치할 때만 수행 (Lua, 다른 노드의 락을 건드리지 않음)
+ * - 작업 노드가 죽어도 TTL이 지나면 자동 해제
+ * - 긴 작업은 중간중간 extend()로 임대 기간 연장, 연장 실패(락 상실) 시 작업 중단
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisLeaseLock {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String LOCK_PREFIX = "scheduler:lock:";
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1]) else return 0 end", Long.class);
+
+    /**
+     * 락 획득 시도
+     *
+     * @param name 락 이름 (작업 이름)
+     * @param ttl  임대 기간
+     * @return 획득한 임대, 다른 노드가 보유 중이면 empty
+     */
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String key = LOCK_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(new Lease(key, token, ttl)) : Optional.empty();
+    }
+
+    /**
+     * 획득한 임대 (try-with-resources 로 해제)
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+        private final Duration ttl;
+
+        private Lease(String key, String token, Duration ttl) {
+            this.key = key;
+            this.token = token;
+            this.ttl = ttl;
+        }
+
+        /**
+         * 임대 기간 연장 (처음 획득 시의 TTL로 재설정)
+         *
+         * @return 아직 이 노드가 락을 보유 중이면 true
+         */
+        public boolean extend() {
+            Long result = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+            return result != null && result > 0;
+        }
+
+        /**
+         * 락 해제 (이미 만료되었거나 다른 노드가 보유 중이면 무시)
+         */
+        @Override
+        public void close() {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            } catch (Exception e) {
+                log.warn("스케줄러 락 해제 실패 (TTL 만료로 해제됨) - {}: {}", key, e.getMessage());
+            }
+        }
+    }
+}
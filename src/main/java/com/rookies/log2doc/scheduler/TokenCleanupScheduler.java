@@ -1,62 +1,139 @@
 package com.rookies.log2doc.scheduler;
 
 import com.rookies.log2doc.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
- * 만료된 토큰을 정리하는 스케줄러
- * 매일 자정에 실행되어 만료된 토큰들을 삭제
+ * 만료된 리프레시 토큰 정리 스케줄러
+ * - 클러스터 전체에서 한 노드만 실행 (RedisLeaseLock)
+ * - expiry_date 인덱스 순으로 청크 단위 삭제, 청크마다 별도 트랜잭션 + 휴지 시간
+ *   → 한 번의 대량 DELETE로 넓은 범위를 오래 잠그지 않음
+ * - 청크마다 락 임대 기간을 연장하고, 락을 잃으면 즉시 중단
+ * - 실행마다 삭제 건수/소요 시간 기록
+ *
+ * 시간 복잡도: O(n) - 삭제해야 할 토큰 수에 비례 (청크당 인덱스 범위 스캔)
+ * 공간 복잡도: O(1) - 고정된 메모리 사용
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TokenCleanupScheduler {
-    
+
     private final RefreshTokenRepository refreshTokenRepository;
-    
+    private final RedisLeaseLock redisLeaseLock;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private static final String LOCK_NAME = "refresh-token-purge";
+
+    @Value("${app.jwt.refresh.purge.enabled:true}")
+    private boolean enabled;
+
+    /** 청크당 최대 삭제 건수 */
+    @Value("${app.jwt.refresh.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    /** 청크 사이 휴지 시간 (ms) */
+    @Value("${app.jwt.refresh.purge.pause-ms:100}")
+    private long pauseMs;
+
+    /** 락 임대 기간 (청크마다 연장) */
+    @Value("${app.jwt.refresh.purge.lock-ttl-seconds:300}")
+    private long lockTtlSeconds;
+
+    private Counter deletedCounter;
+    private Counter skippedCounter;
+    private Timer durationTimer;
+
+    @PostConstruct
+    public void init() {
+        deletedCounter = Counter.builder("auth.refresh-token.purge.deleted")
+                .description("정리 작업으로 삭제된 만료 리프레시 토큰 수")
+                .register(meterRegistry);
+        skippedCounter = Counter.builder("auth.refresh-token.purge.skipped")
+                .description("다른 노드가 락을 보유 중이어서 건너뛴 정리 작업 수")
+                .register(meterRegistry);
+        durationTimer = Timer.builder("auth.refresh-token.purge.duration")
+                .description("만료 리프레시 토큰 정리 작업 소요 시간")
+                .register(meterRegistry);
+    }
+
     /**
-     * 매일 자정에 만료된 토큰 정리
-     * 시간 복잡도: O(n) - 삭제해야 할 토큰 수에 비례
-     * 공간 복잡도: O(1) - 고정된 메모리 사용
+     * 만료된 리프레시 토큰 정리 (기본 매시간)
      */
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정 실행
-    @Transactional
-    public void cleanupExpiredTokens() {
-        log.info("만료된 토큰 정리 작업 시작...");
-        
+    @Scheduled(cron = "${app.jwt.refresh.purge.cron:0 15 * * * *}")
+    public void purgeExpiredTokens() {
+        if (!enabled) {
+            return;
+        }
+
+        Optional<RedisLeaseLock.Lease> acquired;
         try {
-            int deletedCount = refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
-            log.info("만료된 토큰 정리 완료: {}개 삭제", deletedCount);
+            acquired = redisLeaseLock.tryAcquire(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
         } catch (Exception e) {
-            log.error("만료된 토큰 정리 중 오류 발생", e);
+            log.warn("만료 토큰 정리 락 획득 실패 - 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+        if (acquired.isEmpty()) {
+            skippedCounter.increment();
+            log.debug("만료 토큰 정리 건너뜀 - 다른 노드에서 실행 중");
+            return;
+        }
+
+        try (RedisLeaseLock.Lease lease = acquired.get()) {
+            purge(lease);
         }
     }
-    
-    /**
-     * 매시간 실행되는 가벼운 정리 작업
-     * 시스템 부하를 줄이기 위해 소량씩 처리
-     */
-    @Scheduled(fixedRate = 3600000) // 1시간마다 실행
-    @Transactional
-    public void lightweightCleanup() {
-        log.debug("가벼운 토큰 정리 작업 실행");
-        
+
+    private void purge(RedisLeaseLock.Lease lease) {
+        LocalDateTime cutoff = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        long total = 0;
+        int chunks = 0;
+
         try {
-            // 1시간 전에 만료된 토큰들만 삭제
-            LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-            int deletedCount = refreshTokenRepository.deleteExpiredTokens(oneHourAgo);
-            
-            if (deletedCount > 0) {
-                log.info("가벼운 토큰 정리 완료: {}개 삭제", deletedCount);
-            }
+            int deleted;
+            do {
+                Integer result = transactionTemplate.execute(status ->
+                        refreshTokenRepository.deleteExpiredChunk(cutoff, chunkSize));
+                deleted = result != null ? result : 0;
+                total += deleted;
+                chunks++;
+                deletedCounter.increment(deleted);
+
+                if (deleted < chunkSize) {
+                    break;
+                }
+                if (!lease.extend()) {
+                    log.warn("만료 토큰 정리 중단 - 락 상실 (삭제 {}건까지 진행)", total);
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            } while (true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("만료 토큰 정리 중단 - 인터럽트 (삭제 {}건까지 진행)", total);
         } catch (Exception e) {
-            log.error("가벼운 토큰 정리 중 오류 발생", e);
+            log.error("만료 토큰 정리 중 오류 발생 (삭제 {}건까지 진행)", total, e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            durationTimer.record(Duration.ofNanos(elapsedNanos));
+            if (total > 0) {
+                log.info("만료 토큰 정리 완료: {}개 삭제, 청크 {}개, {}ms", total, chunks, elapsedNanos / 1_000_000);
+            }
         }
     }
-}
\ No newline at end of file
+}
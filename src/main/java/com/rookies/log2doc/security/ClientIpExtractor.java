@@ -0,0 +1,31 @@
+package com.rookies.log2doc.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 IP 추출 유틸리티
+ * - 프록시 헤더(X-Forwarded-For 첫 번째 값 → X-Real-IP) 우선, 없으면 소켓 원격 주소
+ * - 로그인 기록, 고유 IP 집계 등 IP를 사용하는 모든 곳에서 같은 규칙으로 사용
+ */
+public final class ClientIpExtractor {
+
+    private ClientIpExtractor() {
+    }
+
+    /**
+     * 요청의 클라이언트 IP 주소 추출
+     */
+    public static String extract(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+
+        return request.getRemoteAddr();
+    }
+}
@@ -1,13 +1,14 @@
 package com.rookies.log2doc.security.jwt;
 
+import com.rookies.log2doc.security.services.UserDetailsImpl;
 import com.rookies.log2doc.security.services.UserDetailsServiceImpl;
+import com.rookies.log2doc.service.TokenVersionService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -19,6 +20,8 @@ import java.io.IOException;
 
 /**
  * JWT 토큰 검증 필터
+ * - 토큰 서명 검증 + 클레임 추출은 요청당 한 번, 사용자 정보는 클레임으로 구성 (인증 경로에서 DB 조회 없음)
+ * - 폐기 여부는 Redis 토큰 버전으로 확인 (TokenVersionService)
  */
 @Component
 @RequiredArgsConstructor
@@ -27,21 +30,25 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     
     private final JwtUtils jwtUtils;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenVersionService tokenVersionService;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (jwt != null) {
+                // 서명 검증 + 클레임 추출을 한 번에 처리, 클레임은 인증 객체에 보관
+                jwtUtils.parseAndVerify(jwt).ifPresent(claims -> {
+                    UserDetails userDetails = resolvePrincipal(claims);
+                    if (userDetails == null) {
+                        return;
+                    }
+                    JwtAuthenticationToken authentication = new JwtAuthenticationToken(userDetails, claims);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
             }
         } catch (Exception e) {
             log.error("사용자 인증 설정 중 오류 발생: {}", e.getMessage());
@@ -50,6 +57,34 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * JWT 클레임으로 인증 사용자 정보 구성
+     * - 사용자 정보 클레임이 있으면 Redis 토큰 버전만 확인 (DB 조회 없음)
+     * - 이전 형식 토큰(클레임 없음) 또는 Redis 장애 시 DB 조회로 대체 (활성 사용자 여부 확인)
+     *
+     * @param claims 검증된 JWT 클레임
+     * @return 사용자 정보 (폐기된 토큰이면 null)
+     */
+    private UserDetails resolvePrincipal(JwtClaims claims) {
+        if (!claims.hasPrincipalClaims()) {
+            return userDetailsService.loadUserByUsername(claims.subject());
+        }
+
+        boolean current;
+        try {
+            current = tokenVersionService.isCurrent(claims.userId(), claims.tokenVersion());
+        } catch (Exception e) {
+            log.warn("토큰 버전 확인 실패 - DB 조회로 대체: {}", e.getMessage());
+            return userDetailsService.loadUserByUsername(claims.subject());
+        }
+
+        if (!current) {
+            log.debug("폐기된 액세스 토큰 - 사용자 ID: {}, 토큰 버전: {}", claims.userId(), claims.tokenVersion());
+            return null;
+        }
+        return UserDetailsImpl.fromClaims(claims);
+    }
+
     /**
      * Authorization 헤더에서 JWT 토큰 추출
      * @param request HTTP 요청 객체
@@ -0,0 +1,37 @@
+package com.rookies.log2doc.security.jwt;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+/**
+ * JWT로 인증된 요청의 인증 객체
+ * - 필터에서 검증한 클레임을 함께 보관 → 컨트롤러/서비스가 토큰을 다시 파싱하지 않음
+ */
+public class JwtAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private final JwtClaims claims;
+
+    public JwtAuthenticationToken(UserDetails principal, JwtClaims claims) {
+        super(principal, null, principal.getAuthorities());
+        this.claims = claims;
+    }
+
+    public JwtClaims getClaims() {
+        return claims;
+    }
+
+    /**
+     * 현재 요청의 JWT 클레임 (JWT 인증이 아니면 empty)
+     */
+    public static Optional<JwtClaims> currentClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+            return Optional.of(jwtAuthentication.getClaims());
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.rookies.log2doc.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (불변)
+ * - AuthTokenFilter가 요청당 한 번 검증/파싱한 결과를 인증 객체(JwtAuthenticationToken)에 보관
+ * - 서비스는 토큰 문자열을 다시 파싱하지 않고 이 값을 사용
+ *
+ * @param subject      사용자명
+ * @param userId       사용자 ID (uid, 이전 형식 토큰이면 null)
+ * @param roleName     직급 (role)
+ * @param roleLevel    직급 레벨 (lvl)
+ * @param tokenVersion 발급 시점 토큰 버전 (ver)
+ * @param issuedAt     발급 시각
+ * @param expiration   만료 시각
+ */
+public record JwtClaims(String subject,
+                        Long userId,
+                        String roleName,
+                        Integer roleLevel,
+                        long tokenVersion,
+                        Date issuedAt,
+                        Date expiration) {
+
+    public static final String USER_ID = "uid";
+    public static final String ROLE_NAME = "role";
+    public static final String ROLE_LEVEL = "lvl";
+    public static final String TOKEN_VERSION = "ver";
+
+    static JwtClaims from(Claims claims) {
+        Number userId = claims.get(USER_ID, Number.class);
+        Number roleLevel = claims.get(ROLE_LEVEL, Number.class);
+        Number tokenVersion = claims.get(TOKEN_VERSION, Number.class);
+        return new JwtClaims(
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                claims.get(ROLE_NAME, String.class),
+                roleLevel != null ? roleLevel.intValue() : null,
+                tokenVersion != null ? tokenVersion.longValue() : 0L,
+                claims.getIssuedAt(),
+                claims.getExpiration());
+    }
+
+    /**
+     * 사용자 정보 클레임(uid, role, lvl) 포함 여부
+     * - false면 이전 형식 토큰 → 사용자 정보를 DB에서 조회
+     */
+    public boolean hasPrincipalClaims() {
+        return userId != null && roleName != null && roleLevel != null;
+    }
+
+    /**
+     * 만료까지 남은 시간 (밀리초)
+     */
+    public long remainingMillis() {
+        return expiration != null ? expiration.getTime() - System.currentTimeMillis() : 0L;
+    }
+}
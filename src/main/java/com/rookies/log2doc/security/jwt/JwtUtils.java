@@ -1,19 +1,24 @@
 package com.rookies.log2doc.security.jwt;
 
+import com.rookies.log2doc.entity.User;
+import com.rookies.log2doc.security.services.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
+ * - 서명 키와 JwtParser(불변, 스레드 안전)는 시작 시 한 번만 생성
+ * - 요청 인증은 parseAndVerify 한 번으로 서명 검증 + 클레임 추출
  */
 @Component
 @Slf4j
@@ -25,31 +30,55 @@ public class JwtUtils {
     @Value("${app.jwt.expiration}")
     private int jwtExpirationMs;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
     
     /**
-     * JWT 토큰 생성
-     * @param authentication 인증 정보
+     * JWT 토큰 생성 (로그인)
+     * @param userDetails 인증된 사용자 정보
+     * @param tokenVersion 사용자의 현재 토큰 버전 (TokenVersionService)
      * @return JWT 토큰
      */
-    public String generateJwtToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userPrincipal.getUsername());
+    public String generateJwtToken(UserDetailsImpl userDetails, long tokenVersion) {
+        return buildToken(userDetails.getUsername(), userDetails.getId(),
+                userDetails.getRoleName(), userDetails.getRoleId(), tokenVersion);
     }
     
     /**
-     * 사용자명으로 JWT 토큰 생성
-     * @param username 사용자명
+     * 사용자 엔티티로 JWT 토큰 생성 (토큰 갱신)
+     * @param user 사용자 (Role 로딩 필요)
+     * @param tokenVersion 사용자의 현재 토큰 버전 (TokenVersionService)
      * @return JWT 토큰
      */
-    public String generateTokenFromUsername(String username) {
+    public String generateTokenForUser(User user, long tokenVersion) {
+        return buildToken(user.getUsername(), user.getId(),
+                user.getCurrentRoleName().name(), user.getCurrentLevel(), tokenVersion);
+    }
+    
+    /**
+     * JWT 토큰 생성
+     * - 사용자 ID/직급/레벨/토큰 버전을 클레임으로 포함 → 인증 시 DB 조회 없이 사용자 정보 구성
+     */
+    private String buildToken(String username, Long userId, String roleName, int roleLevel, long tokenVersion) {
+        Date now = new Date();
         return Jwts.builder()
                 .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .claim(JwtClaims.USER_ID, userId)
+                .claim(JwtClaims.ROLE_NAME, roleName)
+                .claim(JwtClaims.ROLE_LEVEL, roleLevel)
+                .claim(JwtClaims.TOKEN_VERSION, tokenVersion)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + jwtExpirationMs))
+                .signWith(signingKey)
                 .compact();
     }
     
@@ -59,10 +88,7 @@ public class JwtUtils {
      * @return 사용자명
      */
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
@@ -73,22 +99,29 @@ public class JwtUtils {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateJwtToken(String authToken) {
+        return parseAndVerify(authToken).isPresent();
+    }
+
+    /**
+     * JWT 토큰 서명/만료 검증 + 클레임 추출 (요청당 한 번)
+     * @param authToken JWT 토큰
+     * @return 유효하면 클레임, 아니면 empty
+     */
+    public Optional<JwtClaims> parseAndVerify(String authToken) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
+            return Optional.of(JwtClaims.from(jwtParser.parseClaimsJws(authToken).getBody()));
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             log.error("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             log.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (SignatureException e) {
+            log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
     
     /**
@@ -97,10 +130,7 @@ public class JwtUtils {
      * @return 만료 시간
      */
     public Date getExpirationDateFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getExpiration();
     }
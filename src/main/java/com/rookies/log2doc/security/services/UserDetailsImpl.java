@@ -2,6 +2,7 @@ package com.rookies.log2doc.security.services;
 
 import com.rookies.log2doc.entity.Role;
 import com.rookies.log2doc.entity.User;
+import com.rookies.log2doc.security.jwt.JwtClaims;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.springframework.security.core.GrantedAuthority;
@@ -57,6 +58,32 @@ public class UserDetailsImpl implements UserDetails {
         );
     }
 
+    /**
+     * 검증된 JWT 클레임으로부터 UserDetails 객체를 생성하는 팩토리 메서드
+     * 요청 인증 시 DB 조회 없이 사용 (이메일/비밀번호는 포함하지 않음)
+     *
+     * @param claims 사용자 정보 클레임(uid, role, lvl)이 포함된 JWT 클레임
+     * @return UserDetailsImpl 객체
+     * @throws IllegalArgumentException 직급 클레임이 유효하지 않은 경우
+     */
+    public static UserDetailsImpl fromClaims(JwtClaims claims) {
+        Role.RoleName roleName = Role.RoleName.valueOf(claims.roleName());
+        List<GrantedAuthority> authorities = Collections.singletonList(
+                new SimpleGrantedAuthority(roleName.name())
+        );
+
+        return new UserDetailsImpl(
+                claims.userId(),
+                claims.subject(),
+                null,
+                null,
+                authorities,
+                roleName,
+                roleName.name(),
+                claims.roleLevel()
+        );
+    }
+
     /**
      * 특정 직급 이상의 권한을 가지고 있는지 확인
      * 계층적 권한 체크는 비즈니스 로직에서 처리
@@ -1,5 +1,6 @@
 package com.rookies.log2doc.security.services;
 
+import com.rookies.log2doc.cache.UserDetailsCache;
 import com.rookies.log2doc.entity.User;
 import com.rookies.log2doc.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -7,23 +8,38 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Security UserDetailsService 구현체
+ * - 요청 인증(loadUserByUsername)은 2단계 캐시(UserDetailsCache)를 거쳐 DB 조회를 최소화
+ * - 로그인 비밀번호 검증(loadUserForAuthentication)은 항상 DB에서 비밀번호 해시를 포함해 조회
  */
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
     
+    /**
+     * 요청 인증용 사용자 조회 (캐시 사용, 비밀번호 미포함)
+     */
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, () -> loadFromDatabase(username));
+    }
+
+    /**
+     * 로그인 인증용 사용자 조회 (캐시 미사용, 비밀번호 해시 포함)
+     */
+    public UserDetails loadUserForAuthentication(String username) throws UsernameNotFoundException {
+        return loadFromDatabase(username);
+    }
+
+    private UserDetailsImpl loadFromDatabase(String username) {
         User user = userRepository.findActiveUserWithRole(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
         
         return UserDetailsImpl.build(user);
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,11 @@
 package com.rookies.log2doc.service;
 
+import com.rookies.log2doc.cache.UserDetailsCache;
 import com.rookies.log2doc.dto.response.UserDetailResponse;
 import com.rookies.log2doc.dto.response.UserListResponse;
 import com.rookies.log2doc.entity.User;
 import com.rookies.log2doc.repository.UserRepository;
-import com.rookies.log2doc.security.jwt.JwtUtils;
+import com.rookies.log2doc.security.jwt.JwtClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -18,7 +19,7 @@ import java.util.stream.Collectors;
 
 /**
  * CEO 전용 사용자 관리 서비스
- * JWT 토큰과 Redis 캐싱을 통한 권한 검증 로직을 포함
+ * 인증 필터에서 검증한 JWT 클레임과 Redis 캐싱을 통한 권한 검증 로직을 포함
  */
 @Service
 @RequiredArgsConstructor
@@ -27,8 +28,8 @@ import java.util.stream.Collectors;
 public class CeoUserService {
 
     private final UserRepository userRepository;
-    private final JwtUtils jwtUtils;
     private final RedisTemplate<String, String> redisTemplate;
+    private final UserDetailsCache userDetailsCache;
 
     // Redis 키 패턴
     private static final String USER_ROLE_CACHE_KEY = "user:role:";
@@ -39,7 +40,7 @@ public class CeoUserService {
      * 모든 사용자 목록 조회 (CEO 전용)
      *
      * 알고리즘 설명:
-     * 1. JWT 토큰에서 사용자명을 추출
+     * 1. 검증된 JWT 클레임에서 사용자명을 확인
      * 2. Redis에서 사용자의 직급 정보를 캐시로 확인
      * 3. 캐시가 없으면 DB에서 조회하여 Redis에 저장
      * 4. CEO 권한 검증 후 모든 사용자 목록 반환
@@ -47,21 +48,15 @@ public class CeoUserService {
      * 시간 복잡도: O(1) - Redis 캐시 히트 시, O(n) - DB 조회 시
      * 공간 복잡도: O(1) - 캐시 저장 공간 제외
      *
-     * @param jwtToken JWT 토큰
+     * @param claims 인증 필터에서 검증한 JWT 클레임
      * @return 모든 사용자 목록
      * @throws AccessDeniedException CEO가 아닌 경우
      */
-    public UserListResponse getAllUsers(String jwtToken) {
+    public UserListResponse getAllUsers(JwtClaims claims) {
         log.info("CEO 전용 전체 사용자 조회 요청");
 
-        // 1단계: JWT 토큰 유효성 검증 및 사용자명 추출
-        if (!jwtUtils.validateJwtToken(jwtToken)) {
-            log.error("유효하지 않은 JWT 토큰");
-            throw new AccessDeniedException("유효하지 않은 토큰입니다.");
-        }
-
-        String username = jwtUtils.getUserNameFromJwtToken(jwtToken);
-        log.debug("JWT에서 추출한 사용자명: {}", username);
+        // 1단계: 검증된 JWT 클레임에서 사용자명 확인 (토큰 재파싱 없음)
+        String username = requireUsername(claims);
 
         // 2단계: CEO 권한 검증
         validateCeoAccess(username);
@@ -101,7 +96,7 @@ public class CeoUserService {
      * 특정 사용자 상세 정보 조회 (CEO 전용)
      *
      * 알고리즘 설명:
-     * 1. JWT 토큰 검증 및 사용자명 추출
+     * 1. 검증된 JWT 클레임에서 사용자명 확인
      * 2. Redis 캐시를 통한 CEO 권한 검증
      * 3. 대상 사용자 ID로 사용자 정보 조회 (즉시 로딩)
      * 4. 트랜잭션 내에서 DTO 변환하여 반환
@@ -109,23 +104,17 @@ public class CeoUserService {
      * 시간 복잡도: O(1) - 기본 키 조회
      * 공간 복잡도: O(1)
      *
-     * @param jwtToken JWT 토큰
+     * @param claims 인증 필터에서 검증한 JWT 클레임
      * @param userId 조회할 사용자 ID
      * @return 사용자 상세 정보 (DTO)
      * @throws AccessDeniedException CEO가 아닌 경우
      * @throws RuntimeException 사용자를 찾을 수 없는 경우
      */
-    public UserDetailResponse getUserById(String jwtToken, Long userId) {
+    public UserDetailResponse getUserById(JwtClaims claims, Long userId) {
         log.info("CEO 전용 사용자 상세 조회 요청 - 사용자 ID: {}", userId);
 
-        // 1단계: JWT 토큰 유효성 검증
-        if (!jwtUtils.validateJwtToken(jwtToken)) {
-            log.error("유효하지 않은 JWT 토큰");
-            throw new AccessDeniedException("유효하지 않은 토큰입니다.");
-        }
-
-        String username = jwtUtils.getUserNameFromJwtToken(jwtToken);
-        log.debug("JWT에서 추출한 사용자명: {}", username);
+        // 1단계: 검증된 JWT 클레임에서 사용자명 확인 (토큰 재파싱 없음)
+        String username = requireUsername(claims);
 
         // 2단계: CEO 권한 검증
         validateCeoAccess(username);
@@ -179,6 +168,22 @@ public class CeoUserService {
                 .build();
     }
 
+    /**
+     * 검증된 JWT 클레임에서 사용자명 확인
+     *
+     * @param claims 인증 필터에서 검증한 JWT 클레임 (JWT 인증이 아니면 null)
+     * @return 사용자명
+     * @throws AccessDeniedException 클레임이 없는 경우
+     */
+    private String requireUsername(JwtClaims claims) {
+        if (claims == null || claims.subject() == null) {
+            log.error("유효하지 않은 JWT 토큰");
+            throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+        }
+        log.debug("JWT에서 추출한 사용자명: {}", claims.subject());
+        return claims.subject();
+    }
+
     /**
      * CEO 권한 검증 메서드
      * Redis 캐시를 활용한 고성능 권한 검증
@@ -259,12 +264,14 @@ public class CeoUserService {
     /**
      * 사용자 직급 캐시 무효화
      * 사용자의 직급이 변경되었을 때 호출
+     * 인증용 사용자 정보 캐시(UserDetailsCache)도 함께 무효화하고 다른 노드에 전파
      *
      * @param username 캐시를 무효화할 사용자명
      */
     public void invalidateUserRoleCache(String username) {
         String cacheKey = USER_ROLE_CACHE_KEY + username;
         redisTemplate.delete(cacheKey);
+        userDetailsCache.invalidate(username);
         log.info("사용자 직급 캐시 무효화: {}", username);
     }
 
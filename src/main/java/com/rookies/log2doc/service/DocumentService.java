@@ -3,32 +3,65 @@ package com.rookies.log2doc.service;
 import com.rookies.log2doc.config.FileStorageConfig;
 import com.rookies.log2doc.dto.response.CategoryTypeDTO;
 import com.rookies.log2doc.dto.response.DocumentResponseDTO;
+import com.rookies.log2doc.dto.response.DocumentUploadResultDTO;
 import com.rookies.log2doc.dto.response.RoleDTO;
 import com.rookies.log2doc.entity.*;
 import com.rookies.log2doc.exception.PermissionDeniedException;
+import com.rookies.log2doc.export.ExportColumn;
+import com.rookies.log2doc.export.ExportFormat;
+import com.rookies.log2doc.export.RowExportWriter;
 import com.rookies.log2doc.repository.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URL;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * DocumentService
@@ -45,14 +78,77 @@ public class DocumentService {
     private final CategoryTypeRepository categoryTypeRepository;
     private final DocumentCategoryRepository documentCategoryRepository;
     private final FileStorageConfig fileStorageConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Qualifier("documentIoExecutor")
+    private final Executor documentIoExecutor;
+
+    /** 저장 시 압축 인코딩 이름 (HTTP Content-Encoding 값과 동일) */
+    public static final String ENCODING_GZIP = "gzip";
+
+    /** 압축 대상 MIME 타입 (text/* 및 +json, +xml 접미사는 별도 판별) */
+    private static final Set<String> COMPRESSIBLE_MIME_TYPES = Set.of(
+            "application/json", "application/x-ndjson", "application/xml",
+            "application/csv", "application/javascript", "application/x-yaml",
+            "application/yaml", "application/sql", "application/x-sh"
+    );
+
+    /** MIME 타입이 부정확하게 올라오는 경우를 위한 확장자 목록 */
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of(
+            ".txt", ".log", ".csv", ".tsv", ".json", ".ndjson", ".xml",
+            ".yml", ".yaml", ".md", ".sql", ".html", ".js"
+    );
+
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
+    /** 이미 압축된 형식 (ZIP 묶음 시 deflate 생략) */
+    private static final Set<String> PRECOMPRESSED_EXTENSIONS = Set.of(
+            ".zip", ".gz", ".tgz", ".7z", ".rar", ".bz2", ".xz", ".zst",
+            ".jpg", ".jpeg", ".png", ".gif", ".webp", ".mp3", ".mp4", ".mov",
+            ".pdf", ".docx", ".xlsx", ".pptx", ".hwpx"
+    );
+
+    /** 목록 내보내기 청크 크기 (keyset 페이지 + 카테고리 일괄 조회 + 영속성 컨텍스트 비우기 단위) */
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    /** 목록 내보내기 컬럼 (NDJSON 필드 = CSV 헤더) */
+    private static final List<ExportColumn<CatalogRow>> CATALOG_EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", row -> row.document().getId()),
+            ExportColumn.of("title", row -> row.document().getTitle()),
+            ExportColumn.of("fileName", row -> row.document().getFileName()),
+            ExportColumn.of("filePath", row -> row.document().getFilePath()),
+            ExportColumn.of("fileSize", row -> row.document().getFileSize()),
+            ExportColumn.of("mimeType", row -> row.document().getMimeType()),
+            ExportColumn.of("status", row -> row.document().getStatus()),
+            ExportColumn.of("owner", row -> row.document().getAuthor()),
+            ExportColumn.of("createdRole", row -> row.document().getCreatedRole()),
+            ExportColumn.of("readRole", row -> row.document().getReadRole().getName()),
+            ExportColumn.of("categories", CatalogRow::categories),
+            ExportColumn.of("createdAt", row -> row.document().getCreatedAt()));
+
+    @Value("${file.upload.batch.max-files:100}")
+    private int batchMaxFiles;
+
+    @Value("${file.download.zip.max-entries:500}")
+    private int zipMaxEntries;
+
+    @Value("${file.upload.compression.enabled:true}")
+    private boolean compressionEnabled;
+
+    @Value("${file.upload.compression.min-size:1024}")
+    private long compressionMinSize;
 
     /**
      * 파일 업로드 후 문서 엔티티 생성
-     * - 파일을 UUID+확장자로 저장
+     * - 파일을 UUID+확장자로 저장 (텍스트 계열은 gzip 압축 저장)
      * - DB에는 원본 파일명, UUID(해시), 실제 경로 저장
      * - 문서 카테고리와 권한 매핑
+     * - 2단계 처리: 스테이징 영역에 파일 기록(트랜잭션 밖) → 짧은 트랜잭션으로 메타데이터 저장 + 원자적 이동
+     *   → 느린 업로드가 DB 커넥션을 점유하지 않고, 롤백 시 고아 파일도 남지 않음
      */
-    @Transactional
     public Document uploadDocument(
             MultipartFile file,
             String title,
@@ -63,58 +159,246 @@ public class DocumentService {
             String userRoleName
     ) throws IOException {
 
-        // 읽기 권한 Role 조회
+        // 읽기 권한 Role / 카테고리 조회 (파일 기록 전에 검증)
         Role readRole = getRoleById(readRoleId, "읽기");
+        CategoryType categoryType = getCategoryTypeById(categoryTypeId);
 
-        // 파일명과 UUID 해시 생성
+        // 1단계: 스테이징 영역에 파일 기록 (DB 커넥션 사용 안 함)
+        StagedFile staged = stageFile(file, title, content);
+
+        // 2단계: 짧은 트랜잭션으로 Document / DocumentCategory 저장 후 최종 위치로 이동
+        Document doc = persistStagedFiles(List.of(staged), categoryType, readRole, userId, userRoleName).get(0);
+
+        log.info("문서 저장 완료 - ID: {}, 파일명: {}", doc.getId(), doc.getFileName());
+        return doc;
+    }
+
+    /**
+     * 여러 파일 일괄 업로드
+     * - 읽기 권한 Role / 카테고리는 한 번만 조회
+     * - 파일 스테이징은 documentIoExecutor에서 동시에 실행 (동시 쓰기 수 제한)
+     * - 스테이징에 성공한 파일들의 메타데이터는 한 번의 짧은 트랜잭션으로 배치 INSERT
+     * - 파일별 성공/실패 결과 반환 (원본 파일명을 문서 제목으로 사용)
+     */
+    public List<DocumentUploadResultDTO> uploadDocuments(
+            List<MultipartFile> files,
+            String content,
+            Long categoryTypeId,
+            Role readRole,
+            Long userId,
+            String userRoleName
+    ) {
+        if (files.size() > batchMaxFiles) {
+            throw new IllegalArgumentException("한 번에 업로드할 수 있는 파일 수(" + batchMaxFiles + ")를 초과했습니다: " + files.size());
+        }
+
+        CategoryType categoryType = getCategoryTypeById(categoryTypeId);
+
+        // 1단계: 파일별 스테이징 (병렬)
+        List<CompletableFuture<StagedFile>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(
+                        () -> stageFile(file, file.getOriginalFilename(), content), documentIoExecutor))
+                .collect(Collectors.toList());
+
+        DocumentUploadResultDTO[] results = new DocumentUploadResultDTO[files.size()];
+        List<StagedFile> stagedFiles = new ArrayList<>(files.size());
+        List<Integer> stagedIndexes = new ArrayList<>(files.size());
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                stagedFiles.add(futures.get(i).join());
+                stagedIndexes.add(i);
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                results[i] = DocumentUploadResultDTO.builder()
+                        .fileName(files.get(i).getOriginalFilename())
+                        .success(false)
+                        .errorMessage(cause.getMessage())
+                        .build();
+            }
+        }
+
+        // 2단계: 메타데이터 일괄 저장 + 최종 위치 이동
+        if (!stagedFiles.isEmpty()) {
+            try {
+                List<Document> docs = persistStagedFiles(stagedFiles, categoryType, readRole, userId, userRoleName);
+                for (int j = 0; j < docs.size(); j++) {
+                    Document doc = docs.get(j);
+                    results[stagedIndexes.get(j)] = DocumentUploadResultDTO.builder()
+                            .fileName(doc.getFileName())
+                            .success(true)
+                            .documentId(doc.getId())
+                            .filePath(doc.getFilePath())
+                            .build();
+                }
+            } catch (RuntimeException e) {
+                log.error("일괄 업로드 메타데이터 저장 실패 - {}개 파일", stagedFiles.size(), e);
+                for (int j = 0; j < stagedFiles.size(); j++) {
+                    results[stagedIndexes.get(j)] = DocumentUploadResultDTO.builder()
+                            .fileName(stagedFiles.get(j).getOriginalFileName())
+                            .success(false)
+                            .errorMessage("문서 정보 저장 실패: " + e.getMessage())
+                            .build();
+                }
+            }
+        }
+
+        log.info("일괄 업로드 완료 - 요청: {}개, 성공: {}개", files.size(),
+                Arrays.stream(results).filter(DocumentUploadResultDTO::isSuccess).count());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 스테이징 영역에 기록된 업로드 파일 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StagedFile {
+        private final String uuid;
+        private final String extension;
+        private final Path stagingPath;
+        private final String originalFileName;
+        private final String mimeType;
+        private final long size;
+        private final String contentEncoding;
+        private final String title;
+        private final String content;
+    }
+
+    /**
+     * 1단계: 업로드 스트림을 스테이징 영역에 기록
+     * - 트랜잭션 밖에서 실행 (NFS 쓰기 동안 커넥션 점유 없음)
+     * - 압축 대상이면 스트리밍 gzip
+     * - 실패 시 부분 기록된 파일 삭제
+     */
+    public StagedFile stageFile(MultipartFile file, String title, String content) {
         String originalFileName = file.getOriginalFilename();
         String extension = getFileExtension(originalFileName);
         String uuid = UUID.randomUUID().toString();
-        String storedFileName = uuid + extension;
+        Path stagingPath = fileStorageConfig.getStagingPath().resolve(uuid + extension);
+
+        // 압축 대상 여부 판단
+        boolean compress = isCompressible(file.getContentType(), originalFileName, file.getSize());
+
+        long startNanos = System.nanoTime();
+        try (InputStream in = file.getInputStream()) {
+            if (compress) {
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(stagingPath), COMPRESSION_BUFFER_SIZE)) {
+                    in.transferTo(out);
+                }
+                log.info("파일 압축 스테이징 완료: {} (원본 {} bytes → {} bytes)",
+                        stagingPath.toAbsolutePath(), file.getSize(), Files.size(stagingPath));
+            } else {
+                Files.copy(in, stagingPath, StandardCopyOption.REPLACE_EXISTING);
+                log.info("파일 스테이징 완료: {}", stagingPath.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            deleteQuietly(stagingPath);
+            log.error("파일 저장 실패: {}", stagingPath.toAbsolutePath(), e);
+            throw new RuntimeException("파일 저장 실패: " + e.getMessage());
+        } finally {
+            meterRegistry.timer("document.upload.staging.duration")
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        return new StagedFile(uuid, extension, stagingPath, originalFileName, file.getContentType(),
+                file.getSize(), compress ? ENCODING_GZIP : null, title, content);
+    }
 
-        // 저장 경로 결정
+    /**
+     * 2단계: 스테이징된 파일들의 메타데이터를 한 번의 짧은 트랜잭션으로 저장
+     * - flush로 INSERT 성공을 확인한 뒤 최종 저장 위치로 원자적 이동 (rename이라 빠름)
+     * - 커밋되지 않으면(롤백/알 수 없음) 이동한 파일 삭제 → 고아 파일 방지
+     * - 트랜잭션 점유 시간은 document.upload.tx.duration 메트릭으로 노출
+     */
+    public List<Document> persistStagedFiles(List<StagedFile> stagedFiles, CategoryType categoryType,
+                                             Role readRole, Long userId, String userRoleName) {
         Path uploadDir = fileStorageConfig.getActiveStoragePath();
-        Path savePath = uploadDir.resolve(storedFileName);
 
-        log.info("저장 경로: {}, 저장 파일명: {}", uploadDir.toAbsolutePath(), storedFileName);
+        try {
+            return meterRegistry.timer("document.upload.tx.duration")
+                    .record(() -> transactionTemplate.execute(status -> {
+                        List<Document> docs = new ArrayList<>(stagedFiles.size());
+                        List<DocumentCategory> mappings = new ArrayList<>(stagedFiles.size());
+                        LocalDateTime now = LocalDateTime.now();
+
+                        for (StagedFile staged : stagedFiles) {
+                            Path savePath = uploadDir.resolve(staged.getUuid() + staged.getExtension());
+
+                            // 문서 엔티티 생성
+                            Document doc = new Document();
+                            doc.setTitle(staged.getTitle());
+                            doc.setContent(staged.getContent());
+                            doc.setFileName(staged.getOriginalFileName());
+                            doc.setFilePath(staged.getUuid());          // 해시
+                            doc.setFilePathNfs(savePath.toString());   // 실제 경로
+                            doc.setMimeType(staged.getMimeType());
+                            doc.setFileSize(staged.getSize());         // 원본 크기
+                            doc.setContentEncoding(staged.getContentEncoding());
+                            doc.setCreatedAt(now);
+                            doc.setReadRole(readRole);
+                            doc.setAuthor(String.valueOf(userId));
+                            doc.setCreatedRole(userRoleName);
+                            docs.add(doc);
+
+                            // 카테고리 매핑
+                            DocumentCategory mapping = new DocumentCategory();
+                            mapping.setDocument(doc);
+                            mapping.setCategoryType(categoryType);
+                            mappings.add(mapping);
+                        }
+
+                        documentRepository.saveAll(docs);
+                        documentCategoryRepository.saveAll(mappings);
+                        documentRepository.flush();
+
+                        // 커밋 실패 시 이동한 파일 정리
+                        List<Path> movedPaths = new ArrayList<>(stagedFiles.size());
+                        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                            @Override
+                            public void afterCompletion(int completionStatus) {
+                                if (completionStatus != STATUS_COMMITTED) {
+                                    log.warn("문서 메타데이터 커밋 실패 - 이동한 파일 {}개 삭제", movedPaths.size());
+                                    movedPaths.forEach(DocumentService.this::deleteQuietly);
+                                }
+                            }
+                        });
+
+                        for (StagedFile staged : stagedFiles) {
+                            Path savePath = uploadDir.resolve(staged.getUuid() + staged.getExtension());
+                            moveIntoPlace(staged.getStagingPath(), savePath);
+                            movedPaths.add(savePath);
+                        }
+                        return docs;
+                    }));
+        } finally {
+            // 이동되지 않은 스테이징 파일 정리 (정상 처리 시 이미 이동되어 존재하지 않음)
+            stagedFiles.forEach(staged -> deleteQuietly(staged.getStagingPath()));
+        }
+    }
 
-        // 실제 파일 복사
+    /** 스테이징 파일을 최종 위치로 원자적 이동 */
+    private void moveIntoPlace(Path source, Path target) {
         try {
-            Files.copy(file.getInputStream(), savePath, StandardCopyOption.REPLACE_EXISTING);
-            log.info("파일 저장 완료: {}", savePath.toAbsolutePath());
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.info("파일 저장 완료: {}", target.toAbsolutePath());
         } catch (IOException e) {
-            log.error("파일 저장 실패: {}", savePath.toAbsolutePath(), e);
+            log.error("파일 이동 실패: {} → {}", source, target, e);
             throw new RuntimeException("파일 저장 실패: " + e.getMessage());
         }
+    }
 
-        // 문서 엔티티 저장
-        Document doc = new Document();
-        doc.setTitle(title);
-        doc.setContent(content);
-        doc.setFileName(originalFileName);
-        doc.setFilePath(uuid);                  // 해시
-        doc.setFilePathNfs(savePath.toString()); // 실제 경로
-        doc.setMimeType(file.getContentType());
-        doc.setFileSize(file.getSize());
-        doc.setCreatedAt(LocalDateTime.now());
-        doc.setReadRole(readRole);
-        doc.setAuthor(String.valueOf(userId));
-        doc.setCreatedRole(userRoleName);
-
-        // 카테고리 FK
-        CategoryType categoryType = categoryTypeRepository.findById(categoryTypeId)
-                .orElseThrow(() -> new RuntimeException("카테고리 타입 없음"));
-
-        documentRepository.save(doc);
-
-        // 카테고리 매핑
-        DocumentCategory mapping = new DocumentCategory();
-        mapping.setDocument(doc);
-        mapping.setCategoryType(categoryType);
-        documentCategoryRepository.save(mapping);
-
-        log.info("문서 저장 완료 - ID: {}, 파일명: {}", doc.getId(), originalFileName);
-        return doc;
+    /** 파일 삭제 (실패해도 예외 없이 로그만) */
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", path, e);
+        }
     }
 
     /**
@@ -155,6 +439,74 @@ public class DocumentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 문서 목록 스트리밍 내보내기 (NDJSON / CSV)
+     * - 읽기 권한/카테고리/기간 조건을 SQL에서 처리한 ID keyset 페이지(청크) 단위로 읽음
+     * - 청크마다 페이지 결과 집합을 닫은 뒤 카테고리 이름을 한 번에 조회해 기록하고 영속성 컨텍스트를 비움
+     *   (스트리밍 결과 집합이 열린 채 다른 쿼리를 실행하면 MariaDB 드라이버가 남은 행을 모두 메모리에 읽어 들임)
+     *   → 문서 수와 무관하게 메모리 일정 (청크 크기), 문서별 지연 로딩(N+1) 없음
+     * - 전체를 하나의 읽기 전용 트랜잭션에서 읽어 일관된 스냅샷 유지
+     *
+     * @return 기록한 행 수
+     */
+    public long exportCatalog(ExportFormat format, String userRoleName, Long categoryTypeId,
+                              LocalDate startDate, LocalDate endDate, OutputStream out) {
+        int userLevel = Role.RoleName.valueOf(userRoleName).getLevel();
+        List<Role.RoleName> readRoles = Arrays.stream(Role.RoleName.values())
+                .filter(role -> role.getLevel() <= userLevel)
+                .toList();
+        LocalDateTime startAt = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime endAt = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        Long rows = readOnly.execute(tx -> {
+            try (RowExportWriter<CatalogRow> writer = new RowExportWriter<>(format, CATALOG_EXPORT_COLUMNS, out, objectMapper)) {
+                long afterId = 0L;
+                List<Document> chunk;
+                do {
+                    chunk = documentRepository.findCatalogPage(
+                            readRoles, categoryTypeId, startAt, endAt, afterId, EXPORT_CHUNK_SIZE);
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                    writeCatalogChunk(chunk, writer);
+                } while (chunk.size() == EXPORT_CHUNK_SIZE);
+                return writer.getRowCount();
+            } catch (IOException e) {
+                throw new UncheckedIOException("문서 목록 내보내기 중 스트림 기록에 실패했습니다.", e);
+            }
+        });
+
+        long exported = rows != null ? rows : 0L;
+        meterRegistry.counter("document.export.rows", "format", format.name()).increment(exported);
+        log.info("문서 목록 내보내기 완료 - 형식: {}, {}건", format, exported);
+        return exported;
+    }
+
+    /**
+     * 내보내기 청크 기록: 카테고리 일괄 조회 → 행 기록 → 영속성 컨텍스트 비우기
+     */
+    private void writeCatalogChunk(List<Document> chunk, RowExportWriter<CatalogRow> writer) throws IOException {
+        Map<Long, String> categories = documentCategoryRepository.findCategoryNamesByDocumentIds(
+                        chunk.stream().map(Document::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0],
+                        Collectors.mapping(row -> String.valueOf(row[1]), Collectors.joining("|"))));
+
+        for (Document doc : chunk) {
+            writer.write(new CatalogRow(doc, categories.getOrDefault(doc.getId(), "")));
+        }
+
+        entityManager.clear();
+    }
+
+    /** 내보내기 행 (문서 + 카테고리 이름 목록) */
+    private record CatalogRow(Document document, String categories) {
+    }
+
     /**
      * 단일 문서 조회 (ID)
      */
@@ -182,10 +534,19 @@ public class DocumentService {
      */
     @Transactional(readOnly = true)
     public Resource loadFileAsResource(Long id, int userRoleId) throws MalformedURLException {
+        return loadFileAsResource(id, userRoleId, false);
+    }
+
+    /**
+     * 파일 다운로드 (ID)
+     * - acceptsGzip이 true면 gzip 저장 파일을 압축된 그대로 전달
+     */
+    @Transactional(readOnly = true)
+    public CustomFileResource loadFileAsResource(Long id, int userRoleId, boolean acceptsGzip) throws MalformedURLException {
         Document doc = documentRepository.findByIdWithRoles(id)
                 .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다."));
         checkReadPermission(doc, userRoleId);
-        return loadFileResourceByDocument(doc);
+        return loadFileResourceByDocument(doc, acceptsGzip);
     }
 
     /**
@@ -196,13 +557,14 @@ public class DocumentService {
         Document doc = documentRepository.findByFilePathWithRoles(hash)
                 .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
         checkReadPermission(doc, userRoleId);
-        return loadFileResourceByDocument(doc);
+        return loadFileResourceByDocument(doc, false);
     }
 
     /**
      * 실제 파일 리소스 로드 공통 처리
+     * - gzip 저장 파일: acceptsGzip이면 그대로, 아니면 스트리밍 압축 해제
      */
-    private Resource loadFileResourceByDocument(Document doc) throws MalformedURLException {
+    private CustomFileResource loadFileResourceByDocument(Document doc, boolean acceptsGzip) throws MalformedURLException {
         // 🔥 핵심 수정: 파일 경로 생성 방식 변경
         String originalFileName = doc.getFileName();
         String extension = getFileExtension(originalFileName);
@@ -232,20 +594,33 @@ public class DocumentService {
         Resource resource = new UrlResource(filePath.toUri());
 
         // 🔥 추가: 파일명을 원본 파일명으로 설정하기 위한 래핑
-        return new CustomFileResource(resource, originalFileName);
+        String storedEncoding = doc.getContentEncoding();
+        boolean decompress = storedEncoding != null && !acceptsGzip;
+        return new CustomFileResource(resource, originalFileName, storedEncoding, decompress, doc.getFileSize());
     }
 
     /**
      * 원본 파일명을 유지하기 위한 커스텀 Resource 래퍼
-     * 📍 이 클래스를 DocumentService 클래스 맨 아래에 추가하세요!
+     * - 압축 저장 파일은 decompress 여부에 따라 압축 해제 스트림 또는 원본 바이트 제공
      */
-    private static class CustomFileResource implements Resource {
+    public static class CustomFileResource implements Resource {
         private final Resource delegate;
         private final String originalFilename;
+        private final String storedEncoding;
+        private final boolean decompress;
+        private final Long originalSize;
 
         public CustomFileResource(Resource delegate, String originalFilename) {
+            this(delegate, originalFilename, null, false, null);
+        }
+
+        public CustomFileResource(Resource delegate, String originalFilename,
+                                  String storedEncoding, boolean decompress, Long originalSize) {
             this.delegate = delegate;
             this.originalFilename = originalFilename;
+            this.storedEncoding = storedEncoding;
+            this.decompress = decompress;
+            this.originalSize = originalSize;
         }
 
         @Override
@@ -253,12 +628,24 @@ public class DocumentService {
             return originalFilename;  // 원본 파일명 반환
         }
 
-        // 나머지 메서드들은 위임
+        /** 저장 시 적용된 인코딩 (없으면 null) */
+        public String getStoredEncoding() {
+            return storedEncoding;
+        }
+
+        /** 응답에 Content-Encoding 헤더로 내려야 하는 인코딩 (압축 해제 전달 시 null) */
+        public String getContentEncoding() {
+            return decompress ? null : storedEncoding;
+        }
+
         @Override
         public InputStream getInputStream() throws IOException {
-            return delegate.getInputStream();
+            InputStream raw = delegate.getInputStream();
+            return decompress ? new GZIPInputStream(raw, COMPRESSION_BUFFER_SIZE) : raw;
         }
 
+        // 나머지 메서드들은 위임
+
         @Override
         public boolean exists() {
             return delegate.exists();
@@ -271,6 +658,10 @@ public class DocumentService {
 
         @Override
         public long contentLength() throws IOException {
+            // 압축 해제 전달 시 원본 크기 기준
+            if (decompress && originalSize != null) {
+                return originalSize;
+            }
             return delegate.contentLength();
         }
 
@@ -291,6 +682,10 @@ public class DocumentService {
 
         @Override
         public File getFile() throws IOException {
+            // 압축 해제 전달 시 디스크의 압축 파일을 직접 노출하지 않음
+            if (decompress) {
+                throw new FileNotFoundException("압축 저장 파일은 스트림으로만 제공됩니다: " + originalFilename);
+            }
             return delegate.getFile();
         }
 
@@ -306,6 +701,123 @@ public class DocumentService {
     }
 
 
+    // ===================================
+    // 일괄 ZIP 다운로드
+    // ===================================
+
+    /**
+     * ZIP 항목 하나에 해당하는 파일 정보
+     * - 트랜잭션 밖에서 스트리밍하기 위해 엔티티 대신 필요한 값만 보관
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ZipEntrySource {
+        private final Long documentId;
+        private final String entryName;
+        private final Path path;
+        private final String contentEncoding;
+        private final boolean precompressed;
+    }
+
+    /**
+     * 일괄 다운로드 대상 문서 확정 + 권한 체크
+     * - ids 지정 시: 한 번의 IN 쿼리로 조회, 권한 없는 문서가 하나라도 있으면 403
+     * - categoryTypeId 지정 시: 해당 카테고리 중 읽기 가능한 문서만 포함
+     */
+    @Transactional(readOnly = true)
+    public List<ZipEntrySource> resolveZipEntries(List<Long> ids, Long categoryTypeId, int userRoleId) {
+        List<Document> docs;
+
+        if (ids != null && !ids.isEmpty()) {
+            LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(ids);
+            checkZipEntryLimit(uniqueIds.size());
+
+            Map<Long, Document> found = documentRepository.findAllByIdInWithRoles(uniqueIds).stream()
+                    .collect(Collectors.toMap(Document::getId, d -> d));
+
+            docs = new ArrayList<>(uniqueIds.size());
+            for (Long id : uniqueIds) {
+                Document doc = found.get(id);
+                if (doc == null) {
+                    throw new RuntimeException("문서를 찾을 수 없습니다. ID: " + id);
+                }
+                checkReadPermission(doc, userRoleId);
+                docs.add(doc);
+            }
+        } else if (categoryTypeId != null) {
+            docs = documentRepository.findByCategoryTypeIdAndIsDeletedFalseWithRoles(categoryTypeId).stream()
+                    .filter(doc -> userRoleId >= doc.getReadRole().getName().getLevel())
+                    .collect(Collectors.toList());
+            checkZipEntryLimit(docs.size());
+        } else {
+            throw new IllegalArgumentException("ids 또는 categoryTypeId 중 하나는 필수입니다.");
+        }
+
+        Path uploadDir = fileStorageConfig.getActiveStoragePath();
+        return docs.stream()
+                .map(doc -> {
+                    String extension = getFileExtension(doc.getFileName());
+                    return new ZipEntrySource(
+                            doc.getId(),
+                            doc.getId() + "_" + sanitizeEntryName(doc.getFileName()),
+                            uploadDir.resolve(doc.getFilePath() + extension),
+                            doc.getContentEncoding(),
+                            PRECOMPRESSED_EXTENSIONS.contains(extension.toLowerCase(Locale.ROOT))
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * ZIP 스트림 작성
+     * - 임시 파일 없이 파일 → ZipOutputStream으로 바로 복사 (메모리 사용량 일정)
+     * - gzip 저장 파일은 압축 해제하면서 기록, 이미 압축된 형식은 무압축 레벨로 기록
+     * - 사라진 파일은 건너뛰고 로그만 남김 (이미 응답이 시작된 상태)
+     */
+    public void writeZip(List<ZipEntrySource> entries, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        byte[] buffer = new byte[COMPRESSION_BUFFER_SIZE];
+
+        for (ZipEntrySource entry : entries) {
+            if (!Files.isReadable(entry.getPath())) {
+                log.warn("ZIP 항목 누락 - 문서 ID: {}, 경로: {}", entry.getDocumentId(), entry.getPath());
+                continue;
+            }
+
+            zip.setLevel(entry.isPrecompressed() ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(entry.getEntryName()));
+
+            try (InputStream raw = Files.newInputStream(entry.getPath());
+                 InputStream in = ENCODING_GZIP.equals(entry.getContentEncoding())
+                         ? new GZIPInputStream(raw, COMPRESSION_BUFFER_SIZE) : raw) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    zip.write(buffer, 0, read);
+                }
+            }
+            zip.closeEntry();
+        }
+
+        zip.finish();
+        zip.flush();
+        log.info("ZIP 스트리밍 완료 - 항목 수: {}", entries.size());
+    }
+
+    /** ZIP 항목 수 제한 체크 */
+    private void checkZipEntryLimit(int count) {
+        if (count > zipMaxEntries) {
+            throw new IllegalArgumentException("한 번에 묶을 수 있는 문서 수(" + zipMaxEntries + ")를 초과했습니다: " + count);
+        }
+    }
+
+    /** ZIP 항목 이름에서 경로 구분자 제거 */
+    private String sanitizeEntryName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return "file";
+        }
+        return fileName.replace('/', '_').replace('\\', '_');
+    }
+
     /**
      * Document → DTO 변환
      */
@@ -353,6 +865,12 @@ public class DocumentService {
                 .orElseThrow(() -> new RuntimeException(roleType + " 권한 Role 없음"));
     }
 
+    /** 카테고리 타입 조회 */
+    private CategoryType getCategoryTypeById(Long categoryTypeId) {
+        return categoryTypeRepository.findById(categoryTypeId)
+                .orElseThrow(() -> new RuntimeException("카테고리 타입 없음"));
+    }
+
     /** 읽기 권한 체크 */
     private void checkReadPermission(Document doc, int userRoleId) {
         int requiredLevel = doc.getReadRole().getName().getLevel();
@@ -361,6 +879,25 @@ public class DocumentService {
         }
     }
 
+    /** 저장 시 압축 대상 여부 (텍스트 계열 + 최소 크기 이상) */
+    private boolean isCompressible(String mimeType, String filename, long size) {
+        if (!compressionEnabled || size < compressionMinSize) {
+            return false;
+        }
+        if (mimeType != null) {
+            String type = mimeType.toLowerCase(Locale.ROOT);
+            int paramIdx = type.indexOf(';');
+            if (paramIdx >= 0) {
+                type = type.substring(0, paramIdx).trim();
+            }
+            if (type.startsWith("text/") || type.endsWith("+json") || type.endsWith("+xml")
+                    || COMPRESSIBLE_MIME_TYPES.contains(type)) {
+                return true;
+            }
+        }
+        return COMPRESSIBLE_EXTENSIONS.contains(getFileExtension(filename).toLowerCase(Locale.ROOT));
+    }
+
     /** 파일 확장자 추출 */
     private String getFileExtension(String filename) {
         return filename != null && filename.contains(".")
@@ -0,0 +1,498 @@
+package com.rookies.log2doc.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies.log2doc.entity.ErrorReport;
+import com.rookies.log2doc.entity.ErrorReportArchive;
+import com.rookies.log2doc.event.ErrorReportChangedEvent;
+import com.rookies.log2doc.exception.ArchivedReportUnavailableException;
+import com.rookies.log2doc.repository.ErrorReportArchiveRepository;
+import com.rookies.log2doc.repository.ErrorReportRepository;
+import com.rookies.log2doc.scheduler.RedisLeaseLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 에러 리포트 보관(archive) 및 보존 기간 관리 서비스
+ *
+ * 처리 방식 (hot/archive 분리)
+ * - 보관 대상: 소프트 삭제 후 유예 기간이 지난 리포트 + 완료 상태로 오래된 리포트
+ * - 세그먼트는 모든 노드가 공유하는 저장소(NFS)에 기록 (색인은 공유 DB → 어느 노드에서든 조회)
+ * - 보관/정리 작업은 클러스터 전체에서 한 노드만 실행 (RedisLeaseLock, 배치마다 임대 연장)
+ * - id 순 keyset 배치로 대상을 읽어 생성 월(yyyy-MM)별 세그먼트 파일에 기록
+ *   세그먼트 = gzip 블록(리포트 N건의 NDJSON)을 이어 붙인 파일 → 블록 단위 임의 접근 가능
+ * - 세그먼트는 스테이징에 기록 후 fsync + 원자적 이동, 그 다음 한 트랜잭션에서
+ *   색인(error_report_archive) 저장 + 원본 행 물리 삭제
+ *   (세그먼트 기록 이후 버전이 바뀐 행은 삭제하지 않고 다음 주기로 넘김)
+ * - 트랜잭션 실패 시 이번 배치 세그먼트 파일 삭제 → 원본 테이블이 그대로 기준
+ * - 보존 기간이 지난 세그먼트는 색인 삭제 후 파일 삭제
+ *
+ * 원본 테이블에는 작업 중인 리포트만 남아 목록/통계 쿼리가 누적 데이터량과 무관해짐
+ * (물리 삭제 시 집계 트리거가 미삭제 행 개수를 차감 → 대시보드 통계는 원본 테이블 기준)
+ * 주의: 완료 후 completed-after-days(기본 365일)가 지난 리포트도 보관되므로
+ *       목록/검색/대시보드 통계에서 빠지고 ID 단건 조회로만 확인 가능
+ *
+ * 세그먼트 파일이 없거나 읽을 수 없으면 ArchivedReportUnavailableException (410)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorReportArchiveService {
+
+    private final ErrorReportRepository errorReportRepository;
+    private final ErrorReportArchiveRepository errorReportArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RedisLeaseLock redisLeaseLock;
+
+    private static final String LOCK_NAME = "error-report-archive";
+    private static final String STAGING_DIR = ".staging";
+    private static final String SEGMENT_SUFFIX = ".ndjson.gz";
+    private static final DateTimeFormatter MONTH_DIR = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final LocalDateTime DISABLED_BEFORE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final DateTimeFormatter SEGMENT_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    /** 색인 배치 INSERT (ID를 직접 지정하는 엔티티라 saveAll은 행마다 SELECT 후 INSERT) */
+    private static final String INSERT_ARCHIVE_SQL =
+            "INSERT INTO error_report_archive (report_id, report_category, report_status, is_deleted, created_dt, " +
+                    "archived_dt, segment_path, block_offset, block_length) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Value("${error-report.archive.enabled:true}")
+    private boolean enabled;
+
+    /** 세그먼트 저장 루트 (모든 노드가 공유하는 저장소) */
+    @Value("${error-report.archive.path:/app/archive/error-report}")
+    private String archivePath;
+
+    /** 소프트 삭제 후 보관까지 유예 기간 (이 기간 동안은 복구 가능) */
+    @Value("${error-report.archive.soft-deleted-grace-days:30}")
+    private int softDeletedGraceDays;
+
+    /** 완료 리포트 보관 기준 (생성 후 경과 일수, 0 이하: 완료 리포트 보관 안 함) */
+    @Value("${error-report.archive.completed-after-days:365}")
+    private int completedAfterDays;
+
+    /** 보관 세그먼트 보존 기간 (생성일 기준, 0 이하: 영구 보존) */
+    @Value("${error-report.archive.retention-days:1825}")
+    private int retentionDays;
+
+    /** 배치당 리포트 수 (배치당 한 트랜잭션) */
+    @Value("${error-report.archive.batch-size:500}")
+    private int batchSize;
+
+    /** gzip 블록당 리포트 수 (ID 조회 시 압축 해제 단위) */
+    @Value("${error-report.archive.block-records:50}")
+    private int blockRecords;
+
+    /** 한 번 실행에서 보관할 최대 리포트 수 (운영 DB 부하 제한) */
+    @Value("${error-report.archive.max-records-per-run:50000}")
+    private int maxRecordsPerRun;
+
+    /** 클러스터 락 임대 기간 (배치마다 연장) */
+    @Value("${error-report.archive.lock-ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 정기 보관 + 보존 기간 정리 (기본: 매일 04:30)
+     * - 다른 노드가 실행 중이면(락 보유) 건너뜀
+     */
+    @Scheduled(cron = "${error-report.archive.cron:0 30 4 * * *}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+
+        Optional<RedisLeaseLock.Lease> acquired;
+        try {
+            acquired = redisLeaseLock.tryAcquire(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+        } catch (Exception e) {
+            log.warn("에러 리포트 보관 락 획득 실패 - 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+        if (acquired.isEmpty()) {
+            log.info("에러 리포트 보관 건너뜀 - 다른 노드에서 실행 중");
+            return;
+        }
+
+        try (RedisLeaseLock.Lease lease = acquired.get()) {
+            archive(lease);
+            if (lease.extend()) {
+                purgeExpiredSegments();
+            }
+        }
+    }
+
+    /**
+     * 보관 실행
+     * - 같은 인스턴스에서 동시에 두 번 실행되지 않음
+     * - 배치마다 락 임대를 연장하고, 락을 잃으면 남은 배치는 처리하지 않음
+     *
+     * @param lease 보유 중인 클러스터 락
+     * @return 보관된 리포트 수
+     */
+    public int archive(RedisLeaseLock.Lease lease) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("에러 리포트 보관 작업이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int archived = 0;
+        int skipped = 0;
+        try {
+            Path root = prepareRoot();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime deletedBefore = now.minusDays(softDeletedGraceDays);
+            // 완료 리포트 보관을 끄면 과거 기준 시각으로 조건 자체를 무효화
+            LocalDateTime createdBefore = completedAfterDays > 0 ? now.minusDays(completedAfterDays) : DISABLED_BEFORE;
+
+            long afterId = 0L;
+            while (archived + skipped < maxRecordsPerRun) {
+                List<Long> ids = errorReportRepository.findArchiveCandidateIds(
+                        deletedBefore, createdBefore, ErrorReport.ReportStatus.COMPLETED, afterId, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+
+                BatchResult result = archiveBatch(root, ids, now);
+                archived += result.archived;
+                skipped += result.skipped;
+
+                if (!lease.extend()) {
+                    log.warn("에러 리포트 보관 중단 - 락 상실 (보관 {}건까지 진행)", archived);
+                    break;
+                }
+            }
+
+            log.info("에러 리포트 보관 완료 - 보관: {}건, 변경되어 제외: {}건", archived, skipped);
+            return archived;
+
+        } catch (IOException e) {
+            meterRegistry.counter("error_report.archive.failures").increment();
+            log.error("에러 리포트 보관 실패 (보관 경로: {})", archivePath, e);
+            return archived;
+        } finally {
+            sample.stop(meterRegistry.timer("error_report.archive.duration"));
+            running.set(false);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 세그먼트 정리
+     * - 색인 삭제 트랜잭션 커밋 후 파일 삭제 (파일 삭제 실패 시 고아 파일만 남음)
+     *
+     * @return 삭제된 세그먼트 수
+     */
+    public int purgeExpiredSegments() {
+        if (retentionDays <= 0) {
+            return 0;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Path root = Paths.get(archivePath);
+        int purged = 0;
+
+        for (String segmentPath : errorReportArchiveRepository.findExpiredSegments(cutoff)) {
+            try {
+                Integer removed = transactionTemplate.execute(status ->
+                        errorReportArchiveRepository.deleteBySegmentPath(segmentPath));
+                Files.deleteIfExists(root.resolve(segmentPath));
+                purged++;
+                log.info("보존 기간 만료 세그먼트 삭제 - {} ({}건)", segmentPath, removed);
+            } catch (Exception e) {
+                log.warn("보존 기간 만료 세그먼트 삭제 실패 - {}: {}", segmentPath, e.getMessage());
+            }
+        }
+
+        meterRegistry.counter("error_report.archive.purged.segments").increment(purged);
+        return purged;
+    }
+
+    /**
+     * 보관된 리포트 ID 조회
+     * - 색인에서 블록 위치를 찾아 해당 gzip 블록만 읽고 압축 해제
+     *
+     * @return 보관된 리포트 (원본 테이블 엔티티 형태, 영속 상태 아님)
+     * @throws ArchivedReportUnavailableException 세그먼트 파일이 없거나 읽을 수 없는 경우
+     */
+    public Optional<ErrorReport> findArchivedReport(Long id) {
+        Optional<ErrorReportArchive> entry = errorReportArchiveRepository.findById(id);
+        if (entry.isEmpty()) {
+            meterRegistry.counter("error_report.archive.lookups", "result", "miss").increment();
+            return Optional.empty();
+        }
+
+        ErrorReportArchive archive = entry.get();
+        Path segment = Paths.get(archivePath).resolve(archive.getSegmentPath());
+        try {
+            byte[] block = readBlock(segment, archive.getBlockOffset(), archive.getBlockLength());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(new ByteArrayInputStream(block)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    ArchivedReport record = objectMapper.readValue(line, ArchivedReport.class);
+                    if (id.equals(record.id())) {
+                        meterRegistry.counter("error_report.archive.lookups", "result", "hit").increment();
+                        return Optional.of(record.toEntity());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("보관 세그먼트 읽기 실패 - ID: {}, 세그먼트: {}", id, segment, e);
+            meterRegistry.counter("error_report.archive.lookups", "result", "unavailable").increment();
+            throw new ArchivedReportUnavailableException("보관된 에러 리포트를 읽을 수 없습니다. (ID: " + id + ")", e);
+        }
+
+        log.warn("보관 색인과 세그먼트 내용 불일치 - ID: {}, 세그먼트: {}", id, segment);
+        meterRegistry.counter("error_report.archive.lookups", "result", "corrupt").increment();
+        return Optional.empty();
+    }
+
+    // ========================================
+    // 내부 처리
+    // ========================================
+
+    /**
+     * 배치 보관: 세그먼트 기록 → (색인 저장 + 원본 삭제) 한 트랜잭션
+     */
+    private BatchResult archiveBatch(Path root, List<Long> ids, LocalDateTime now) throws IOException {
+        List<ErrorReport> reports = errorReportRepository.findAllById(ids);
+
+        // 생성 월별 세그먼트 (보존 기간 정리가 월 단위로 이뤄지도록)
+        Map<YearMonth, List<ErrorReport>> byMonth = new TreeMap<>();
+        for (ErrorReport report : reports) {
+            byMonth.computeIfAbsent(YearMonth.from(report.getCreatedDt()), k -> new ArrayList<>()).add(report);
+        }
+
+        List<Path> writtenSegments = new ArrayList<>();
+        Map<Long, ErrorReportArchive> entries = new HashMap<>();
+        Map<Long, Long> versions = new HashMap<>();
+        try {
+            for (Map.Entry<YearMonth, List<ErrorReport>> month : byMonth.entrySet()) {
+                writtenSegments.add(writeSegment(root, month.getKey(), month.getValue(), now, entries));
+            }
+            for (ErrorReport report : reports) {
+                versions.put(report.getId(), report.getVersion());
+            }
+
+            List<Long> archivedIds = transactionTemplate.execute(status -> {
+                // 세그먼트 기록 이후 변경(상태 변경, 복구 등)된 행은 제외
+                List<Long> unchanged = errorReportRepository.findAllByIdForUpdate(versions.keySet()).stream()
+                        .filter(current -> Objects.equals(current.getVersion(), versions.get(current.getId())))
+                        .map(ErrorReport::getId)
+                        .toList();
+                if (unchanged.isEmpty()) {
+                    return unchanged;
+                }
+                insertArchiveEntries(unchanged.stream().map(entries::get).toList());
+                errorReportRepository.deleteAllByIdIn(unchanged);
+                return unchanged;
+            });
+
+            if (!archivedIds.isEmpty()) {
+                // 통계 캐시/실시간 스트림 동기화 (트랜잭션 밖이므로 즉시 처리)
+                eventPublisher.publishEvent(new ErrorReportChangedEvent(archivedIds));
+            }
+
+            meterRegistry.counter("error_report.archive.records").increment(archivedIds.size());
+            meterRegistry.counter("error_report.archive.segments").increment(writtenSegments.size());
+            return new BatchResult(archivedIds.size(), reports.size() - archivedIds.size());
+
+        } catch (IOException | RuntimeException e) {
+            // 색인이 저장되지 않은 세그먼트는 참조되지 않으므로 삭제
+            for (Path segment : writtenSegments) {
+                Files.deleteIfExists(segment);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 색인 행 JDBC 배치 INSERT
+     */
+    private void insertArchiveEntries(List<ErrorReportArchive> archives) {
+        List<Object[]> rows = new ArrayList<>(archives.size());
+        for (ErrorReportArchive archive : archives) {
+            rows.add(new Object[]{
+                    archive.getReportId(),
+                    archive.getReportCategory() != null ? archive.getReportCategory().name() : null,
+                    archive.getReportStatus() != null ? archive.getReportStatus().name() : null,
+                    archive.getIsDeleted(),
+                    Timestamp.valueOf(archive.getCreatedDt()),
+                    Timestamp.valueOf(archive.getArchivedDt()),
+                    archive.getSegmentPath(),
+                    archive.getBlockOffset(),
+                    archive.getBlockLength()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ARCHIVE_SQL, rows);
+    }
+
+    /**
+     * 세그먼트 파일 기록
+     * - blockRecords 건마다 독립 gzip 블록으로 압축해 이어 붙임
+     * - 스테이징에 기록 + fsync 후 월 디렉토리로 원자적 이동
+     *
+     * @return 기록된 세그먼트 경로
+     */
+    private Path writeSegment(Path root, YearMonth month, List<ErrorReport> reports, LocalDateTime now,
+                              Map<Long, ErrorReportArchive> entries) throws IOException {
+        String fileName = "error-report-" + now.format(SEGMENT_TIME) + "-"
+                + UUID.randomUUID().toString().substring(0, 8) + SEGMENT_SUFFIX;
+        String relativePath = month.format(MONTH_DIR) + "/" + fileName;
+        Path staging = root.resolve(STAGING_DIR).resolve(fileName);
+        Path target = root.resolve(relativePath);
+
+        int perBlock = Math.max(1, blockRecords);
+        long offset = 0L;
+        try (FileChannel channel = FileChannel.open(staging,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            for (int from = 0; from < reports.size(); from += perBlock) {
+                List<ErrorReport> block = reports.subList(from, Math.min(from + perBlock, reports.size()));
+                byte[] compressed = compressBlock(block);
+
+                ByteBuffer buffer = ByteBuffer.wrap(compressed);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+
+                for (ErrorReport report : block) {
+                    entries.put(report.getId(), ErrorReportArchive.builder()
+                            .reportId(report.getId())
+                            .reportCategory(report.getReportCategory())
+                            .reportStatus(report.getReportStatus())
+                            .isDeleted(Boolean.TRUE.equals(report.getIsDeleted()))
+                            .createdDt(report.getCreatedDt())
+                            .archivedDt(now)
+                            .segmentPath(relativePath)
+                            .blockOffset(offset)
+                            .blockLength(compressed.length)
+                            .build());
+                }
+                offset += compressed.length;
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(staging);
+            throw e;
+        }
+
+        Files.createDirectories(target.getParent());
+        Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+        return target;
+    }
+
+    private byte[] compressBlock(List<ErrorReport> block) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            for (ErrorReport report : block) {
+                gzip.write(objectMapper.writeValueAsBytes(ArchivedReport.from(report)));
+                gzip.write('\n');
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] readBlock(Path segment, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("세그먼트 블록이 잘렸습니다: " + segment);
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    private Path prepareRoot() throws IOException {
+        Path root = Paths.get(archivePath);
+        Files.createDirectories(root.resolve(STAGING_DIR));
+        return root;
+    }
+
+    private record BatchResult(int archived, int skipped) {
+    }
+
+    /**
+     * 세그먼트 NDJSON 한 줄 (원본 행 전체 컬럼)
+     */
+    record ArchivedReport(Long id,
+                          String reportTitle,
+                          String reportPreview,
+                          ErrorReport.ReportCategory reportCategory,
+                          String reportPath,
+                          ErrorReport.ReportStatus reportStatus,
+                          String reportComment,
+                          Boolean isDeleted,
+                          LocalDateTime createdDt,
+                          LocalDateTime deletedDt,
+                          Long version) {
+
+        static ArchivedReport from(ErrorReport report) {
+            return new ArchivedReport(report.getId(), report.getReportTitle(), report.getReportPreview(),
+                    report.getReportCategory(), report.getReportPath(), report.getReportStatus(),
+                    report.getReportComment(), report.getIsDeleted(), report.getCreatedDt(),
+                    report.getDeletedDt(), report.getVersion());
+        }
+
+        ErrorReport toEntity() {
+            return ErrorReport.builder()
+                    .id(id)
+                    .reportTitle(reportTitle)
+                    .reportPreview(reportPreview)
+                    .reportCategory(reportCategory)
+                    .reportPath(reportPath)
+                    .reportStatus(reportStatus)
+                    .reportComment(reportComment)
+                    .isDeleted(isDeleted)
+                    .createdDt(createdDt)
+                    .deletedDt(deletedDt)
+                    .version(version)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.rookies.log2doc.service;
+
+import com.rookies.log2doc.analytics.MinHasher;
+import com.rookies.log2doc.entity.ErrorReport;
+import com.rookies.log2doc.entity.ErrorReportCluster;
+import com.rookies.log2doc.entity.ErrorReportSignature;
+import com.rookies.log2doc.repository.ErrorReportClusterRepository;
+import com.rookies.log2doc.repository.ErrorReportLshBandRepository;
+import com.rookies.log2doc.repository.ErrorReportRepository;
+import com.rookies.log2doc.repository.ErrorReportSignatureRepository;
+import com.rookies.log2doc.scheduler.RedisLeaseLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+/**
+ * 유사 에러 리포트 클러스터링 서비스 (MinHash + LSH, 증분 색인)
+ *
+ * 처리 방식
+ * - Flask가 INSERT 한 신규 리포트를 ID 워터마크(마지막 색인 ID) 이후부터 배치로 읽음
+ *   (서명이 없으면 보존 기간 안에 생성된 리포트부터 → 정리로 서명이 모두 지워져도 만료분을 다시 색인하지 않음)
+ * - 리포트마다 제목 + 미리보기의 MinHash 서명 계산 → LSH 밴드 키로 후보 리포트만 조회
+ *   (밴드별 PK 역순 범위 조회 max-candidates건씩 UNION ALL → 그중 최신 max-candidates건)
+ *   → 서명 유사도가 임계값 이상인 가장 비슷한 리포트의 클러스터에 배정
+ * - 후보가 없으면 새 클러스터 (클러스터 ID = 리포트 ID)
+ * - 서명/밴드/클러스터 갱신은 배치당 한 트랜잭션 (서명·밴드는 JDBC 배치 INSERT)
+ *
+ * 리포트당 비용은 후보 조회 1회(읽는 밴드 행 최대 bands × max-candidates) + 후보 서명 비교(최대 max-candidates건)로
+ * 전체 건수/밴드 크기와 무관 (전체 쌍 비교 없음, 흔한 밴드 키도 전체 행을 읽지 않음)
+ *
+ * 색인/정리 작업은 클러스터 전체에서 한 노드만 실행 (RedisLeaseLock, 배치마다 임대 연장)
+ * - 락을 잃은 상태에서 다른 노드와 겹치더라도 서명 PK 충돌로 한쪽 트랜잭션만 반영됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorReportClusterService {
+
+    private final ErrorReportRepository errorReportRepository;
+    private final ErrorReportSignatureRepository signatureRepository;
+    private final ErrorReportLshBandRepository bandRepository;
+    private final ErrorReportClusterRepository clusterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisLeaseLock redisLeaseLock;
+
+    private static final String INDEX_LOCK_NAME = "error-report-cluster-index";
+    private static final String PURGE_LOCK_NAME = "error-report-cluster-purge";
+
+    private static final String INSERT_SIGNATURE_SQL =
+            "INSERT INTO error_report_signature (report_id, cluster_id, signature, created_dt) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_BAND_SQL =
+            "INSERT INTO error_report_lsh_band (band_key, report_id) VALUES (?, ?)";
+
+    @Value("${error-report.cluster.enabled:true}")
+    private boolean enabled;
+
+    /** 문자 shingle 길이 */
+    @Value("${error-report.cluster.shingle-size:5}")
+    private int shingleSize;
+
+    /** LSH 밴드 수 × 밴드당 행 수 = 서명 길이 (기본 20 × 5 = 100, 후보 임계 유사도 ≈ 0.55) */
+    @Value("${error-report.cluster.bands:20}")
+    private int bands;
+
+    @Value("${error-report.cluster.rows-per-band:5}")
+    private int rowsPerBand;
+
+    /** 같은 클러스터로 묶을 최소 추정 유사도 (Jaccard) */
+    @Value("${error-report.cluster.similarity-threshold:0.6}")
+    private double similarityThreshold;
+
+    /** 리포트당 비교할 최대 후보 수 (큰 클러스터에서도 비교 비용 제한) */
+    @Value("${error-report.cluster.max-candidates:50}")
+    private int maxCandidates;
+
+    /** 배치당 리포트 수 (배치당 한 트랜잭션) */
+    @Value("${error-report.cluster.batch-size:500}")
+    private int batchSize;
+
+    /** 생성 후 이 시간(초)이 지난 리포트만 색인 (늦게 커밋되는 INSERT로 인한 ID 건너뜀 방지) */
+    @Value("${error-report.cluster.settle-seconds:10}")
+    private long settleSeconds;
+
+    /** 서명/밴드/클러스터 보존 기간 (리포트 생성일 기준, 0 이하: 영구 보존) */
+    @Value("${error-report.cluster.retention-days:180}")
+    private int retentionDays;
+
+    /** 클러스터 락 임대 기간 (배치마다 연장) */
+    @Value("${error-report.cluster.lock-ttl-seconds:120}")
+    private long lockTtlSeconds;
+
+    private MinHasher minHasher;
+
+    /** 밴드별 후보 조회 SQL (밴드 수만큼 UNION ALL, init에서 생성) */
+    private String candidateSql;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @PostConstruct
+    public void init() {
+        minHasher = new MinHasher(shingleSize, bands, rowsPerBand);
+        candidateSql = buildCandidateSql(bands);
+    }
+
+    /**
+     * 밴드 키별 최신 리포트 ID 후보 조회 SQL
+     * - 밴드마다 PK(band_key, report_id) 역순 범위 조회로 최대 limit건만 읽음
+     * - 전체 상위 limit건은 반드시 각 밴드의 상위 limit건 안에 있으므로 합친 뒤 중복 제거 + 상위 limit건이면 정확함
+     * - 파라미터: (band_key, limit) × 밴드 수 + 전체 limit
+     */
+    static String buildCandidateSql(int bandCount) {
+        StringJoiner union = new StringJoiner(" UNION ALL ");
+        for (int i = 0; i < bandCount; i++) {
+            union.add("(SELECT report_id FROM error_report_lsh_band WHERE band_key = ? ORDER BY report_id DESC LIMIT ?)");
+        }
+        return "SELECT DISTINCT c.report_id FROM (" + union + ") c ORDER BY c.report_id DESC LIMIT ?";
+    }
+
+    /**
+     * 신규 리포트 증분 색인 (기본: 10초마다)
+     * - 한 번 실행에서 밀린 배치를 모두 처리 (최초 실행 시 기존 리포트 전체 색인)
+     */
+    @Scheduled(fixedDelayString = "${error-report.cluster.interval-ms:10000}")
+    public void indexNewReports() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Optional<RedisLeaseLock.Lease> acquired = redisLeaseLock.tryAcquire(
+                    INDEX_LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+            if (acquired.isEmpty()) {
+                return;
+            }
+
+            try (RedisLeaseLock.Lease lease = acquired.get()) {
+                int indexed;
+                do {
+                    indexed = indexBatch();
+                } while (indexed >= batchSize && lease.extend());
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 노드가 같은 배치를 색인함 - 다음 주기에 이어서 처리: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("에러 리포트 클러스터 색인 실패: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 배치 하나 색인 (한 트랜잭션)
+     *
+     * @return 색인한 리포트 수
+     */
+    int indexBatch() {
+        Integer indexed = transactionTemplate.execute(status -> {
+            Long watermark = signatureRepository.findMaxReportId();
+            List<ErrorReport> reports = watermark != null
+                    ? errorReportRepository.findIndexBatch(watermark, batchSize)
+                    : findFirstIndexBatch();
+
+            // 아직 커밋 중일 수 있는 최근 리포트부터는 다음 주기에 처리 (ID 순서 유지)
+            LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(settleSeconds);
+            int settled = 0;
+            while (settled < reports.size() && reports.get(settled).getCreatedDt().isBefore(settledBefore)) {
+                settled++;
+            }
+            if (settled == 0) {
+                return 0;
+            }
+
+            BatchState batch = new BatchState();
+            for (ErrorReport report : reports.subList(0, settled)) {
+                assign(report, batch);
+            }
+            flush(batch);
+            return settled;
+        });
+
+        int count = indexed != null ? indexed : 0;
+        if (count > 0) {
+            meterRegistry.counter("error_report.cluster.indexed").increment(count);
+            log.debug("에러 리포트 클러스터 색인 - {}건", count);
+        }
+        return count;
+    }
+
+    /**
+     * 서명이 하나도 없을 때의 첫 배치
+     * - 보존 기간을 쓰면 기간 안의 리포트부터 (정리 직후 만료 리포트 전체를 다시 색인하지 않도록)
+     */
+    private List<ErrorReport> findFirstIndexBatch() {
+        if (retentionDays <= 0) {
+            return errorReportRepository.findIndexBatch(0L, batchSize);
+        }
+        return errorReportRepository.findFirstIndexBatch(LocalDateTime.now().minusDays(retentionDays), batchSize);
+    }
+
+    /**
+     * 리포트 하나를 클러스터에 배정
+     */
+    private void assign(ErrorReport report, BatchState batch) {
+        int[] signature = minHasher.signature(joinText(report));
+        long[] bandKeys = signature != null ? minHasher.bandKeys(signature) : null;
+
+        Long clusterId = bandKeys != null ? findSimilarCluster(signature, bandKeys, batch) : null;
+        ErrorReportCluster cluster = clusterId != null ? loadCluster(clusterId, batch) : null;
+
+        if (cluster == null) {
+            cluster = ErrorReportCluster.builder()
+                    .clusterId(report.getId())
+                    .memberCount(0L)
+                    .latestReportId(report.getId())
+                    .latestCreatedDt(report.getCreatedDt())
+                    .createdDt(report.getCreatedDt())
+                    .build();
+            batch.clusters.put(cluster.getClusterId(), cluster);
+        }
+
+        cluster.setMemberCount(cluster.getMemberCount() + 1);
+        if (report.getId() > cluster.getLatestReportId()) {
+            cluster.setLatestReportId(report.getId());
+        }
+        if (report.getCreatedDt().isAfter(cluster.getLatestCreatedDt())) {
+            cluster.setLatestCreatedDt(report.getCreatedDt());
+        }
+
+        batch.signatures.put(report.getId(), ErrorReportSignature.builder()
+                .reportId(report.getId())
+                .clusterId(cluster.getClusterId())
+                .signature(signature != null ? MinHasher.toBytes(signature) : null)
+                .createdDt(report.getCreatedDt())
+                .build());
+        batch.decoded.put(report.getId(), signature);
+        if (bandKeys != null) {
+            for (long bandKey : bandKeys) {
+                batch.bands.computeIfAbsent(bandKey, k -> new ArrayList<>()).add(report.getId());
+            }
+        }
+    }
+
+    /**
+     * LSH 후보 중 가장 유사한 리포트의 클러스터 ID
+     * - 후보 = DB 밴드 키 일치 리포트(최신 max-candidates건) + 같은 배치에서 앞서 배정된 리포트
+     *
+     * @return 임계값 이상인 후보가 없으면 null
+     */
+    private Long findSimilarCluster(int[] signature, long[] bandKeys, BatchState batch) {
+        Set<Long> candidateIds = new LinkedHashSet<>();
+        for (long bandKey : bandKeys) {
+            List<Long> inBatch = batch.bands.get(bandKey);
+            if (inBatch != null) {
+                candidateIds.addAll(inBatch);
+            }
+        }
+        List<Long> persisted = findCandidateReportIds(bandKeys);
+
+        Long bestCluster = null;
+        double bestSimilarity = -1.0;
+
+        for (Long candidateId : candidateIds) {
+            double similarity = MinHasher.similarity(signature, batch.decoded.get(candidateId));
+            if (similarity >= similarityThreshold && similarity > bestSimilarity) {
+                bestSimilarity = similarity;
+                bestCluster = batch.signatures.get(candidateId).getClusterId();
+            }
+        }
+        if (!persisted.isEmpty()) {
+            for (ErrorReportSignature candidate : signatureRepository.findAllById(persisted)) {
+                double similarity = MinHasher.similarity(signature, MinHasher.fromBytes(candidate.getSignature()));
+                if (similarity >= similarityThreshold && similarity > bestSimilarity) {
+                    bestSimilarity = similarity;
+                    bestCluster = candidate.getClusterId();
+                }
+            }
+        }
+        return bestCluster;
+    }
+
+    /**
+     * 밴드 키가 하나라도 일치하는 저장된 리포트 ID (최신 순, 최대 max-candidates건)
+     */
+    private List<Long> findCandidateReportIds(long[] bandKeys) {
+        Object[] params = new Object[bandKeys.length * 2 + 1];
+        for (int i = 0; i < bandKeys.length; i++) {
+            params[i * 2] = bandKeys[i];
+            params[i * 2 + 1] = maxCandidates;
+        }
+        params[params.length - 1] = maxCandidates;
+        return jdbcTemplate.queryForList(candidateSql, Long.class, params);
+    }
+
+    /**
+     * 클러스터 조회 (배치 내 변경분 우선, 보존 기간 정리로 사라진 클러스터면 null)
+     */
+    private ErrorReportCluster loadCluster(Long clusterId, BatchState batch) {
+        ErrorReportCluster cluster = batch.clusters.get(clusterId);
+        if (cluster == null) {
+            cluster = clusterRepository.findById(clusterId).orElse(null);
+            if (cluster != null) {
+                batch.clusters.put(clusterId, cluster);
+            }
+        }
+        return cluster;
+    }
+
+    /**
+     * 배치 결과 저장 (서명/밴드: JDBC 배치 INSERT, 클러스터: JPA)
+     */
+    private void flush(BatchState batch) {
+        List<Object[]> signatureRows = new ArrayList<>(batch.signatures.size());
+        for (ErrorReportSignature signature : batch.signatures.values()) {
+            signatureRows.add(new Object[]{
+                    signature.getReportId(),
+                    signature.getClusterId(),
+                    signature.getSignature(),
+                    Timestamp.valueOf(signature.getCreatedDt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SIGNATURE_SQL, signatureRows);
+
+        List<Object[]> bandRows = new ArrayList<>();
+        batch.bands.forEach((bandKey, reportIds) ->
+                reportIds.forEach(reportId -> bandRows.add(new Object[]{bandKey, reportId})));
+        if (!bandRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BAND_SQL, bandRows);
+        }
+
+        clusterRepository.saveAll(batch.clusters.values());
+    }
+
+    /**
+     * 보존 기간이 지난 서명/밴드/클러스터 정리 (기본: 매일 03:40)
+     * - 리포트 ID 기준 청크 삭제 (ID와 생성일 순서가 같다고 보고 기준일 이전 최대 ID까지 삭제)
+     */
+    @Scheduled(cron = "${error-report.cluster.purge-cron:0 40 3 * * *}")
+    public void purgeExpired() {
+        if (!enabled || retentionDays <= 0) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        try {
+            Optional<RedisLeaseLock.Lease> acquired = redisLeaseLock.tryAcquire(
+                    PURGE_LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+            if (acquired.isEmpty()) {
+                log.debug("에러 리포트 클러스터 색인 정리 건너뜀 - 다른 노드에서 실행 중");
+                return;
+            }
+            try (RedisLeaseLock.Lease lease = acquired.get()) {
+                purge(cutoff, lease);
+            }
+        } catch (Exception e) {
+            log.warn("에러 리포트 클러스터 색인 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기준일 이전 서명/밴드/클러스터 삭제 (밴드 → 서명 → 클러스터 순, 락을 잃으면 다음 단계로 넘어가지 않음)
+     */
+    private void purge(LocalDateTime cutoff, RedisLeaseLock.Lease lease) {
+        Long maxReportId = signatureRepository.findMaxReportIdCreatedBefore(cutoff);
+        if (maxReportId == null) {
+            return;
+        }
+
+        long bandsDeleted = deleteInChunks(() -> bandRepository.deleteUpTo(maxReportId, batchSize * bands), lease);
+        if (!lease.extend()) {
+            log.warn("에러 리포트 클러스터 색인 정리 중단 - 락 상실 (밴드 {}건까지 진행)", bandsDeleted);
+            return;
+        }
+        long signaturesDeleted = deleteInChunks(() -> signatureRepository.deleteUpTo(maxReportId, batchSize), lease);
+        if (!lease.extend()) {
+            log.warn("에러 리포트 클러스터 색인 정리 중단 - 락 상실 (서명 {}건까지 진행)", signaturesDeleted);
+            return;
+        }
+        Integer clustersDeleted = transactionTemplate.execute(status -> clusterRepository.deleteInactiveBefore(cutoff));
+
+        log.info("에러 리포트 클러스터 색인 정리 완료 - 서명 {}건, 밴드 {}건, 클러스터 {}건 (기준일 {})",
+                signaturesDeleted, bandsDeleted, clustersDeleted, cutoff.toLocalDate());
+    }
+
+    /**
+     * 청크 단위 삭제 (청크마다 락 임대 연장, 락을 잃으면 중단)
+     */
+    private long deleteInChunks(IntSupplier deleteChunk, RedisLeaseLock.Lease lease) {
+        long total = 0;
+        int deleted;
+        do {
+            Integer result = transactionTemplate.execute(status -> deleteChunk.getAsInt());
+            deleted = result != null ? result : 0;
+            total += deleted;
+        } while (deleted > 0 && lease.extend());
+        return total;
+    }
+
+    private static String joinText(ErrorReport report) {
+        String title = report.getReportTitle() != null ? report.getReportTitle() : "";
+        String preview = report.getReportPreview() != null ? report.getReportPreview() : "";
+        return title + "\n" + preview;
+    }
+
+    /**
+     * 배치 처리 중 상태 (같은 배치 안의 리포트끼리도 비교하기 위해 보관)
+     */
+    private static class BatchState {
+        private final Map<Long, ErrorReportSignature> signatures = new LinkedHashMap<>();
+        private final Map<Long, int[]> decoded = new HashMap<>();
+        private final Map<Long, List<Long>> bands = new HashMap<>();
+        private final Map<Long, ErrorReportCluster> clusters = new LinkedHashMap<>();
+    }
+}
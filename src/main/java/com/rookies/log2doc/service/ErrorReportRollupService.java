@@ -0,0 +1,436 @@
+package com.rookies.log2doc.service;
+
+import com.rookies.log2doc.scheduler.RedisLeaseLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 에러 리포트 일별 집계(error_report_daily_stat) 관리 서비스
+ *
+ * 처리 방식
+ * - error_report 테이블의 AFTER INSERT/UPDATE/DELETE 트리거로 집계 유지
+ *   → 리포트 생성(Flask 직접 INSERT 포함), 상태 변경, 소프트 삭제가 같은 트랜잭션 안에서 집계에 반영
+ * - 시작 시 information_schema.TRIGGERS와 비교해 없거나 정의가 다른 트리거만 설치
+ *   (이미 최신이면 DDL을 실행하지 않으므로 기동 중 INSERT 누락 구간이 생기지 않음)
+ * - 트리거 설치 후 전체 재계산(backfill), 완료 시각을 Redis에 기록 → 이후 집계 조회 사용 가능(rollupReady)
+ * - 재계산은 월 단위 구간으로 나눠 병렬 처리, 구간마다 DELETE + INSERT ... SELECT 한 트랜잭션
+ * - 주기적 재계산으로 트리거 설치 이전/장애 중 누락분 보정
+ *
+ * 트리거 설치와 재계산은 클러스터 전체에서 한 노드만 실행 (RedisLeaseLock)
+ * - 다른 노드가 준비 중이면 원본 테이블 집계를 사용하다가 주기적으로 다시 확인
+ *
+ * MariaDB/MySQL이 아니거나 트리거 설치에 실패하면 rollupReady=false 로 남고
+ * ErrorReportService는 기존 원본 테이블 집계 쿼리를 사용함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorReportRollupService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisLeaseLock redisLeaseLock;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String STAT_TABLE = "error_report_daily_stat";
+
+    private static final String LOCK_NAME = "error-report-rollup";
+
+    /** 마지막 전체 재계산 완료 시각 (트리거 교체 시 삭제 → 다시 재계산) */
+    private static final String REBUILT_AT_KEY = "error-report:rollup:rebuilt-at";
+
+    /** 집계 키 표현식 (카테고리 NULL은 엔티티 기본값 VALID로, 대소문자는 Enum 이름 기준으로 통일) */
+    private static final String CATEGORY_EXPR = "UPPER(COALESCE(%s.report_category, 'VALID'))";
+    private static final String STATUS_EXPR = "UPPER(%s.report_status)";
+    private static final String NOT_DELETED_EXPR = "COALESCE(%s.is_deleted, 0) = 0";
+
+    @Value("${error-report.rollup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${error-report.rollup.rebuild-parallelism:4}")
+    private int parallelism;
+
+    /** 트리거 설치/재계산 락 임대 기간 (월 구간 하나의 재계산 시간보다 길게) */
+    @Value("${error-report.rollup.lock-ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    /** 집계 테이블 조회 가능 여부 (트리거 설치 + 초기 재계산 완료) */
+    private volatile boolean rollupReady = false;
+
+    private volatile boolean triggersInstalled = false;
+
+    /** 트리거 미지원 DB 또는 설치 실패 (재확인 불필요) */
+    private volatile boolean unsupported = false;
+
+    /** MariaDB 여부 (CREATE OR REPLACE TRIGGER 사용) */
+    private volatile boolean mariaDb = false;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    /**
+     * 애플리케이션 기동 완료 후 트리거 확인/설치 및 초기 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("에러 리포트 집계 테이블 비활성화 - 원본 테이블 집계 사용");
+            return;
+        }
+
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product != null ? product.toLowerCase(Locale.ROOT) : "";
+            if (!normalized.contains("mariadb") && !normalized.contains("mysql")) {
+                unsupported = true;
+                log.info("에러 리포트 집계 트리거 미지원 DB ({}) - 원본 테이블 집계 사용", product);
+                return;
+            }
+            mariaDb = normalized.contains("mariadb");
+        } catch (Exception e) {
+            unsupported = true;
+            log.warn("에러 리포트 집계 DB 확인 실패 - 원본 테이블 집계 사용: {}", e.getMessage());
+            return;
+        }
+
+        prepare();
+    }
+
+    /**
+     * 집계가 아직 준비되지 않았으면 주기적으로 다시 확인 (다른 노드가 준비 중이던 경우)
+     */
+    @Scheduled(fixedDelayString = "${error-report.rollup.ready-check-interval-ms:60000}",
+            initialDelayString = "${error-report.rollup.ready-check-interval-ms:60000}")
+    public void recheckReady() {
+        if (enabled && !unsupported && !rollupReady) {
+            prepare();
+        }
+    }
+
+    /**
+     * 정기 재계산 (기본: 매일 04:00, 클러스터에서 한 노드만 실행)
+     */
+    @Scheduled(cron = "${error-report.rollup.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        if (!enabled || !triggersInstalled) {
+            return;
+        }
+
+        Optional<RedisLeaseLock.Lease> acquired = acquireLock();
+        if (acquired.isEmpty()) {
+            log.info("에러 리포트 집계 정기 재계산 건너뜀 - 다른 노드에서 실행 중");
+            return;
+        }
+
+        try (RedisLeaseLock.Lease lease = acquired.get()) {
+            if (rebuildAll(lease)) {
+                markRebuilt();
+                rollupReady = true;
+            }
+        }
+    }
+
+    /**
+     * 트리거가 최신이고 재계산 기록이 있으면 바로 사용, 아니면 락을 잡고 설치/재계산
+     */
+    private void prepare() {
+        try {
+            if (outdatedTriggers().isEmpty() && isRebuilt()) {
+                triggersInstalled = true;
+                rollupReady = true;
+                log.info("에러 리포트 집계 테이블 준비 완료 (기존 트리거 사용)");
+                return;
+            }
+
+            Optional<RedisLeaseLock.Lease> acquired = acquireLock();
+            if (acquired.isEmpty()) {
+                log.info("에러 리포트 집계 준비 대기 - 다른 노드에서 트리거 설치/재계산 중 (원본 테이블 집계 사용)");
+                return;
+            }
+
+            try (RedisLeaseLock.Lease lease = acquired.get()) {
+                // 락 대기 중 다른 노드가 설치했을 수 있으므로 다시 확인
+                List<TriggerDefinition> outdated = outdatedTriggers();
+                if (!outdated.isEmpty()) {
+                    redisTemplate.delete(REBUILT_AT_KEY);
+                    installTriggers(outdated);
+                }
+                triggersInstalled = true;
+
+                if (!isRebuilt()) {
+                    if (!rebuildAll(lease)) {
+                        return;
+                    }
+                    markRebuilt();
+                }
+                rollupReady = true;
+                log.info("에러 리포트 집계 테이블 준비 완료");
+            }
+        } catch (Exception e) {
+            log.warn("에러 리포트 집계 준비 실패 - 원본 테이블 집계 사용: {}", e.getMessage());
+        }
+    }
+
+    private Optional<RedisLeaseLock.Lease> acquireLock() {
+        try {
+            return redisLeaseLock.tryAcquire(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+        } catch (Exception e) {
+            log.warn("에러 리포트 집계 락 획득 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isRebuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REBUILT_AT_KEY));
+    }
+
+    private void markRebuilt() {
+        redisTemplate.opsForValue().set(REBUILT_AT_KEY, LocalDateTime.now().toString());
+    }
+
+    /**
+     * 집계 테이블 조회 가능 여부
+     */
+    public boolean isRollupReady() {
+        return rollupReady;
+    }
+
+    /**
+     * 전체 재계산
+     * - 리포트가 존재하는 월 범위를 월 단위 구간으로 나눠 병렬 처리
+     * - 범위 밖 집계 행은 삭제
+     * - 같은 인스턴스에서 동시에 두 번 실행되지 않음
+     * - 구간이 끝날 때마다 락 임대 연장, 락을 잃으면 남은 구간은 취소
+     *
+     * @param lease 보유 중인 클러스터 락
+     * @return 모든 구간 재계산 성공 여부
+     */
+    private boolean rebuildAll(RedisLeaseLock.Lease lease) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("에러 리포트 집계 재계산이 이미 실행 중입니다.");
+            return false;
+        }
+
+        long startNanos = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, parallelism), rollupThreadFactory());
+
+        try {
+            LocalDateTime minCreated = jdbcTemplate.queryForObject(
+                    "SELECT MIN(created_dt) FROM error_report", LocalDateTime.class);
+            LocalDateTime maxCreated = jdbcTemplate.queryForObject(
+                    "SELECT MAX(created_dt) FROM error_report", LocalDateTime.class);
+
+            if (minCreated == null || maxCreated == null) {
+                jdbcTemplate.update("DELETE FROM " + STAT_TABLE);
+                log.info("에러 리포트 집계 재계산 완료 - 대상 리포트 없음");
+                return true;
+            }
+
+            YearMonth first = YearMonth.from(minCreated);
+            YearMonth last = YearMonth.from(maxCreated);
+
+            // 리포트 범위 밖에 남은 집계 행 정리
+            jdbcTemplate.update("DELETE FROM " + STAT_TABLE + " WHERE stat_date < ? OR stat_date >= ?",
+                    first.atDay(1), last.plusMonths(1).atDay(1));
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+                YearMonth target = month;
+                futures.add(pool.submit(() -> rebuildMonth(target)));
+            }
+
+            int failed = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    failed++;
+                    log.error("에러 리포트 집계 구간 재계산 실패", e);
+                }
+                if (!lease.extend()) {
+                    log.warn("에러 리포트 집계 락 상실 - 재계산 중단");
+                    return false;
+                }
+            }
+
+            if (failed > 0) {
+                meterRegistry.counter("error_report.rollup.rebuild.failures").increment(failed);
+                log.warn("에러 리포트 집계 재계산 일부 실패 - 전체 {}개월 중 {}개월 실패", futures.size(), failed);
+                return false;
+            }
+
+            log.info("에러 리포트 집계 재계산 완료 - {} ~ {} ({}개월)", first, last, futures.size());
+            return true;
+        } catch (Exception e) {
+            meterRegistry.counter("error_report.rollup.rebuild.failures").increment();
+            log.error("에러 리포트 집계 재계산 실패", e);
+            return false;
+        } finally {
+            pool.shutdownNow();
+            meterRegistry.timer("error_report.rollup.rebuild.duration")
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 한 달 구간 재계산 (한 트랜잭션)
+     * - INSERT ... SELECT가 원본 구간을 잠그므로 재계산 중 들어온 INSERT는 커밋 후 트리거로 반영됨
+     */
+    private void rebuildMonth(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM " + STAT_TABLE + " WHERE stat_date >= ? AND stat_date < ?", from, to);
+            jdbcTemplate.update(
+                    "INSERT INTO " + STAT_TABLE + " (stat_date, report_category, report_status, report_count) " +
+                            "SELECT DATE(e.created_dt), " + CATEGORY_EXPR.formatted("e") + ", " + STATUS_EXPR.formatted("e") + ", COUNT(*) " +
+                            "FROM error_report e " +
+                            "WHERE " + NOT_DELETED_EXPR.formatted("e") + " AND e.created_dt >= ? AND e.created_dt < ? " +
+                            "GROUP BY DATE(e.created_dt), " + CATEGORY_EXPR.formatted("e") + ", " + STATUS_EXPR.formatted("e"),
+                    from.atStartOfDay(), to.atStartOfDay());
+        });
+
+        log.debug("에러 리포트 집계 구간 재계산 완료 - {}", month);
+    }
+
+    /**
+     * 설치가 필요한 트리거 (없거나 정의가 다른 것)
+     * - information_schema.TRIGGERS의 이벤트/본문과 비교 (본문은 공백 차이 무시)
+     */
+    private List<TriggerDefinition> outdatedTriggers() {
+        Map<String, String> installed = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT TRIGGER_NAME, EVENT_MANIPULATION, EVENT_OBJECT_TABLE, ACTION_TIMING, ACTION_STATEMENT " +
+                        "FROM information_schema.TRIGGERS WHERE TRIGGER_SCHEMA = DATABASE() AND TRIGGER_NAME LIKE 'trg\\_error\\_report\\_stat\\_%'",
+                rs -> {
+                    installed.put(rs.getString("TRIGGER_NAME"), rs.getString("ACTION_TIMING") + " "
+                            + rs.getString("EVENT_MANIPULATION") + " " + rs.getString("EVENT_OBJECT_TABLE") + " "
+                            + normalize(rs.getString("ACTION_STATEMENT")));
+                });
+
+        List<TriggerDefinition> outdated = new ArrayList<>();
+        for (TriggerDefinition trigger : triggerDefinitions()) {
+            String expected = "AFTER " + trigger.event() + " error_report " + normalize(trigger.body());
+            if (!expected.equalsIgnoreCase(installed.getOrDefault(trigger.name(), ""))) {
+                outdated.add(trigger);
+            }
+        }
+        return outdated;
+    }
+
+    /**
+     * 트리거 설치
+     * - 없는 트리거는 CREATE, 정의가 다른 트리거는 MariaDB에서 CREATE OR REPLACE로 교체 (삭제 구간 없음)
+     * - MySQL은 교체 구문이 없어 DROP 후 CREATE (교체 직후 재계산으로 보정)
+     */
+    private void installTriggers(List<TriggerDefinition> triggers) {
+        for (TriggerDefinition trigger : triggers) {
+            String create = "CREATE TRIGGER ";
+            if (mariaDb) {
+                create = "CREATE OR REPLACE TRIGGER ";
+            } else {
+                jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + trigger.name());
+            }
+            jdbcTemplate.execute(create + trigger.name() + " AFTER " + trigger.event()
+                    + " ON error_report FOR EACH ROW\n" + trigger.body());
+            log.info("에러 리포트 집계 트리거 설치 완료 - {}", trigger.name());
+        }
+    }
+
+    /**
+     * error_report 집계 트리거 정의
+     */
+    private List<TriggerDefinition> triggerDefinitions() {
+        return List.of(
+                new TriggerDefinition("trg_error_report_stat_ai", "INSERT", """
+                        BEGIN
+                            IF %s THEN
+                                %s
+                            END IF;
+                        END""".formatted(NOT_DELETED_EXPR.formatted("NEW"), incrementSql("NEW"))),
+                new TriggerDefinition("trg_error_report_stat_au", "UPDATE", """
+                        BEGIN
+                            IF NOT (COALESCE(OLD.is_deleted, 0) <=> COALESCE(NEW.is_deleted, 0)
+                                    AND OLD.report_category <=> NEW.report_category
+                                    AND OLD.report_status <=> NEW.report_status
+                                    AND DATE(OLD.created_dt) <=> DATE(NEW.created_dt)) THEN
+                                IF %s THEN
+                                    %s
+                                END IF;
+                                IF %s THEN
+                                    %s
+                                END IF;
+                            END IF;
+                        END""".formatted(NOT_DELETED_EXPR.formatted("OLD"), decrementSql("OLD"),
+                        NOT_DELETED_EXPR.formatted("NEW"), incrementSql("NEW"))),
+                new TriggerDefinition("trg_error_report_stat_ad", "DELETE", """
+                        BEGIN
+                            IF %s THEN
+                                %s
+                            END IF;
+                        END""".formatted(NOT_DELETED_EXPR.formatted("OLD"), decrementSql("OLD"))));
+    }
+
+    private static String normalize(String sql) {
+        return sql == null ? "" : sql.replaceAll("\\s+", " ").trim();
+    }
+
+    /** 트리거 이름, 이벤트(INSERT/UPDATE/DELETE), 본문(BEGIN ... END) */
+    private record TriggerDefinition(String name, String event, String body) {
+    }
+
+    /** 집계 행 +1 (없으면 생성) */
+    private String incrementSql(String row) {
+        return "INSERT INTO " + STAT_TABLE + " (stat_date, report_category, report_status, report_count) " +
+                "VALUES (DATE(" + row + ".created_dt), " + CATEGORY_EXPR.formatted(row) + ", " + STATUS_EXPR.formatted(row) + ", 1) " +
+                "ON DUPLICATE KEY UPDATE report_count = report_count + 1;";
+    }
+
+    /** 집계 행 -1 */
+    private String decrementSql(String row) {
+        return "UPDATE " + STAT_TABLE + " SET report_count = report_count - 1 " +
+                "WHERE stat_date = DATE(" + row + ".created_dt) " +
+                "AND report_category = " + CATEGORY_EXPR.formatted(row) + " " +
+                "AND report_status = " + STATUS_EXPR.formatted(row) + ";";
+    }
+
+    private ThreadFactory rollupThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "error-report-rollup-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package com.rookies.log2doc.service;
+
+import com.rookies.log2doc.scheduler.RedisLeaseLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 에러 리포트 검색 인덱스 관리 서비스
+ * - 시작 시 error_report(report_title, report_preview)에 FULLTEXT 인덱스가 없으면 생성 (MariaDB/MySQL)
+ * - 검색어 → BOOLEAN MODE 질의 변환 (모든 단어 필수 + 접두어 일치)
+ *
+ * 한글 두 글자 단어 검색
+ * - MySQL: ngram 파서로 인덱스 생성 (ngram_token_size, 기본 2)
+ * - MariaDB: ngram 파서가 없으므로 서버 설정 innodb_ft_min_token_size=2 로 운영 (docker-compose 참고)
+ * - 인덱스 생성 시의 최소 토큰 길이를 인덱스 COMMENT(min_token=N)에 기록하고,
+ *   이후 서버 설정이 바뀌어도 인덱스를 다시 만들기 전까지는 기록된 값을 기준으로 판단
+ *
+ * 인덱스 생성(DDL)은 클러스터 전체에서 한 노드만 실행 (RedisLeaseLock)
+ * - 다른 노드가 생성 중이면 LIKE 검색으로 동작하다가 주기적으로 다시 확인
+ *
+ * FULLTEXT 인덱스를 쓸 수 없는 경우 ErrorReportService는 LIKE 검색(페이지 단위)으로 처리
+ * - 미지원 DB(H2 등) 또는 인덱스 생성 실패/대기 중
+ * - 검색어에 최소 토큰 길이보다 짧은 단어가 포함된 경우
+ *   (짧은 단어는 FULLTEXT 인덱스에 없어 결과가 누락되므로 정확도를 위해 LIKE 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorReportSearchService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisLeaseLock redisLeaseLock;
+
+    public static final String FULLTEXT_INDEX = "ftx_error_report_title_preview";
+
+    private static final String LOCK_NAME = "error-report-fulltext-index";
+    private static final String TOKEN_COMMENT_PREFIX = "min_token=";
+
+    /** 최소 토큰 길이 기록이 없는 기존 인덱스의 기준값 (innodb_ft_min_token_size 기본값) */
+    private static final int LEGACY_MIN_TOKEN_LENGTH = 3;
+
+    @Value("${error-report.search.fulltext-enabled:true}")
+    private boolean enabled;
+
+    /** 인덱스 생성 락 임대 기간 (DDL 실행 시간보다 길게) */
+    @Value("${error-report.search.index-lock-ttl-seconds:1800}")
+    private long lockTtlSeconds;
+
+    /** FULLTEXT 검색 가능 여부 */
+    private volatile boolean fullTextReady = false;
+
+    /** FULLTEXT 미지원 DB (재확인 불필요) */
+    private volatile boolean unsupported = false;
+
+    /** 인덱스 기준 최소 토큰 길이 */
+    private volatile int minTokenLength = LEGACY_MIN_TOKEN_LENGTH;
+
+    /**
+     * FULLTEXT 인덱스 생성 DDL
+     *
+     * @param ngramParser ngram 파서 사용 여부 (MySQL)
+     * @param tokenSize   인덱스 생성 시점의 최소 토큰 길이 (COMMENT에 기록)
+     */
+    public static String fullTextIndexDdl(boolean ngramParser, int tokenSize) {
+        return "ALTER TABLE error_report ADD FULLTEXT INDEX " + FULLTEXT_INDEX + " (report_title, report_preview)"
+                + (ngramParser ? " WITH PARSER ngram" : "")
+                + " COMMENT '" + TOKEN_COMMENT_PREFIX + tokenSize + "'";
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 FULLTEXT 인덱스 확인/생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("에러 리포트 FULLTEXT 검색 비활성화 - LIKE 검색 사용");
+            return;
+        }
+        prepareIndex();
+    }
+
+    /**
+     * 인덱스가 아직 준비되지 않았으면 주기적으로 다시 확인 (다른 노드가 생성 중이던 경우)
+     */
+    @Scheduled(fixedDelayString = "${error-report.search.index-check-interval-ms:60000}",
+            initialDelayString = "${error-report.search.index-check-interval-ms:60000}")
+    public void recheckIndex() {
+        if (enabled && !fullTextReady && !unsupported) {
+            prepareIndex();
+        }
+    }
+
+    private void prepareIndex() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product != null ? product.toLowerCase(Locale.ROOT) : "";
+            if (!normalized.contains("mariadb") && !normalized.contains("mysql")) {
+                unsupported = true;
+                log.info("FULLTEXT 인덱스 미지원 DB ({}) - LIKE 검색 사용", product);
+                return;
+            }
+            boolean ngramParser = !normalized.contains("mariadb");
+
+            int serverTokenSize = jdbcTemplate.queryForObject(
+                    ngramParser ? "SELECT @@ngram_token_size" : "SELECT @@innodb_ft_min_token_size", Integer.class);
+
+            Optional<String> comment = findIndexComment();
+            if (comment.isEmpty()) {
+                if (!createIndex(ngramParser, serverTokenSize)) {
+                    return;
+                }
+                comment = Optional.of(TOKEN_COMMENT_PREFIX + serverTokenSize);
+            }
+
+            minTokenLength = parseTokenSize(comment.get());
+            if (minTokenLength != serverTokenSize) {
+                log.warn("FULLTEXT 인덱스 최소 토큰 길이({})가 서버 설정({})과 다름 - 인덱스를 다시 생성해야 짧은 단어가 색인됨",
+                        minTokenLength, serverTokenSize);
+            }
+            fullTextReady = true;
+            log.info("에러 리포트 FULLTEXT 검색 준비 완료 (최소 토큰 길이 {})", minTokenLength);
+        } catch (Exception e) {
+            log.warn("에러 리포트 FULLTEXT 인덱스 준비 실패 - LIKE 검색 사용: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 클러스터 락을 잡고 인덱스 생성 (락 획득 후 다시 확인)
+     *
+     * @return 인덱스가 준비되었으면 true, 다른 노드가 생성 중이면 false
+     */
+    private boolean createIndex(boolean ngramParser, int tokenSize) {
+        Optional<RedisLeaseLock.Lease> acquired = redisLeaseLock.tryAcquire(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+        if (acquired.isEmpty()) {
+            log.info("에러 리포트 FULLTEXT 인덱스 생성 대기 - 다른 노드에서 생성 중 (LIKE 검색 사용)");
+            return false;
+        }
+
+        try (RedisLeaseLock.Lease lease = acquired.get()) {
+            if (findIndexComment().isEmpty()) {
+                log.info("에러 리포트 FULLTEXT 인덱스 생성 시작 ({}, 최소 토큰 길이 {})", FULLTEXT_INDEX, tokenSize);
+                jdbcTemplate.execute(fullTextIndexDdl(ngramParser, tokenSize));
+                log.info("에러 리포트 FULLTEXT 인덱스 생성 완료");
+            }
+            return true;
+        }
+    }
+
+    private Optional<String> findIndexComment() {
+        List<String> comments = jdbcTemplate.queryForList(
+                "SELECT index_comment FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'error_report' AND index_name = ? LIMIT 1",
+                String.class, FULLTEXT_INDEX);
+        return comments.isEmpty() ? Optional.empty() : Optional.of(comments.get(0) != null ? comments.get(0) : "");
+    }
+
+    private int parseTokenSize(String comment) {
+        if (comment.startsWith(TOKEN_COMMENT_PREFIX)) {
+            try {
+                return Integer.parseInt(comment.substring(TOKEN_COMMENT_PREFIX.length()).trim());
+            } catch (NumberFormatException ignored) {
+                // 기록 형식이 다르면 기존 인덱스로 간주
+            }
+        }
+        return LEGACY_MIN_TOKEN_LENGTH;
+    }
+
+    /**
+     * FULLTEXT 검색 가능 여부
+     */
+    public boolean isFullTextReady() {
+        return fullTextReady;
+    }
+
+    /**
+     * 검색어 → BOOLEAN MODE 질의 변환
+     * - 문자/숫자 이외 문자로 단어 분리 (BOOLEAN MODE 연산자 문자는 모두 제거됨)
+     * - 각 단어를 필수(+) + 접두어(*) 조건으로 결합
+     *
+     * @return FULLTEXT 질의 (FULLTEXT 사용 불가 또는 짧은 단어 포함 시 empty → LIKE 검색)
+     */
+    public Optional<String> toBooleanQuery(String keyword) {
+        if (!fullTextReady || keyword == null) {
+            return Optional.empty();
+        }
+
+        int minLength = minTokenLength;
+        List<String> tokens = Arrays.stream(keyword.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+        if (tokens.isEmpty()
+                || tokens.stream().anyMatch(token -> token.codePointCount(0, token.length()) < minLength)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(tokens.stream()
+                .map(token -> "+" + token + "*")
+                .collect(Collectors.joining(" ")));
+    }
+}
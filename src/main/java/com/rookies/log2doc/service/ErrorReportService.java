@@ -1,19 +1,57 @@
 package com.rookies.log2doc.service;
 
+import com.rookies.log2doc.cache.ErrorReportStatsCache;
 import com.rookies.log2doc.dto.ErrorCountPerDayDTO;
+import com.rookies.log2doc.dto.ErrorReportClusterDTO;
 import com.rookies.log2doc.dto.ErrorReportDTO;
+import com.rookies.log2doc.dto.ErrorReportSummaryDTO;
+import com.rookies.log2doc.dto.SparseErrorReportDTO;
+import com.rookies.log2doc.dto.request.ErrorReportBulkStatusRequest;
+import com.rookies.log2doc.dto.response.BulkUpdateResultDTO;
+import com.rookies.log2doc.dto.response.CursorPageResponse;
+import com.rookies.log2doc.dto.response.DashboardSnapshotResponse;
 import com.rookies.log2doc.entity.ErrorReport;
+import com.rookies.log2doc.entity.ErrorReportCluster;
+import com.rookies.log2doc.event.ErrorReportChangedEvent;
+import com.rookies.log2doc.exception.ConcurrentUpdateException;
+import com.rookies.log2doc.export.ExportColumn;
+import com.rookies.log2doc.export.ExportFormat;
+import com.rookies.log2doc.export.RowExportWriter;
+import com.rookies.log2doc.repository.ErrorReportClusterRepository;
+import com.rookies.log2doc.repository.ErrorReportDailyStatRepository;
 import com.rookies.log2doc.repository.ErrorReportRepository;
+import com.rookies.log2doc.repository.ErrorReportSignatureRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 에러 리포트 조회/수정 서비스
@@ -27,6 +65,66 @@ import java.util.stream.Collectors;
 public class ErrorReportService {
 
     private final ErrorReportRepository errorReportRepository;
+    private final ErrorReportDailyStatRepository dailyStatRepository;
+    private final ErrorReportClusterRepository errorReportClusterRepository;
+    private final ErrorReportSignatureRepository errorReportSignatureRepository;
+    private final ErrorReportRollupService rollupService;
+    private final ErrorReportArchiveService errorReportArchiveService;
+    private final ErrorReportSearchService errorReportSearchService;
+    private final ErrorReportStatsCache statsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    /** 일괄 변경 청크(트랜잭션) 크기 */
+    @Value("${error-report.bulk.chunk-size:500}")
+    private int bulkChunkSize;
+
+    /** ID 목록으로 일괄 변경 시 최대 ID 수 */
+    @Value("${error-report.bulk.max-ids:5000}")
+    private int bulkMaxIds;
+
+    /** 목록 조회 기본 페이지 크기 */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** 목록 조회 최대 페이지 크기 */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** 검색 최대 결과 수 (FULLTEXT 관련도순 OFFSET 페이지의 깊이 제한) */
+    @Value("${error-report.search.max-results:1000}")
+    private int searchMaxResults;
+
+    /** 검색 커서 접두어 (관련도순 OFFSET 커서 구분) */
+    private static final String RANK_CURSOR_PREFIX = "rank|";
+
+    /** 내보내기 컬럼 (NDJSON 필드 = CSV 헤더) */
+    private static final List<ExportColumn<ErrorReport>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", ErrorReport::getId),
+            ExportColumn.of("reportTitle", ErrorReport::getReportTitle),
+            ExportColumn.of("reportCategory", ErrorReport::getReportCategory),
+            ExportColumn.of("reportStatus", ErrorReport::getReportStatus),
+            ExportColumn.of("reportPath", ErrorReport::getReportPath),
+            ExportColumn.of("reportPreview", ErrorReport::getReportPreview),
+            ExportColumn.of("reportComment", ErrorReport::getReportComment),
+            ExportColumn.of("createdDt", ErrorReport::getCreatedDt),
+            ExportColumn.of("version", ErrorReport::getVersion));
+
+    /** 목록 fields 파라미터로 선택 가능한 필드 (ErrorReportDTO 속성명 기준, id는 항상 포함) */
+    private static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "reportTitle", "reportPreview", "reportCategory", "reportPath",
+            "reportStatus", "reportComment", "isDeleted", "createdDt", "deletedDt", "version");
+
+    /** 요약 프로젝션 쿼리만으로 채울 수 있는 필드 (TEXT 컬럼 제외) */
+    private static final Set<String> SUMMARY_FIELDS = Set.of(
+            "reportTitle", "reportCategory", "reportStatus", "createdDt");
+
+    /** 대시보드 스냅샷 최신 리포트 기본 개수 */
+    public static final int DEFAULT_SNAPSHOT_LATEST = 10;
+
+    /** fields=summary 별칭 */
+    private static final String SUMMARY_ALIAS = "summary";
 
     // ===============================
     // 조회 메서드 (대시보드/리스트)
@@ -34,107 +132,328 @@ public class ErrorReportService {
 
     /**
      * 일별 에러 카운트 조회
+     * - 집계 테이블 준비 시 일별 집계 행만 읽음 (미준비 시 원본 테이블 GROUP BY)
+     * - 대시보드 통계 캐시 적용
      * @return 날짜별 에러 개수 리스트
      */
     public List<ErrorCountPerDayDTO> getDailyCounts() {
-        return errorReportRepository.findDailyErrorCounts();
+        return statsCache.get("daily-counts", () -> List.copyOf(rollupService.isRollupReady()
+                ? dailyStatRepository.findDailyCounts()
+                : errorReportRepository.findDailyErrorCounts()));
     }
 
     /**
-     * 삭제되지 않은 최신 리포트 최대 50개 조회
+     * 대시보드 스냅샷 조회
+     * - 상태/카테고리/전체/오늘/최근 공격/일별 추이/최신 리포트를 한 번에 계산
+     * - 하나의 REPEATABLE_READ 읽기 트랜잭션 안에서 계산 → 모든 값이 같은 시점 기준
+     * - 집계 테이블 준비 시 각 항목은 O(일 수) 행만 읽음
+     * - 결과는 대시보드 통계 캐시에 저장 (리포트 변경 시 함께 무효화)
+     *
+     * @param days   최근 공격 탐지 집계 기간 (일)
+     * @param latest 최신 리포트 개수 (최대 100)
      */
-    public List<ErrorReportDTO> getLatestReports() {
-        return errorReportRepository.findByIsDeletedFalseOrderByCreatedDtDesc()
-                .stream()
-                .limit(50)
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public DashboardSnapshotResponse getDashboardSnapshot(int days, Integer latest) {
+        int latestLimit = latest == null || latest <= 0 ? DEFAULT_SNAPSHOT_LATEST : Math.min(latest, MAX_PAGE_SIZE);
+        return statsCache.get("snapshot:" + days + ":" + latestLimit, () -> {
+            LocalDateTime asOf = LocalDateTime.now();
+            Map<String, Long> statusCounts = Map.copyOf(computeReportStatistics());
+            Map<String, Long> categoryCounts = Map.copyOf(computeCategoryStatistics());
+            List<ErrorCountPerDayDTO> dailyCounts = List.copyOf(rollupService.isRollupReady()
+                    ? dailyStatRepository.findDailyCounts()
+                    : errorReportRepository.findDailyErrorCounts());
+            List<ErrorReportDTO> latestReports = errorReportRepository
+                    .findSummaryPage(null, null, null, null, null, null, latestLimit)
+                    .stream().map(this::toDTO).toList();
+
+            return DashboardSnapshotResponse.builder()
+                    .asOf(asOf)
+                    .statusCounts(statusCounts)
+                    .categoryCounts(categoryCounts)
+                    .totalCount(statusCounts.values().stream().mapToLong(Long::longValue).sum())
+                    .todayCount(computeTodayReportCount())
+                    .recentAttackDays(days)
+                    .recentAttackCount(computeRecentAttackCount(days))
+                    .dailyCounts(dailyCounts)
+                    .latestReports(latestReports)
+                    .build();
+        });
     }
 
     /**
-     * 진행중 상태의 리포트 조회
+     * 커서 기반 리포트 목록 조회 (모든 목록 API 공통)
+     * - (createdDt DESC, id DESC) keyset 페이지네이션, LIMIT은 SQL에서 처리
+     * - size는 기본 50, 최대 100
+     * - 조건(status/category/기간)이 null이면 해당 조건 미적용
+     * - fields가 요약 필드(제목/카테고리/상태/생성일)만 요청하면 컬럼 프로젝션 쿼리 사용
+     *   → TEXT 컬럼(reportPreview, reportComment)은 상세 조회에서만 읽음
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param fields 쉼표 구분 필드 목록 또는 "summary" (null이면 전체 필드)
      */
-    public List<ErrorReportDTO> getInProgressReports() {
-        return errorReportRepository.findInProgressReports()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ErrorReportDTO> getReportPage(ErrorReport.ReportStatus status,
+                                                            ErrorReport.ReportCategory category,
+                                                            LocalDateTime startDate,
+                                                            LocalDateTime endDate,
+                                                            String cursor,
+                                                            Integer size,
+                                                            String fields) {
+        int pageSize = resolvePageSize(size);
+        ReportCursor position = decodeCursor(cursor);
+        Set<String> selected = parseFields(fields);
+        LocalDateTime cursorDt = position != null ? position.createdDt() : null;
+        Long cursorId = position != null ? position.id() : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ErrorReportDTO> rows;
+        if (selected != null && SUMMARY_FIELDS.containsAll(selected)) {
+            rows = errorReportRepository.findSummaryPage(
+                            status, category, startDate, endDate, cursorDt, cursorId, pageSize + 1)
+                    .stream().map(this::toDTO).collect(Collectors.toList());
+        } else {
+            rows = errorReportRepository.findPage(
+                            status, category, startDate, endDate, cursorDt, cursorId, pageSize + 1)
+                    .stream().map(this::toDTO).collect(Collectors.toList());
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ErrorReportDTO> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ErrorReportDTO last = pageRows.get(pageRows.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedDt(), last.getId());
+        }
+
+        return CursorPageResponse.<ErrorReportDTO>builder()
+                .items(selected == null ? pageRows
+                        : pageRows.stream().map(dto -> sparse(dto, selected)).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
     }
 
     /**
-     * 완료 상태의 리포트 조회
+     * 제목/미리보기 키워드 검색 (페이지 단위)
+     * - FULLTEXT 인덱스 사용 가능: 관련도순, 커서는 결과 위치(최대 search.max-results건까지)
+     * - 사용 불가(미지원 DB, 짧은 단어 포함): LIKE 검색, 최신순 keyset 커서
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param fields 쉼표 구분 필드 목록 또는 "summary" (null이면 전체 필드)
      */
-    public List<ErrorReportDTO> getCompletedReports() {
-        return errorReportRepository.findCompletedReports()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ErrorReportDTO> searchReports(String keyword, String cursor, Integer size, String fields) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+
+        int pageSize = resolvePageSize(size);
+        Set<String> selected = parseFields(fields);
+        Optional<String> fullTextQuery = errorReportSearchService.toBooleanQuery(keyword);
+
+        List<ErrorReport> rows;
+        String nextCursor = null;
+        boolean hasNext;
+        if (fullTextQuery.isPresent()) {
+            int offset = decodeRankCursor(cursor);
+            int limit = Math.min(pageSize, Math.max(0, searchMaxResults - offset));
+            rows = limit == 0 ? List.of()
+                    : errorReportRepository.searchFullText(fullTextQuery.get(), offset, limit + 1);
+
+            hasNext = rows.size() > limit && offset + limit < searchMaxResults;
+            rows = rows.size() > limit ? rows.subList(0, limit) : rows;
+            if (hasNext) {
+                nextCursor = encodeRankCursor(offset + limit);
+            }
+        } else {
+            ReportCursor position = decodeCursor(cursor);
+            rows = errorReportRepository.searchByKeyword(escapeLike(keyword.trim()),
+                    position != null ? position.createdDt() : null,
+                    position != null ? position.id() : null,
+                    pageSize + 1);
+
+            hasNext = rows.size() > pageSize;
+            rows = hasNext ? rows.subList(0, pageSize) : rows;
+            if (hasNext) {
+                ErrorReport last = rows.get(rows.size() - 1);
+                nextCursor = encodeCursor(last.getCreatedDt(), last.getId());
+            }
+        }
+
+        return CursorPageResponse.<ErrorReportDTO>builder()
+                .items(rows.stream()
+                        .map(this::toDTO)
+                        .map(dto -> selected == null ? dto : sparse(dto, selected))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
     }
 
     /**
-     * 시작되지 않은 리포트 조회
+     * 유사 리포트 클러스터 목록 (최근 활동순, 클러스터당 대표 리포트 1건 + 구성원 수)
+     * - 클러스터 페이지는 error_report_cluster keyset 조회, 활성 구성원 수/대표는 페이지의 클러스터만 집계
+     * - 활성 구성원이 없는 클러스터(모두 삭제/보관)는 목록에서 제외
+     *
+     * @param minMembers 최소 구성원 수 (배정된 전체 리포트 기준, 기본 1)
+     * @param cursor     이전 페이지 응답의 nextCursor (첫 페이지면 null)
      */
-    public List<ErrorReportDTO> getNotStartedReports() {
-        return errorReportRepository.findNotStartedReports()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
+    public CursorPageResponse<ErrorReportClusterDTO> getClusters(Integer minMembers, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        ReportCursor position = decodeCursor(cursor);
+
+        List<ErrorReportCluster> clusters = errorReportClusterRepository.findPage(
+                minMembers == null || minMembers < 1 ? 1 : minMembers,
+                position != null ? position.createdDt() : null,
+                position != null ? position.id() : null,
+                pageSize + 1);
+
+        boolean hasNext = clusters.size() > pageSize;
+        clusters = hasNext ? clusters.subList(0, pageSize) : clusters;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ErrorReportCluster last = clusters.get(clusters.size() - 1);
+            nextCursor = encodeCursor(last.getLatestCreatedDt(), last.getClusterId());
+        }
+
+        List<ErrorReportClusterDTO> items = List.of();
+        if (!clusters.isEmpty()) {
+            // [clusterId, 활성 구성원 수, 대표 리포트 ID]
+            Map<Long, Object[]> active = errorReportSignatureRepository.countActiveMembers(
+                            clusters.stream().map(ErrorReportCluster::getClusterId).toList())
+                    .stream().collect(Collectors.toMap(row -> (Long) row[0], row -> row));
+            Map<Long, ErrorReport> representatives = errorReportRepository.findAllById(
+                            active.values().stream().map(row -> (Long) row[2]).toList())
+                    .stream().collect(Collectors.toMap(ErrorReport::getId, report -> report));
+
+            items = clusters.stream()
+                    .filter(cluster -> active.containsKey(cluster.getClusterId()))
+                    .map(cluster -> {
+                        Object[] row = active.get(cluster.getClusterId());
+                        ErrorReport representative = representatives.get((Long) row[2]);
+                        return ErrorReportClusterDTO.builder()
+                                .clusterId(cluster.getClusterId())
+                                .memberCount(((Number) row[1]).longValue())
+                                .totalMemberCount(cluster.getMemberCount())
+                                .latestCreatedDt(cluster.getLatestCreatedDt())
+                                .representative(representative != null ? toDTO(representative) : null)
+                                .build();
+                    })
+                    .collect(Collectors.toList());
+        }
 
-    // ========================================
-    // 전체 조회 메소드
-    // ========================================
+        return CursorPageResponse.<ErrorReportClusterDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
 
     /**
-     * 전체 에러 리포트 조회 (리스트 형태)
+     * 클러스터 구성원 목록 (미삭제, 최신 ID순)
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param fields 쉼표 구분 필드 목록 또는 "summary" (null이면 전체 필드)
      */
-    public List<ErrorReportDTO> getAllReportsList() {
-        try {
-            // 삭제되지 않은 리포트만 조회 (기존 패턴과 동일)
-            List<ErrorReport> errorReports = errorReportRepository.findByIsDeletedFalseOrderByCreatedDtDesc();
+    public CursorPageResponse<ErrorReportDTO> getClusterMembers(Long clusterId, String cursor, Integer size, String fields) {
+        if (!errorReportClusterRepository.existsById(clusterId)) {
+            throw new RuntimeException("클러스터를 찾을 수 없습니다.");
+        }
 
-            return errorReports.stream()
-                    .map(this::toDTO)
-                    .collect(Collectors.toList());
+        int pageSize = resolvePageSize(size);
+        Set<String> selected = parseFields(fields);
+        ReportCursor position = decodeCursor(cursor);
 
-        } catch (Exception e) {
-            log.error("전체 에러 리포트 리스트 조회 실패", e);
-            throw new RuntimeException("전체 에러 리포트 리스트 조회 중 오류가 발생했습니다", e);
+        List<ErrorReport> rows = errorReportRepository.findClusterMembers(
+                clusterId, position != null ? position.id() : null, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        rows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ErrorReport last = rows.get(rows.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedDt(), last.getId());
         }
-    }
 
-    // ===============================
-    // 카테고리별 조회 (AI 분류 결과)
-    // ===============================
+        return CursorPageResponse.<ErrorReportDTO>builder()
+                .items(rows.stream()
+                        .map(this::toDTO)
+                        .map(dto -> selected == null ? dto : sparse(dto, selected))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
 
     /**
-     * AI가 공격으로 분류한 리포트만 조회
+     * 에러 리포트 스트리밍 내보내기 (감사용 전체 추출)
+     * - forward-only JDBC 커서(fetch size 단위)로 읽으면서 한 행씩 응답 스트림에 기록
+     * - 기록한 엔티티는 바로 영속성 컨텍스트에서 분리 → 추출 건수와 무관하게 메모리 일정
+     * - 조건(status/category/기간)이 null이면 해당 조건 미적용
+     *
+     * @return 기록한 행 수
      */
-    public List<ErrorReportDTO> getAttackReports() {
-        return errorReportRepository.findAttackReports()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public long exportReports(ExportFormat format,
+                              ErrorReport.ReportStatus status,
+                              ErrorReport.ReportCategory category,
+                              LocalDateTime startDate,
+                              LocalDateTime endDate,
+                              OutputStream out) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        Long rows = readOnly.execute(tx -> {
+            try (Stream<ErrorReport> stream = errorReportRepository.streamForExport(status, category, startDate, endDate);
+                 RowExportWriter<ErrorReport> writer = new RowExportWriter<>(format, EXPORT_COLUMNS, out, objectMapper)) {
+                Iterator<ErrorReport> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    ErrorReport report = iterator.next();
+                    writer.write(report);
+                    entityManager.detach(report);
+                }
+                return writer.getRowCount();
+            } catch (IOException e) {
+                throw new UncheckedIOException("에러 리포트 내보내기 중 스트림 기록에 실패했습니다.", e);
+            }
+        });
+
+        long exported = rows != null ? rows : 0L;
+        meterRegistry.counter("error_report.export.rows", "format", format.name()).increment(exported);
+        log.info("에러 리포트 내보내기 완료 - 형식: {}, {}건", format, exported);
+        return exported;
     }
 
     /**
-     * AI가 정상으로 분류한 리포트 조회
+     * 상태 문자열 → Enum 변환 (null/빈 값이면 null)
      */
-    public List<ErrorReportDTO> getValidReports() {
-        return errorReportRepository.findValidReports()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public ErrorReport.ReportStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return ErrorReport.ReportStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 상태값입니다: " + status);
+        }
     }
 
     /**
-     * AI가 비정상으로 분류한 리포트 조회
+     * 카테고리 문자열 → Enum 변환 (null/빈 값이면 null)
      */
-    public List<ErrorReportDTO> getInvalidReports() {
-        return errorReportRepository.findInvalidReports()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public ErrorReport.ReportCategory parseCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        try {
+            return ErrorReport.ReportCategory.valueOf(category.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 카테고리입니다: " + category);
+        }
     }
 
     // ===============================
@@ -145,9 +464,18 @@ public class ErrorReportService {
      * 리포트 상세 조회 (ID 기준)
      */
     public ErrorReportDTO getReportById(Long id) {
-        ErrorReport errorReport = errorReportRepository.findByIdAndIsDeletedFalse(id)
+        Optional<ErrorReport> errorReport = errorReportRepository.findByIdAndIsDeletedFalse(id);
+        if (errorReport.isPresent()) {
+            return toDTO(errorReport.get());
+        }
+
+        // 원본 테이블에 없으면 보관 세그먼트에서 조회 (보관 전에 삭제된 리포트는 제외)
+        ErrorReportDTO archived = errorReportArchiveService.findArchivedReport(id)
+                .filter(report -> !Boolean.TRUE.equals(report.getIsDeleted()))
+                .map(this::toDTO)
                 .orElseThrow(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
-        return toDTO(errorReport);
+        archived.setArchived(true);
+        return archived;
     }
 
     // ===============================
@@ -158,11 +486,18 @@ public class ErrorReportService {
      * 상태별 리포트 개수 통계
      */
     public Map<String, Long> getReportStatistics() {
-        List<Object[]> results = errorReportRepository.countByReportStatus();
+        return statsCache.get("status-statistics", () -> Map.copyOf(computeReportStatistics()));
+    }
+
+    private Map<String, Long> computeReportStatistics() {
+        List<Object[]> results = rollupService.isRollupReady()
+                ? dailyStatRepository.sumByReportStatus()
+                : errorReportRepository.countByReportStatus();
         return results.stream()
+                .filter(result -> ((Number) result[1]).longValue() > 0)
                 .collect(Collectors.toMap(
                         result -> ((ErrorReport.ReportStatus) result[0]).name(),
-                        result -> (Long) result[1]
+                        result -> ((Number) result[1]).longValue()
                 ));
     }
 
@@ -170,26 +505,52 @@ public class ErrorReportService {
      * 카테고리별 리포트 개수 통계
      */
     public Map<String, Long> getCategoryStatistics() {
-        List<Object[]> results = errorReportRepository.countByReportCategory();
+        return statsCache.get("category-statistics", () -> Map.copyOf(computeCategoryStatistics()));
+    }
+
+    private Map<String, Long> computeCategoryStatistics() {
+        List<Object[]> results = rollupService.isRollupReady()
+                ? dailyStatRepository.sumByReportCategory()
+                : errorReportRepository.countByReportCategory();
         return results.stream()
+                .filter(result -> ((Number) result[1]).longValue() > 0)
                 .collect(Collectors.toMap(
                         result -> ((ErrorReport.ReportCategory) result[0]).name(),
-                        result -> (Long) result[1]
+                        result -> ((Number) result[1]).longValue()
                 ));
     }
 
     /**
      * 최근 N일간 공격 탐지 건수
+     * - 집계 테이블 사용 시: 경계 일자 다음 날부터는 집계 합계, 경계 일자 당일은 원본 구간 카운트
      */
     public long getRecentAttackCount(int days) {
+        return statsCache.get("recent-attacks:" + days, () -> computeRecentAttackCount(days));
+    }
+
+    private long computeRecentAttackCount(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        return errorReportRepository.countAttackReportsSince(since);
+        if (!rollupService.isRollupReady()) {
+            return errorReportRepository.countAttackReportsSince(since);
+        }
+
+        LocalDate firstFullDay = since.toLocalDate().plusDays(1);
+        long fullDays = dailyStatRepository.sumByCategorySince(ErrorReport.ReportCategory.ATTACK, firstFullDay);
+        long boundaryDay = errorReportRepository.countAttackReportsBetween(since, firstFullDay.atStartOfDay());
+        return fullDays + boundaryDay;
     }
 
     /**
      * 전체 리포트 개수
      */
     public long getTotalReportCount() {
+        return statsCache.get("total-count", this::computeTotalReportCount);
+    }
+
+    private long computeTotalReportCount() {
+        if (rollupService.isRollupReady()) {
+            return dailyStatRepository.sumAll();
+        }
         return errorReportRepository.countByIsDeletedFalse();
     }
 
@@ -197,21 +558,15 @@ public class ErrorReportService {
      * 오늘 생성된 리포트 개수
      */
     public long getTodayReportCount() {
-        return errorReportRepository.countTodayReports();
+        return statsCache.get("today-count:" + LocalDate.now(), this::computeTodayReportCount);
     }
 
-    // ===============================
-    // 기간별 조회
-    // ===============================
-
-    /**
-     * 시작일 ~ 종료일 범위 리포트 조회
-     */
-    public List<ErrorReportDTO> getReportsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return errorReportRepository.findByCreatedDtBetween(startDate, endDate)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    private long computeTodayReportCount() {
+        if (rollupService.isRollupReady()) {
+            return dailyStatRepository.sumByDate(LocalDate.now());
+        }
+        LocalDate today = LocalDate.now();
+        return errorReportRepository.countCreatedBetween(today.atStartOfDay(), today.plusDays(1).atStartOfDay());
     }
 
     // ===============================
@@ -223,11 +578,19 @@ public class ErrorReportService {
      */
     @Transactional
     public ErrorReportDTO updateComment(Long id, String comment) {
-        ErrorReport errorReport = errorReportRepository.findByIdAndIsDeletedFalse(id)
-                .orElseThrow(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
+        return updateComment(id, comment, null);
+    }
 
-        errorReport.setReportComment(comment);
-        ErrorReport saved = errorReportRepository.save(errorReport);
+    /**
+     * 리포트 코멘트 수정 (조건부 단일 UPDATE)
+     *
+     * @param expectedVersion 클라이언트가 읽은 버전 (null이면 버전 확인 생략)
+     * @throws ConcurrentUpdateException 버전 불일치
+     */
+    @Transactional
+    public ErrorReportDTO updateComment(Long id, String comment, Long expectedVersion) {
+        ErrorReport saved = applyConditionalUpdate(id, expectedVersion,
+                () -> errorReportRepository.updateCommentIfVersion(id, comment, expectedVersion));
 
         log.info("에러 리포트 코멘트 수정 완료 - ID: {}", id);
         return toDTO(saved);
@@ -238,9 +601,18 @@ public class ErrorReportService {
      */
     @Transactional
     public ErrorReportDTO updateReportStatus(Long id, String status) {
-        ErrorReport errorReport = errorReportRepository.findByIdAndIsDeletedFalse(id)
-                .orElseThrow(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
+        return updateReportStatus(id, status, null);
+    }
 
+    /**
+     * 상태 업데이트 (조건부 단일 UPDATE)
+     * - 읽기-수정-쓰기 대신 WHERE id AND version 조건의 UPDATE 한 번으로 처리 → 요청 동안 행 잠금 없음
+     *
+     * @param expectedVersion 클라이언트가 읽은 버전 (null이면 버전 확인 생략)
+     * @throws ConcurrentUpdateException 버전 불일치
+     */
+    @Transactional
+    public ErrorReportDTO updateReportStatus(Long id, String status, Long expectedVersion) {
         ErrorReport.ReportStatus reportStatus;
         try {
             reportStatus = ErrorReport.ReportStatus.valueOf(status);
@@ -248,8 +620,8 @@ public class ErrorReportService {
             throw new RuntimeException("유효하지 않은 상태값입니다: " + status);
         }
 
-        errorReport.setReportStatus(reportStatus);
-        ErrorReport saved = errorReportRepository.save(errorReport);
+        ErrorReport saved = applyConditionalUpdate(id, expectedVersion,
+                () -> errorReportRepository.updateStatusIfVersion(id, reportStatus, expectedVersion));
 
         switch (reportStatus) {
             case NOT_STARTED:
@@ -279,13 +651,7 @@ public class ErrorReportService {
      */
     @Transactional
     public ErrorReportDTO setStatusNotStarted(Long id) {
-        ErrorReport errorReport = errorReportRepository.findByIdAndIsDeletedFalse(id)
-                .orElseThrow(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
-        errorReport.setReportStatus(ErrorReport.ReportStatus.NOT_STARTED);
-
-        ErrorReport saved = errorReportRepository.save(errorReport);
-        log.info("리포트 상태 리셋 - ID: {}", id);
-        return toDTO(saved);
+        return updateReportStatus(id, ErrorReport.ReportStatus.NOT_STARTED.name(), null);
     }
 
     /**
@@ -293,17 +659,7 @@ public class ErrorReportService {
      */
     @Transactional
     public ErrorReportDTO setStatusInProgress(Long id) {
-        ErrorReport errorReport = errorReportRepository.findByIdAndIsDeletedFalse(id)
-                .orElseThrow(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
-        errorReport.setReportStatus(ErrorReport.ReportStatus.IN_PROGRESS);
-
-        ErrorReport saved = errorReportRepository.save(errorReport);
-        if (saved.isAttackCategory()) {
-            log.warn("공격 리포트 처리 시작 - ID: {}", id);
-        } else {
-            log.info("리포트 처리 시작 - ID: {}", id);
-        }
-        return toDTO(saved);
+        return updateReportStatus(id, ErrorReport.ReportStatus.IN_PROGRESS.name(), null);
     }
 
     /**
@@ -311,19 +667,31 @@ public class ErrorReportService {
      */
     @Transactional
     public ErrorReportDTO setStatusCompleted(Long id, String completionComment) {
-        ErrorReport errorReport = errorReportRepository.findByIdAndIsDeletedFalse(id)
-                .orElseThrow(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
-        errorReport.setReportStatus(ErrorReport.ReportStatus.COMPLETED);
+        return setStatusCompleted(id, completionComment, null);
+    }
 
+    /**
+     * 상태를 COMPLETED로 변경 + 완료 코멘트 추가 (조건부 단일 UPDATE)
+     * - 코멘트 덧붙이기도 SQL CONCAT으로 처리 → 동시 요청의 코멘트가 유실되지 않음
+     *
+     * @param expectedVersion 클라이언트가 읽은 버전 (null이면 버전 확인 생략)
+     * @throws ConcurrentUpdateException 버전 불일치
+     */
+    @Transactional
+    public ErrorReportDTO setStatusCompleted(Long id, String completionComment, Long expectedVersion) {
+        ErrorReport.ReportStatus completed = ErrorReport.ReportStatus.COMPLETED;
+
+        ErrorReport saved;
         if (completionComment != null && !completionComment.trim().isEmpty()) {
-            String existing = errorReport.getReportComment();
-            String newComment = existing != null ?
-                    existing + "\n[완료] " + completionComment :
-                    "[완료] " + completionComment;
-            errorReport.setReportComment(newComment);
+            String comment = "[완료] " + completionComment;
+            saved = applyConditionalUpdate(id, expectedVersion,
+                    () -> errorReportRepository.updateStatusAndAppendCommentIfVersion(
+                            id, completed, comment, "\n" + comment, expectedVersion));
+        } else {
+            saved = applyConditionalUpdate(id, expectedVersion,
+                    () -> errorReportRepository.updateStatusIfVersion(id, completed, expectedVersion));
         }
 
-        ErrorReport saved = errorReportRepository.save(errorReport);
         if (saved.isAttackCategory()) {
             log.warn("공격 리포트 처리 완료 - ID: {}", id);
         } else {
@@ -332,16 +700,114 @@ public class ErrorReportService {
         return toDTO(saved);
     }
 
+    /**
+     * 상태 일괄 변경
+     * - 대상: ids 또는 필터(현재 상태/카테고리/기간)
+     * - 청크 단위 set-based UPDATE, 청크마다 별도 트랜잭션 (긴 잠금 방지)
+     * - 이미 목표 상태인 리포트는 건너뜀 → 재시도해도 코멘트가 중복 추가되지 않음
+     * - 집계 테이블은 DB 트리거로, 통계 캐시/SSE는 청크 커밋 후 이벤트로 동기화
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkUpdateResultDTO bulkUpdateStatus(ErrorReportBulkStatusRequest request) {
+        ErrorReport.ReportStatus target = parseStatus(request.getTargetStatus());
+        if (target == null) {
+            throw new IllegalArgumentException("변경할 상태는 필수입니다.");
+        }
+
+        String comment = null;
+        String appendedComment = null;
+        if (request.getComment() != null && !request.getComment().trim().isEmpty()) {
+            comment = "[" + target.getDescription() + "] " + request.getComment().trim();
+            appendedComment = "\n" + comment;
+        }
+
+        int chunkSize = Math.max(1, bulkChunkSize);
+        int matched = 0;
+        int updated = 0;
+        int chunks = 0;
+
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            List<Long> ids = request.getIds().stream().distinct().toList();
+            if (ids.size() > bulkMaxIds) {
+                throw new IllegalArgumentException("한 번에 변경할 수 있는 리포트는 최대 " + bulkMaxIds + "건입니다.");
+            }
+
+            matched = ids.size();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                updated += applyStatusChunk(chunk, target, comment, appendedComment);
+                chunks++;
+            }
+        } else {
+            ErrorReport.ReportStatus status = parseStatus(request.getStatus());
+            ErrorReport.ReportCategory category = parseCategory(request.getCategory());
+            if (status == null && category == null && request.getStartDate() == null && request.getEndDate() == null) {
+                throw new IllegalArgumentException("변경 대상 ID 또는 필터 조건이 필요합니다.");
+            }
+
+            long afterId = 0L;
+            while (true) {
+                List<Long> chunk = errorReportRepository.findIdsForBulkUpdate(target, status, category,
+                        request.getStartDate(), request.getEndDate(), afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                matched += chunk.size();
+                updated += applyStatusChunk(chunk, target, comment, appendedComment);
+                chunks++;
+                afterId = chunk.get(chunk.size() - 1);
+            }
+        }
+
+        log.info("리포트 상태 일괄 변경 - 목표: {}, 대상: {}건, 변경: {}건, 청크: {}개", target, matched, updated, chunks);
+
+        return BulkUpdateResultDTO.builder()
+                .matched(matched)
+                .updated(updated)
+                .skipped(matched - updated)
+                .chunks(chunks)
+                .targetStatus(target.name())
+                .build();
+    }
+
+    /**
+     * 한 청크 상태 변경 (한 트랜잭션)
+     */
+    private int applyStatusChunk(List<Long> ids, ErrorReport.ReportStatus target,
+                                 String comment, String appendedComment) {
+        Integer count = transactionTemplate.execute(tx -> {
+            int changed = comment == null
+                    ? errorReportRepository.updateStatusByIds(ids, target)
+                    : errorReportRepository.updateStatusAndAppendCommentByIds(ids, target, comment, appendedComment);
+            if (changed > 0) {
+                eventPublisher.publishEvent(new ErrorReportChangedEvent(List.copyOf(ids)));
+            }
+            return changed;
+        });
+        return count != null ? count : 0;
+    }
+
     /**
      * 에러 리포트 소프트 삭제 (isDeleted 플래그 true)
      */
     @Transactional
     public void deleteReport(Long id) {
-        ErrorReport errorReport = errorReportRepository.findByIdAndIsDeletedFalse(id)
-                .orElseThrow(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
-        errorReport.setIsDeleted(true);
-        errorReport.setDeletedDt(LocalDateTime.now());
-        errorReportRepository.save(errorReport);
+        deleteReport(id, null);
+    }
+
+    /**
+     * 에러 리포트 소프트 삭제 (조건부 단일 UPDATE)
+     *
+     * @param expectedVersion 클라이언트가 읽은 버전 (null이면 버전 확인 생략)
+     * @throws ConcurrentUpdateException 버전 불일치
+     */
+    @Transactional
+    public void deleteReport(Long id, Long expectedVersion) {
+        int changed = errorReportRepository.softDeleteIfVersion(id, LocalDateTime.now(), expectedVersion);
+        if (changed == 0) {
+            throw conflictOrNotFound(id);
+        }
+        eventPublisher.publishEvent(new ErrorReportChangedEvent(List.of(id)));
         log.info("에러 리포트 삭제 완료 - ID: {}", id);
     }
 
@@ -349,6 +815,158 @@ public class ErrorReportService {
     // 내부 유틸리티
     // ===============================
 
+    /**
+     * 조건부 UPDATE 실행 후 결과 엔티티 조회
+     * - 변경된 행이 없으면 리포트 없음(RuntimeException) 또는 버전 충돌(ConcurrentUpdateException)
+     * - 변경 시 커밋 후 통계 캐시/스트림 동기화 이벤트 발행
+     */
+    private ErrorReport applyConditionalUpdate(Long id, Long expectedVersion, IntSupplier update) {
+        if (update.getAsInt() == 0) {
+            throw conflictOrNotFound(id);
+        }
+        eventPublisher.publishEvent(new ErrorReportChangedEvent(List.of(id)));
+        return errorReportRepository.findByIdAndIsDeletedFalse(id)
+                .orElseThrow(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 조건부 UPDATE 실패 원인 판별 (한 번의 조회)
+     */
+    private RuntimeException conflictOrNotFound(Long id) {
+        return errorReportRepository.findByIdAndIsDeletedFalse(id)
+                .<RuntimeException>map(current -> new ConcurrentUpdateException(
+                        "다른 사용자가 먼저 리포트를 수정했습니다. 최신 정보를 다시 조회해주세요.", current.getVersion()))
+                .orElseGet(() -> new RuntimeException("에러 리포트를 찾을 수 없습니다."));
+    }
+
+    /** 커서가 가리키는 마지막 항목 위치 */
+    private record ReportCursor(LocalDateTime createdDt, Long id) {
+    }
+
+    /** 페이지 크기 보정 (기본값 / 최대값 적용) */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /** 커서 생성: "createdDt|id" 를 base64url 인코딩 */
+    private String encodeCursor(LocalDateTime createdDt, Long id) {
+        String raw = createdDt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 커서 해석 (null/빈 값이면 첫 페이지) */
+    private ReportCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new ReportCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /** 관련도순 검색 커서 생성: "rank|offset" 을 base64url 인코딩 */
+    private String encodeRankCursor(int offset) {
+        String raw = RANK_CURSOR_PREFIX + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 관련도순 검색 커서 해석 (null/빈 값이면 0) */
+    private int decodeRankCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(RANK_CURSOR_PREFIX)) {
+                throw new IllegalArgumentException(raw);
+            }
+            int offset = Integer.parseInt(raw.substring(RANK_CURSOR_PREFIX.length()));
+            if (offset < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return offset;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /** LIKE 패턴 문자 escape (escape 문자 '!') */
+    private String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * fields 파라미터 해석
+     * - null/빈 값이면 null (전체 필드)
+     * - "summary"는 요약 필드 묶음으로 확장
+     * - 알 수 없는 필드명이면 IllegalArgumentException
+     */
+    private Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : Arrays.stream(fields.split(",")).map(String::trim).filter(f -> !f.isEmpty()).toList()) {
+            if (SUMMARY_ALIAS.equalsIgnoreCase(field)) {
+                selected.addAll(SUMMARY_FIELDS);
+            } else if ("id".equals(field)) {
+                // id는 항상 포함
+                continue;
+            } else if (SELECTABLE_FIELDS.contains(field)) {
+                selected.add(field);
+            } else {
+                throw new IllegalArgumentException("유효하지 않은 필드입니다: " + field);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 선택된 필드만 남긴 DTO 생성 (나머지는 null → SparseErrorReportDTO 로 JSON에서 제외)
+     * - 카테고리/상태 설명은 해당 필드 선택 시 함께 포함
+     */
+    private ErrorReportDTO sparse(ErrorReportDTO dto, Set<String> selected) {
+        boolean category = selected.contains("reportCategory");
+        boolean status = selected.contains("reportStatus");
+        return new SparseErrorReportDTO(ErrorReportDTO.builder()
+                .id(dto.getId())
+                .reportTitle(selected.contains("reportTitle") ? dto.getReportTitle() : null)
+                .reportPreview(selected.contains("reportPreview") ? dto.getReportPreview() : null)
+                .reportCategory(category ? dto.getReportCategory() : null)
+                .reportCategoryDescription(category ? dto.getReportCategoryDescription() : null)
+                .reportPath(selected.contains("reportPath") ? dto.getReportPath() : null)
+                .reportStatus(status ? dto.getReportStatus() : null)
+                .reportStatusDescription(status ? dto.getReportStatusDescription() : null)
+                .reportComment(selected.contains("reportComment") ? dto.getReportComment() : null)
+                .isDeleted(selected.contains("isDeleted") ? dto.getIsDeleted() : null)
+                .createdDt(selected.contains("createdDt") ? dto.getCreatedDt() : null)
+                .deletedDt(selected.contains("deletedDt") ? dto.getDeletedDt() : null)
+                .version(selected.contains("version") ? dto.getVersion() : null)
+                .build());
+    }
+
+    /**
+     * 요약 프로젝션 → DTO 변환 (요약 필드만 채워짐)
+     */
+    private ErrorReportDTO toDTO(ErrorReportSummaryDTO summary) {
+        return ErrorReportDTO.builder()
+                .id(summary.getId())
+                .reportTitle(summary.getReportTitle())
+                .reportCategory(summary.getReportCategory().name())
+                .reportCategoryDescription(summary.getReportCategory().getDescription())
+                .reportStatus(summary.getReportStatus().name())
+                .reportStatusDescription(summary.getReportStatus().getDescription())
+                .createdDt(summary.getCreatedDt())
+                .build();
+    }
+
     /**
      * Entity → DTO 변환 메서드
      */
@@ -366,6 +984,7 @@ public class ErrorReportService {
                 .isDeleted(entity.getIsDeleted())
                 .createdDt(entity.getCreatedDt())
                 .deletedDt(entity.getDeletedDt())
+                .version(entity.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,348 @@
+package com.rookies.log2doc.service;
+
+import com.rookies.log2doc.cache.ErrorReportStatsCache;
+import com.rookies.log2doc.dto.ErrorReportDTO;
+import com.rookies.log2doc.dto.ErrorReportSummaryDTO;
+import com.rookies.log2doc.entity.ErrorReport;
+import com.rookies.log2doc.event.ErrorReportChangedEvent;
+import com.rookies.log2doc.repository.ErrorReportRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 에러 리포트 변경 SSE(Server-Sent Events) 스트림 서비스
+ *
+ * 처리 방식
+ * - 서버 전체에서 하나의 변경 감지기만 DB를 조회 → DB 부하가 구독자 수와 무관
+ *   1. 신규 리포트: id 하이워터마크 이후 행을 주기적으로 조회 (Flask 직접 INSERT 포함)
+ *      IDENTITY 값은 커밋 순서와 다를 수 있으므로 하이워터마크 아래 일정 구간(trailing window)을
+ *      함께 다시 조회하고, 이미 전달한 ID는 건너뜀 (늦게 커밋된 행 누락 방지)
+ *   2. 상태 변경/삭제: ErrorReportChangedEvent(커밋 후) + 다른 노드의 Redis 무효화 메시지
+ * - 구독자별 카테고리/상태 필터 적용 후 구독자 큐에 적재
+ * - 구독자별 크기 제한 큐 + 전송 전용 Executor → 느린 클라이언트가 다른 구독자를 막지 않음
+ *   큐가 넘치면 쌓인 이벤트를 버리고 resync 이벤트 전송 (클라이언트가 목록 API로 다시 조회)
+ * - 최대 연결 수 초과 시 구독 거부, 주기적 heartbeat 로 끊긴 연결 정리
+ *
+ * 이벤트 종류: created / updated / deleted / resync
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorReportStreamService implements MessageListener {
+
+    private final ErrorReportRepository errorReportRepository;
+    private final ErrorReportStatsCache statsCache;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("reportStreamExecutor")
+    private final Executor reportStreamExecutor;
+
+    public static final String EVENT_CREATED = "created";
+    public static final String EVENT_UPDATED = "updated";
+    public static final String EVENT_DELETED = "deleted";
+    public static final String EVENT_RESYNC = "resync";
+
+    @Value("${error-report.stream.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${error-report.stream.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${error-report.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    /** 한 번의 감지 주기에 조회할 최대 신규 리포트 수 */
+    @Value("${error-report.stream.poll-batch-size:100}")
+    private int pollBatchSize;
+
+    /** 하이워터마크 아래로 다시 조회할 ID 구간 (늦게 커밋된 행 감지용) */
+    @Value("${error-report.stream.trailing-window:50}")
+    private int trailingWindow;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /** 마지막으로 전달한 리포트 ID (구독자가 없으면 null) */
+    private volatile Long highWaterId;
+
+    /** trailing window 안에서 이미 전달한(또는 구독 전부터 있던) 리포트 ID (감지 스레드에서만 접근) */
+    private final NavigableSet<Long> seenIds = new TreeSet<>();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ErrorReportStatsCache.INVALIDATION_CHANNEL));
+        Gauge.builder("error_report.stream.subscribers", subscribers, List::size).register(meterRegistry);
+    }
+
+    /**
+     * 스트림 구독
+     *
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param status   상태 필터 (null이면 전체)
+     * @throws IllegalStateException 최대 연결 수 초과
+     */
+    public SseEmitter subscribe(ErrorReport.ReportCategory category, ErrorReport.ReportStatus status) {
+        Subscriber subscriber;
+        synchronized (subscribers) {
+            if (subscribers.size() >= maxConnections) {
+                meterRegistry.counter("error_report.stream.rejected").increment();
+                throw new IllegalStateException("실시간 스트림 연결 수가 최대치를 초과했습니다.");
+            }
+            subscriber = new Subscriber(new SseEmitter(timeoutMs), category, status, queueCapacity);
+            subscribers.add(subscriber);
+        }
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        log.info("에러 리포트 스트림 구독 - 카테고리: {}, 상태: {}, 현재 구독자: {}명",
+                category, status, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 신규 리포트 감지 (id 하이워터마크 + trailing window)
+     * - 구독자가 없으면 DB를 조회하지 않음
+     * - (하이워터마크 - trailingWindow) 이후를 조회하고 seenIds에 없는 행만 전달
+     *   → 하이워터마크보다 작은 ID가 늦게 커밋되어도 window 안이면 전달됨
+     */
+    @Scheduled(fixedDelayString = "${error-report.stream.poll-interval-ms:2000}")
+    public void detectNewReports() {
+        if (subscribers.isEmpty()) {
+            highWaterId = null;
+            seenIds.clear();
+            return;
+        }
+
+        try {
+            if (highWaterId == null) {
+                Long maxId = errorReportRepository.findMaxId();
+                highWaterId = maxId != null ? maxId : 0L;
+                // 구독 전부터 있던 window 안의 행은 신규로 전달하지 않음
+                errorReportRepository.findSummariesAfterId(windowFloor(highWaterId), trailingWindow)
+                        .forEach(summary -> seenIds.add(summary.getId()));
+                return;
+            }
+
+            // window 안의 행은 최대 trailingWindow 건이므로 신규 행은 항상 pollBatchSize 건까지 조회됨
+            List<ErrorReportSummaryDTO> rows = errorReportRepository.findSummariesAfterId(
+                    windowFloor(highWaterId), pollBatchSize + trailingWindow);
+            long maxSeen = highWaterId;
+            for (ErrorReportSummaryDTO summary : rows) {
+                if (seenIds.add(summary.getId())) {
+                    publish(EVENT_CREATED, summary.getReportCategory(), summary.getReportStatus(), toDTO(summary));
+                }
+                maxSeen = Math.max(maxSeen, summary.getId());
+            }
+            highWaterId = maxSeen;
+            seenIds.headSet(windowFloor(maxSeen), true).clear();
+        } catch (Exception e) {
+            log.warn("신규 리포트 감지 실패: {}", e.getMessage());
+        }
+    }
+
+    private long windowFloor(long id) {
+        return Math.max(0L, id - Math.max(0, trailingWindow));
+    }
+
+    /**
+     * 이 노드에서 커밋된 상태 변경/삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportChanged(ErrorReportChangedEvent event) {
+        publishChanges(event.getReportIds());
+    }
+
+    /**
+     * 다른 노드에서 커밋된 상태 변경/삭제 (Redis 무효화 메시지 재사용)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || statsCache.getNodeId().equals(body.substring(0, separator))) {
+            return;
+        }
+
+        List<Long> ids = Arrays.stream(body.substring(separator + 1).split(","))
+                .filter(id -> !id.isBlank())
+                .map(Long::valueOf)
+                .toList();
+        publishChanges(ids);
+    }
+
+    /**
+     * 연결 유지 heartbeat (끊긴 연결은 전송 실패로 정리됨)
+     */
+    @Scheduled(fixedDelayString = "${error-report.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("heartbeat").build());
+        }
+    }
+
+    // ===============================
+    // 내부 처리
+    // ===============================
+
+    private void publishChanges(List<Long> ids) {
+        if (subscribers.isEmpty() || ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (ErrorReport report : errorReportRepository.findAllById(ids)) {
+                String type = Boolean.TRUE.equals(report.getIsDeleted()) ? EVENT_DELETED : EVENT_UPDATED;
+                publish(type, report.getReportCategory(), report.getReportStatus(), toDTO(report));
+            }
+        } catch (Exception e) {
+            log.warn("리포트 변경 이벤트 전송 실패 - ID: {} ({})", ids, e.getMessage());
+        }
+    }
+
+    private void publish(String type, ErrorReport.ReportCategory category, ErrorReport.ReportStatus status,
+                         ErrorReportDTO payload) {
+        // 모든 구독자가 같은 직렬화 대상을 공유하도록 한 번만 build
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .name(type)
+                .id(String.valueOf(payload.getId()))
+                .data(payload, MediaType.APPLICATION_JSON)
+                .build();
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(category, status)) {
+                enqueue(subscriber, event);
+            }
+        }
+        meterRegistry.counter("error_report.stream.events", "type", type).increment();
+    }
+
+    /**
+     * 구독자 큐 적재 + 전송 작업 예약
+     * - 큐가 가득 차면 쌓인 이벤트를 버리고 resync 한 건만 남김
+     */
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (!subscriber.queue.offer(event)) {
+            subscriber.queue.clear();
+            subscriber.queue.offer(SseEmitter.event().name(EVENT_RESYNC).data("resync").build());
+            meterRegistry.counter("error_report.stream.overflows").increment();
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reportStreamExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            log.warn("스트림 전송 작업 예약 실패 - 다음 이벤트에서 재시도");
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+                subscriber.sent.incrementAndGet();
+            }
+        } catch (Exception e) {
+            // 클라이언트 연결 종료 등
+            subscriber.emitter.completeWithError(e);
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // 전송 도중 들어온 이벤트 처리
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            log.info("에러 리포트 스트림 구독 종료 - 전송 이벤트: {}건, 남은 구독자: {}명",
+                    subscriber.sent.get(), subscribers.size());
+        }
+    }
+
+    private ErrorReportDTO toDTO(ErrorReportSummaryDTO summary) {
+        return ErrorReportDTO.builder()
+                .id(summary.getId())
+                .reportTitle(summary.getReportTitle())
+                .reportCategory(summary.getReportCategory().name())
+                .reportCategoryDescription(summary.getReportCategory().getDescription())
+                .reportStatus(summary.getReportStatus().name())
+                .reportStatusDescription(summary.getReportStatus().getDescription())
+                .createdDt(summary.getCreatedDt())
+                .build();
+    }
+
+    private ErrorReportDTO toDTO(ErrorReport report) {
+        return toDTO(new ErrorReportSummaryDTO(report.getId(), report.getReportTitle(),
+                report.getReportCategory(), report.getReportStatus(), report.getCreatedDt()));
+    }
+
+    /**
+     * 구독자 (필터 + 전송 대기 큐)
+     */
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final ErrorReport.ReportCategory category;
+        private final ErrorReport.ReportStatus status;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicLong sent = new AtomicLong();
+
+        private Subscriber(SseEmitter emitter, ErrorReport.ReportCategory category,
+                           ErrorReport.ReportStatus status, int queueCapacity) {
+            this.emitter = emitter;
+            this.category = category;
+            this.status = status;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        }
+
+        private boolean matches(ErrorReport.ReportCategory eventCategory, ErrorReport.ReportStatus eventStatus) {
+            return (category == null || category == eventCategory)
+                    && (status == null || status == eventStatus);
+        }
+    }
+}
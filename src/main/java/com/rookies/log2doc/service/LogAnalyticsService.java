@@ -0,0 +1,204 @@
+package com.rookies.log2doc.service;
+
+import com.rookies.log2doc.analytics.SlidingWindowHeavyHitters;
+import com.rookies.log2doc.dto.response.HeavyHitterResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 로그 실시간 분석 서비스 (JVM 내 스트리밍 집계)
+ * - LogSender로 전달되는 통합 로그 이벤트(성공/예외 모두)를 받아 기준별로 집계
+ *   사용자(user_id), URL 템플릿, User-Agent, 액션 타입
+ * - 기준마다 슬라이딩 윈도우 Count-Min Sketch + Space-Saving Top-K → 고정 메모리, 이벤트당 상수 비용
+ * - "지금 누가 무엇을 많이 호출하는지"를 Flask 리포트 생성 전에 바로 확인하기 위한 용도
+ *
+ * 노드별 집계이므로 다중 인스턴스 환경에서는 노드마다 자기 트래픽만 보임
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogAnalyticsService {
+
+    private final MeterRegistry meterRegistry;
+
+    /** 집계 기준 */
+    public enum Dimension {
+        USER, URL, USER_AGENT, ACTION;
+
+        /**
+         * 기준 문자열 → Enum 변환
+         */
+        public static Dimension from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 집계 기준입니다: " + value);
+            }
+        }
+    }
+
+    /** URL 경로 중 식별자로 보이는 세그먼트 (숫자, UUID, 긴 hex) */
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "^(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(\\..*)?|[0-9a-fA-F]{16,})$");
+
+    private static final String UNKNOWN = "unknown";
+
+    @Value("${log.analytics.enabled:true}")
+    private boolean enabled;
+
+    @Value("${log.analytics.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${log.analytics.bucket-seconds:10}")
+    private long bucketSeconds;
+
+    /** 버킷별 Space-Saving 후보 수 */
+    @Value("${log.analytics.top-k-capacity:64}")
+    private int topKCapacity;
+
+    @Value("${log.analytics.sketch-width:2048}")
+    private int sketchWidth;
+
+    @Value("${log.analytics.sketch-depth:4}")
+    private int sketchDepth;
+
+    /** 키 최대 길이 (긴 User-Agent 등은 잘라서 집계) */
+    @Value("${log.analytics.max-key-length:200}")
+    private int maxKeyLength;
+
+    private final Map<Dimension, SlidingWindowHeavyHitters> trackers = new EnumMap<>(Dimension.class);
+
+    private Counter eventCounter;
+
+    @PostConstruct
+    public void init() {
+        for (Dimension dimension : Dimension.values()) {
+            trackers.put(dimension, new SlidingWindowHeavyHitters(
+                    windowSeconds * 1000L, bucketSeconds * 1000L, sketchWidth, sketchDepth, topKCapacity));
+        }
+        eventCounter = meterRegistry.counter("log.analytics.events");
+    }
+
+    /**
+     * 통합 로그 이벤트 집계 (LogSender에서 호출)
+     * - 집계 실패가 로그 전송에 영향을 주지 않도록 예외를 삼킴
+     */
+    public void record(Map<String, Object> logData) {
+        if (!enabled || logData == null) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            trackers.get(Dimension.USER).add(key(logData.get("user_id")), now);
+            trackers.get(Dimension.URL).add(key(urlTemplate(logData)), now);
+            trackers.get(Dimension.USER_AGENT).add(key(userAgent(logData.get("request_headers"))), now);
+            trackers.get(Dimension.ACTION).add(key(logData.get("action_type")), now);
+            eventCounter.increment();
+        } catch (Exception e) {
+            log.debug("로그 실시간 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기준별 상위 항목 조회
+     */
+    public HeavyHitterResponse getHeavyHitters(Dimension dimension, int limit) {
+        SlidingWindowHeavyHitters.Snapshot snapshot =
+                trackers.get(dimension).snapshot(System.currentTimeMillis(), Math.max(1, limit));
+
+        double seconds = snapshot.windowMillis() / 1000.0;
+        List<HeavyHitterResponse.Item> items = snapshot.top().stream()
+                .map(entry -> HeavyHitterResponse.Item.builder()
+                        .key(entry.key())
+                        .count(entry.count())
+                        .errorBound(entry.error())
+                        .share(snapshot.totalEvents() == 0 ? 0.0 : (double) entry.count() / snapshot.totalEvents())
+                        .ratePerSecond(entry.count() / seconds)
+                        .build())
+                .toList();
+
+        return HeavyHitterResponse.builder()
+                .dimension(dimension.name())
+                .asOf(LocalDateTime.now())
+                .windowSeconds((long) seconds)
+                .totalEvents(snapshot.totalEvents())
+                .eventsPerSecond(snapshot.totalEvents() / seconds)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * 전체 기준 상위 항목 조회
+     */
+    public Map<Dimension, HeavyHitterResponse> getAllHeavyHitters(int limit) {
+        Map<Dimension, HeavyHitterResponse> result = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            result.put(dimension, getHeavyHitters(dimension, limit));
+        }
+        return result;
+    }
+
+    // ========================================
+    // 내부 유틸리티
+    // ========================================
+
+    /**
+     * URL 템플릿 (메서드 + 경로 패턴)
+     * - 로그 생성 시 기록한 핸들러 매핑 패턴 우선 (예: /documents/{id})
+     * - 없으면 쿼리스트링 제거 + 식별자 세그먼트를 {id}로 치환
+     */
+    private String urlTemplate(Map<String, Object> logData) {
+        Object method = logData.get("request_method");
+        Object template = logData.get("request_url_template");
+        String path = template != null ? template.toString() : normalizeUrl(String.valueOf(logData.get("request_url")));
+        return (method != null ? method + " " : "") + path;
+    }
+
+    static String normalizeUrl(String url) {
+        int query = url.indexOf('?');
+        String path = query >= 0 ? url.substring(0, query) : url;
+
+        String[] segments = path.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (ID_SEGMENT.matcher(segments[i]).matches()) {
+                segments[i] = "{id}";
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    private String userAgent(Object requestHeaders) {
+        if (requestHeaders instanceof Map<?, ?> headers) {
+            for (Map.Entry<?, ?> entry : headers.entrySet()) {
+                if (entry.getKey() != null && "user-agent".equalsIgnoreCase(entry.getKey().toString())) {
+                    return entry.getValue() != null ? entry.getValue().toString() : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String key(Object value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        String text = value.toString().trim();
+        if (text.isEmpty()) {
+            return UNKNOWN;
+        }
+        return text.length() > maxKeyLength ? text.substring(0, maxKeyLength) : text;
+    }
+}
@@ -1,141 +1,393 @@
-// RefreshTokenService.java
 package com.rookies.log2doc.service;
 
-import com.rookies.log2doc.entity.RefreshToken;
-import com.rookies.log2doc.entity.User;
-import com.rookies.log2doc.exception.TokenRefreshException;
-import com.rookies.log2doc.repository.RefreshTokenRepository;
-import com.rookies.log2doc.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Refresh Token 관리 서비스
+ * Refresh Token 관리 서비스 (Redis 우선)
+ * - 토큰 원문("사용자ID.무작위값")은 클라이언트에게만 전달하고, 저장소에는 SHA-256 해시만 보관
+ *   (사용자ID 접두어로 호출 전에 사용자 키를 계산 → 스크립트가 다루는 키는 모두 KEYS로 전달)
+ * - Redis 구조
+ *   refresh_token:{해시} → "사용자ID|사용자명" (TTL = 토큰 만료 시각까지)
+ *   refresh_token:sessions:{사용자ID} → 사용자가 가진 토큰 해시 ZSET (score = 만료 시각 ms, 전체 폐기용)
+ *   발급/회전 시 만료된 멤버를 ZREMRANGEBYSCORE 로 정리하고 키 TTL은 가장 늦은 만료 시각에 맞춤
+ *   → 로그인을 반복해도 사용자 키 크기는 유효한 토큰 수로 제한됨
+ * - 발급/회전/폐기는 각각 Lua 스크립트 한 번(한 번의 왕복, 원자적)으로 처리
+ *   회전: 이전 토큰 삭제 + 새 토큰 저장 (만료 시각은 이전 토큰과 동일 → 로그인 세션 길이는 그대로)
+ *   → 같은 토큰으로 동시에 갱신해도 한 요청만 성공 (재사용 불가)
+ *   저장된 사용자ID와 토큰 접두어가 다르면 실패 처리
+ * - 전체 폐기: 사용자 ZSET 멤버를 읽어 토큰 키를 KEYS로 넘겨 삭제, 동시에 회전/발급된 토큰이 남지 않도록 빌 때까지 반복
+ * - 토큰 갱신 경로는 DB를 조회하지 않음
+ * - refresh_tokens 테이블은 감사 기록용 write-behind
+ *   요청 스레드는 메모리 큐에 넣기만 하고 주기적으로 JDBC 배치로 반영 (큐가 가득 차면 버림)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RefreshTokenService {
-    
+
     @Value("${app.jwt.refresh.expiration}")
     private Long refreshTokenDurationMs;
-    
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
+
+    /** 감사 기록 대기 최대 건수 (초과 시 버림) */
+    @Value("${app.jwt.refresh.audit.max-pending:10000}")
+    private int maxPendingAudits;
+
     private final RedisTemplate<String, String> redisTemplate;
-    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
-    
+    private static final String USER_TOKENS_PREFIX = "refresh_token:sessions:";
+
+    /** 토큰 원문 바이트 수 (256bit) */
+    private static final int TOKEN_BYTES = 32;
+
+    /** 전체 폐기 시 스크립트 한 번에 삭제할 최대 토큰 수 */
+    private static final int REVOKE_ALL_CHUNK = 500;
+
+    /** 전체 폐기 최대 반복 횟수 (동시에 회전/발급된 토큰 재확인) */
+    private static final int REVOKE_ALL_MAX_PASSES = 10;
+
+    /**
+     * 사용자 ZSET 정리: 만료 멤버 제거 + 키 TTL을 가장 늦은 만료 시각에 맞춤 (KEYS[n]=사용자 ZSET, now=현재 시각 ms)
+     */
+    private static final String PRUNE_USER_SET =
+            "redis.call('ZREMRANGEBYSCORE', userKey, '-inf', now) " +
+            "local last = redis.call('ZRANGE', userKey, -1, -1, 'WITHSCORES') " +
+            "if last[2] then redis.call('PEXPIREAT', userKey, last[2]) end ";
+
+    /**
+     * 발급: KEYS[1]=토큰 키, KEYS[2]=사용자 ZSET / ARGV[1]=값, ARGV[2]=해시, ARGV[3]=TTL(ms), ARGV[4]=현재 시각(ms)
+     */
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+            "local userKey = KEYS[2] local now = tonumber(ARGV[4]) " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) " +
+            "redis.call('ZADD', userKey, now + tonumber(ARGV[3]), ARGV[2]) " +
+            PRUNE_USER_SET +
+            "return 1", Long.class);
+
+    /**
+     * 회전: KEYS[1]=이전 토큰 키, KEYS[2]=새 토큰 키, KEYS[3]=사용자 ZSET
+     *       ARGV[1]=사용자ID, ARGV[2]=이전 해시, ARGV[3]=새 해시, ARGV[4]=현재 시각(ms)
+     * - 반환: "남은TTL(ms)|사용자ID|사용자명", 이전 토큰이 없거나 사용자ID가 다르면 nil
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if not value or string.match(value, '^[^|]*') ~= ARGV[1] then return false end " +
+            "local ttl = redis.call('PTTL', KEYS[1]) " +
+            "if ttl <= 0 then return false end " +
+            "local userKey = KEYS[3] local now = tonumber(ARGV[4]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('SET', KEYS[2], value, 'PX', ttl) " +
+            "redis.call('ZREM', userKey, ARGV[2]) " +
+            "redis.call('ZADD', userKey, now + ttl, ARGV[3]) " +
+            PRUNE_USER_SET +
+            "return ttl .. '|' .. value", String.class);
+
+    /**
+     * 폐기: KEYS[1]=토큰 키, KEYS[2]=사용자 ZSET / ARGV[1]=사용자ID, ARGV[2]=해시
+     * - 반환: "사용자ID|사용자명", 토큰이 없거나 사용자ID가 다르면 nil
+     */
+    private static final RedisScript<String> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if not value or string.match(value, '^[^|]*') ~= ARGV[1] then return false end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('ZREM', KEYS[2], ARGV[2]) " +
+            "return value", String.class);
+
+    /**
+     * 전체 폐기(청크): KEYS[1]=사용자 ZSET, KEYS[2..n]=토큰 키 / ARGV[1..n-1]=해시 (KEYS[i+1]과 같은 순서)
+     * - 반환: 실제로 삭제된 토큰 키 수 (ZSET이 비면 키 삭제)
+     */
+    private static final RedisScript<Long> REVOKE_LISTED_SCRIPT = new DefaultRedisScript<>(
+            "local deleted = 0 " +
+            "for i = 2, #KEYS do " +
+            "deleted = deleted + redis.call('DEL', KEYS[i]) " +
+            "redis.call('ZREM', KEYS[1], ARGV[i - 1]) end " +
+            "if redis.call('ZCARD', KEYS[1]) == 0 then redis.call('DEL', KEYS[1]) end " +
+            "return deleted", Long.class);
+
+    private static final String INSERT_AUDIT_SQL =
+            "INSERT INTO refresh_tokens (token, expiry_date, created_at, is_revoked, device_info, ip_address, user_id) " +
+                    "VALUES (?, ?, ?, FALSE, ?, ?, ?)";
+
+    private static final String REVOKE_AUDIT_SQL =
+            "UPDATE refresh_tokens SET is_revoked = TRUE WHERE token = ?";
+
+    private static final String REVOKE_ALL_AUDIT_SQL =
+            "UPDATE refresh_tokens SET is_revoked = TRUE WHERE user_id = ? AND created_at <= ?";
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /** DB 반영 대기 중인 감사 기록 */
+    private final ConcurrentLinkedQueue<AuditRecord> pendingAudits = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingAuditSize = new AtomicInteger();
+
+    private Counter droppedAuditCounter;
+
+    /**
+     * 리프레시 토큰 세션 정보 (Redis에 저장된 값)
+     */
+    public record Session(Long userId, String username) {
+    }
+
+    /**
+     * 회전 결과
+     *
+     * @param session 토큰 소유자
+     * @param token   새 리프레시 토큰 원문
+     */
+    public record Rotation(Session session, String token) {
+    }
+
+    private enum AuditType { CREATE, REVOKE, REVOKE_ALL }
+
+    private record AuditRecord(AuditType type, String tokenHash, Long userId, LocalDateTime at,
+                               LocalDateTime expiryDate, String deviceInfo, String ipAddress) {
+    }
+
+    @PostConstruct
+    public void init() {
+        droppedAuditCounter = Counter.builder("auth.refresh-token.audit.dropped")
+                .description("대기열 초과로 버려진 리프레시 토큰 감사 기록 수")
+                .register(meterRegistry);
+    }
+
     /**
      * 새로운 리프레시 토큰 생성
      * @param userId 사용자 ID
+     * @param username 사용자명 (토큰 갱신 시 사용자 정보 조회용)
      * @param deviceInfo 기기 정보
      * @param ipAddress IP 주소
-     * @return 생성된 리프레시 토큰
-     */
-    @Transactional
-    public RefreshToken createRefreshToken(Long userId, String deviceInfo, String ipAddress) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        String token = UUID.randomUUID().toString();
-        LocalDateTime expiryDate = LocalDateTime.now().plusNanos(refreshTokenDurationMs * 1_000_000);
-        
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(token)
-                .expiryDate(expiryDate)
-                .createdAt(LocalDateTime.now())
-                .deviceInfo(deviceInfo)
-                .ipAddress(ipAddress)
-                .build();
-        
-        // DB에 저장
-        refreshToken = refreshTokenRepository.save(refreshToken);
-        
-        // Redis에도 저장 (캐시 및 이중화)
-        String redisKey = REFRESH_TOKEN_PREFIX + token;
-        redisTemplate.opsForValue().set(redisKey, userId.toString(), refreshTokenDurationMs, TimeUnit.MILLISECONDS);
-        
-        return refreshToken;
+     * @return 생성된 리프레시 토큰 원문
+     */
+    public String createRefreshToken(Long userId, String username, String deviceInfo, String ipAddress) {
+        String token = generateToken(userId);
+        String hash = hash(token);
+
+        redisTemplate.execute(CREATE_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + hash, USER_TOKENS_PREFIX + userId),
+                userId + "|" + username, hash, String.valueOf(refreshTokenDurationMs),
+                String.valueOf(System.currentTimeMillis()));
+
+        LocalDateTime now = LocalDateTime.now();
+        enqueueAudit(new AuditRecord(AuditType.CREATE, hash, userId, now,
+                now.plusNanos(refreshTokenDurationMs * 1_000_000), deviceInfo, ipAddress));
+        return token;
     }
-    
+
     /**
-     * 리프레시 토큰으로 토큰 정보 조회
-     * @param token 토큰 문자열
-     * @return 토큰 정보
+     * 리프레시 토큰 회전 (이전 토큰 폐기 + 새 토큰 발급, Redis 한 번 왕복)
+     * @param token 클라이언트가 보낸 리프레시 토큰 원문
+     * @return 회전 결과, 토큰이 없거나 만료/폐기되었으면 empty
      */
-    public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+    public Optional<Rotation> rotate(String token) {
+        Optional<Long> userId = parseUserId(token);
+        if (userId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String oldHash = hash(token);
+        String newToken = generateToken(userId.get());
+        String newHash = hash(newToken);
+
+        String result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + oldHash, REFRESH_TOKEN_PREFIX + newHash, USER_TOKENS_PREFIX + userId.get()),
+                String.valueOf(userId.get()), oldHash, newHash, String.valueOf(System.currentTimeMillis()));
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        int separator = result.indexOf('|');
+        long remainingMs = Long.parseLong(result.substring(0, separator));
+        Session session = parseSession(result.substring(separator + 1));
+
+        LocalDateTime now = LocalDateTime.now();
+        enqueueAudit(new AuditRecord(AuditType.REVOKE, oldHash, session.userId(), now, null, null, null));
+        enqueueAudit(new AuditRecord(AuditType.CREATE, newHash, session.userId(), now,
+                now.plusNanos(remainingMs * 1_000_000), null, null));
+        return Optional.of(new Rotation(session, newToken));
     }
-    
-    /**
-     * 리프레시 토큰 검증
-     * @param token 리프레시 토큰
-     * @return 검증된 토큰
-     */
-    public RefreshToken verifyExpiration(RefreshToken token) {
-        if (token.isExpired()) {
-            refreshTokenRepository.delete(token);
-            // Redis에서도 삭제
-            redisTemplate.delete(REFRESH_TOKEN_PREFIX + token.getToken());
-            throw new TokenRefreshException(token.getToken(), "리프레시 토큰이 만료되었습니다. 다시 로그인해주세요.");
+
+    /**
+     * 특정 리프레시 토큰 폐기
+     * @param token 리프레시 토큰 원문
+     * @return 폐기된 토큰의 세션 정보, 토큰이 없으면 empty
+     */
+    public Optional<Session> revoke(String token) {
+        Optional<Long> userId = parseUserId(token);
+        if (userId.isEmpty()) {
+            return Optional.empty();
         }
-        return token;
+
+        String hash = hash(token);
+        String value = redisTemplate.execute(REVOKE_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + hash, USER_TOKENS_PREFIX + userId.get()),
+                String.valueOf(userId.get()), hash);
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        Session session = parseSession(value);
+        enqueueAudit(new AuditRecord(AuditType.REVOKE, hash, session.userId(), LocalDateTime.now(), null, null, null));
+        return Optional.of(session);
     }
-    
+
     /**
      * 사용자의 모든 리프레시 토큰 무효화
-     * @param user 사용자
-     */
-    @Transactional
-    public void deleteByUser(User user) {
-        // 사용자의 모든 토큰 조회 후 Redis에서 삭제
-        refreshTokenRepository.findByUserAndIsRevokedFalse(user)
-                .forEach(token -> redisTemplate.delete(REFRESH_TOKEN_PREFIX + token.getToken()));
-        
-        // DB에서 모든 토큰 무효화
-        refreshTokenRepository.revokeAllUserTokens(user);
+     * - 사용자 ZSET 멤버를 청크 단위로 읽어 토큰 키와 함께 스크립트로 삭제
+     * - 읽은 뒤 동시에 회전/발급된 토큰도 남지 않도록 ZSET이 빌 때까지 반복 (최대 REVOKE_ALL_MAX_PASSES회)
+     * @param userId 사용자 ID
+     * @return 폐기한 토큰 수
+     */
+    public long revokeAllForUser(Long userId) {
+        String userKey = USER_TOKENS_PREFIX + userId;
+        long revoked = 0;
+
+        for (int pass = 0; pass < REVOKE_ALL_MAX_PASSES; pass++) {
+            Set<String> hashes = redisTemplate.opsForZSet().range(userKey, 0, REVOKE_ALL_CHUNK - 1);
+            if (hashes == null || hashes.isEmpty()) {
+                break;
+            }
+
+            List<String> keys = new ArrayList<>(hashes.size() + 1);
+            keys.add(userKey);
+            hashes.forEach(hash -> keys.add(REFRESH_TOKEN_PREFIX + hash));
+            Long deleted = redisTemplate.execute(REVOKE_LISTED_SCRIPT, keys, hashes.toArray());
+            revoked += deleted != null ? deleted : 0L;
+        }
+
+        enqueueAudit(new AuditRecord(AuditType.REVOKE_ALL, null, userId, LocalDateTime.now(), null, null, null));
+        return revoked;
     }
-    
+
     /**
-     * 특정 리프레시 토큰 삭제
-     * @param refreshToken 삭제할 토큰
+     * 대기 중인 감사 기록을 DB에 반영 (JDBC 배치, 한 트랜잭션)
+     * - 발급 → 폐기 → 전체 폐기 순으로 반영 (전체 폐기는 그 시각 이전 발급분만 대상)
      */
-    @Transactional
-    public void deleteRefreshToken(RefreshToken refreshToken) {
-        refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
-        redisTemplate.delete(REFRESH_TOKEN_PREFIX + refreshToken.getToken());
+    @Scheduled(fixedDelayString = "${app.jwt.refresh.audit.flush-interval-ms:1000}")
+    public void flushAudits() {
+        if (pendingAudits.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> revokes = new ArrayList<>();
+        List<Object[]> revokeAlls = new ArrayList<>();
+        AuditRecord record;
+        while ((record = pendingAudits.poll()) != null) {
+            pendingAuditSize.decrementAndGet();
+            switch (record.type()) {
+                case CREATE -> inserts.add(new Object[]{record.tokenHash(), Timestamp.valueOf(record.expiryDate()),
+                        Timestamp.valueOf(record.at()), record.deviceInfo(), record.ipAddress(), record.userId()});
+                case REVOKE -> revokes.add(new Object[]{record.tokenHash()});
+                case REVOKE_ALL -> revokeAlls.add(new Object[]{record.userId(), Timestamp.valueOf(record.at())});
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_AUDIT_SQL, inserts);
+                }
+                if (!revokes.isEmpty()) {
+                    jdbcTemplate.batchUpdate(REVOKE_AUDIT_SQL, revokes);
+                }
+                if (!revokeAlls.isEmpty()) {
+                    jdbcTemplate.batchUpdate(REVOKE_ALL_AUDIT_SQL, revokeAlls);
+                }
+            });
+        } catch (Exception e) {
+            droppedAuditCounter.increment(inserts.size() + revokes.size() + revokeAlls.size());
+            log.warn("리프레시 토큰 감사 기록 반영 실패 (발급 {}건, 폐기 {}건, 전체 폐기 {}건 버림): {}",
+                    inserts.size(), revokes.size(), revokeAlls.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 감사 기록 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushAudits();
+    }
+
+    private void enqueueAudit(AuditRecord record) {
+        if (pendingAuditSize.incrementAndGet() > maxPendingAudits) {
+            pendingAuditSize.decrementAndGet();
+            droppedAuditCounter.increment();
+            return;
+        }
+        pendingAudits.offer(record);
     }
-    
+
     /**
-     * 만료된 토큰 정리 (스케줄러)
+     * 토큰 원문 생성: "사용자ID.무작위값(base64url)"
      */
-    @Scheduled(fixedRate = 86400000) // 24시간마다 실행
-    @Transactional
-    public void deleteExpiredTokens() {
-        int deletedCount = refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
-        log.info("만료된 리프레시 토큰 {}개를 삭제했습니다.", deletedCount);
+    private String generateToken(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return userId + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
-    
+
     /**
-     * Redis에서 토큰 유효성 확인
-     * @param token 토큰 문자열
-     * @return 유효하면 true
+     * 토큰 원문의 사용자ID 접두어 (형식이 다르면 empty)
      */
-    public boolean isTokenValidInRedis(String token) {
-        String redisKey = REFRESH_TOKEN_PREFIX + token;
-        return redisTemplate.hasKey(redisKey);
+    private static Optional<Long> parseUserId(String token) {
+        int separator = token != null ? token.indexOf('.') : -1;
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(token.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 토큰 원문 → SHA-256 해시 (hex)
+     */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static Session parseSession(String value) {
+        int separator = value.indexOf('|');
+        return new Session(Long.parseLong(value.substring(0, separator)), value.substring(separator + 1));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.rookies.log2doc.service;
+
+import com.rookies.log2doc.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 액세스 토큰 버전 관리 서비스 (Redis)
+ * - 사용자별 토큰 버전을 Redis에 보관, 발급 시 현재 버전을 JWT "ver" 클레임에 기록
+ * - 인증 시 토큰 버전 ≥ 현재 버전이면 유효 → 버전 증가(revokeAll)로 이전에 발급한 액세스 토큰 전체 폐기
+ * - 키에 TTL을 두지 않음 → 버전이 처음(0)으로 돌아가 폐기된 토큰이 다시 유효해지는 일이 없음
+ *   (키는 한 번이라도 폐기한 사용자당 하나, 값은 숫자 하나)
+ * - 직급/활성 여부 등 사용자 정보가 바뀌면 커밋 후 자동 폐기 (UserChangedEvent)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenVersionService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String TOKEN_VERSION_PREFIX = "auth:token-version:";
+
+    /**
+     * 현재 토큰 버전 (발급 시 사용)
+     * - Redis 장애 시 0 (이후 검증 시 실제 버전이 더 크면 거부되므로 안전한 쪽)
+     */
+    public long currentVersion(Long userId) {
+        try {
+            return readVersion(userId);
+        } catch (Exception e) {
+            log.warn("토큰 버전 조회 실패 - 기본 버전으로 발급: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 토큰 버전 유효 여부 (요청 인증 시 사용, GET 한 번)
+     * - Redis 장애 시 예외를 그대로 전달 → 호출 측에서 DB 조회로 대체
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        return tokenVersion >= readVersion(userId);
+    }
+
+    /**
+     * 사용자의 기존 액세스 토큰 전체 폐기 (버전 증가)
+     *
+     * @return 증가된 버전
+     */
+    public long revokeAll(Long userId) {
+        Long version = redisTemplate.opsForValue().increment(TOKEN_VERSION_PREFIX + userId);
+        log.info("사용자 액세스 토큰 폐기 - 사용자 ID: {}, 버전: {}", userId, version);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * 사용자 변경 커밋 후 기존 액세스 토큰 폐기
+     * - 비활성화/직급 변경이 이미 발급된 토큰의 남은 유효 기간 동안 적용되지 않는 문제 방지
+     * - Redis 장애 시 경고만 남김 (사용자 변경 자체는 이미 커밋됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        try {
+            revokeAll(event.getUserId());
+        } catch (Exception e) {
+            log.warn("사용자 변경 후 액세스 토큰 폐기 실패 - 사용자 ID: {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    private long readVersion(Long userId) {
+        String value = redisTemplate.opsForValue().get(TOKEN_VERSION_PREFIX + userId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
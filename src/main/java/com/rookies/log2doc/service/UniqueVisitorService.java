@@ -0,0 +1,286 @@
+package com.rookies.log2doc.service;
+
+import com.rookies.log2doc.dto.response.UniqueCountResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고유 사용자 / 고유 IP 집계 서비스 (Redis HyperLogLog)
+ * - 인증된 요청마다 사용자 ID와 클라이언트 IP를 시간 버킷별 HLL에 PFADD
+ *   일별/시간별 고유 사용자, 일별/시간별 고유 IP, 엔드포인트(메서드 + URL 템플릿)별 일별 고유 IP
+ * - 버킷당 메모리 고정(최대 약 12KB, 표준 오차 약 0.81%), 키마다 보존 기간 TTL
+ * - 요청 스레드는 메모리 큐에 넣기만 하고, 주기적으로 키별로 묶어 한 번의 파이프라인으로 전송
+ *   (Redis 장애가 요청 지연으로 이어지지 않음, 큐가 가득 차면 버림)
+ * - 조회는 범위 내 버킷 키를 PFCOUNT 한 번으로 병합 (모든 노드의 기록이 합쳐진 값)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UniqueVisitorService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /** 집계 대상 */
+    public enum Metric {
+        USERS, IPS;
+
+        public static Metric from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 집계 대상입니다: " + value);
+            }
+        }
+    }
+
+    /** 버킷 단위 */
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS, DateTimeFormatter.ofPattern("yyyyMMddHH")),
+        DAY(ChronoUnit.DAYS, DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+        private final ChronoUnit unit;
+        private final DateTimeFormatter formatter;
+
+        Granularity(ChronoUnit unit, DateTimeFormatter formatter) {
+            this.unit = unit;
+            this.formatter = formatter;
+        }
+
+        public static Granularity from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 집계 단위입니다: " + value);
+            }
+        }
+
+        LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        String suffix(LocalDateTime bucketStart) {
+            return (this == HOUR ? "h:" : "d:") + formatter.format(bucketStart);
+        }
+    }
+
+    private static final String KEY_PREFIX = "analytics:uv:";
+
+    @Value("${log.analytics.unique.enabled:true}")
+    private boolean enabled;
+
+    /** 시간별 버킷 보존 기간 (일) */
+    @Value("${log.analytics.unique.hourly-retention-days:7}")
+    private long hourlyRetentionDays;
+
+    /** 일별 버킷 보존 기간 (일) */
+    @Value("${log.analytics.unique.daily-retention-days:90}")
+    private long dailyRetentionDays;
+
+    /** 전송 대기 최대 항목 수 (초과 시 버림) */
+    @Value("${log.analytics.unique.max-pending:50000}")
+    private int maxPending;
+
+    /** 한 번의 조회에서 병합 가능한 최대 버킷 수 */
+    @Value("${log.analytics.unique.max-buckets:744}")
+    private int maxBuckets;
+
+    /** 전송 대기 중인 (키, 값) 쌍 */
+    private final ConcurrentLinkedQueue<String[]> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+
+    private Counter droppedCounter;
+    private Counter flushFailureCounter;
+
+    @PostConstruct
+    public void init() {
+        droppedCounter = Counter.builder("log.analytics.unique.dropped")
+                .description("전송 대기열 초과로 버려진 고유 방문자 기록 수")
+                .register(meterRegistry);
+        flushFailureCounter = Counter.builder("log.analytics.unique.flush.failures")
+                .description("고유 방문자 HLL 전송 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인증된 요청 1건 기록 (요청 스레드에서 호출, Redis 접근 없음)
+     *
+     * @param userId   사용자 ID
+     * @param clientIp 클라이언트 IP
+     * @param endpoint 메서드 + URL 템플릿 (예: GET /documents/{id}), 없으면 null
+     * @param now      요청 시각
+     */
+    public void record(String userId, String clientIp, String endpoint, LocalDateTime now) {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime hour = Granularity.HOUR.truncate(now);
+        LocalDateTime day = Granularity.DAY.truncate(now);
+
+        if (userId != null && !userId.isBlank()) {
+            enqueue(key(Metric.USERS, null, Granularity.HOUR, hour), userId);
+            enqueue(key(Metric.USERS, null, Granularity.DAY, day), userId);
+        }
+        if (clientIp != null && !clientIp.isBlank()) {
+            enqueue(key(Metric.IPS, null, Granularity.HOUR, hour), clientIp);
+            enqueue(key(Metric.IPS, null, Granularity.DAY, day), clientIp);
+            if (endpoint != null) {
+                enqueue(key(Metric.IPS, endpoint, Granularity.DAY, day), clientIp);
+            }
+        }
+    }
+
+    private void enqueue(String key, String value) {
+        if (pendingSize.incrementAndGet() > maxPending) {
+            pendingSize.decrementAndGet();
+            droppedCounter.increment();
+            return;
+        }
+        pending.offer(new String[]{key, value});
+    }
+
+    /**
+     * 대기 중인 기록을 키별로 묶어 파이프라인 전송 (PFADD + EXPIRE)
+     */
+    @Scheduled(fixedDelayString = "${log.analytics.unique.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키별 고유 값으로 묶기 (같은 사용자 반복 요청은 한 번만 전송)
+        Map<String, Set<String>> batch = new LinkedHashMap<>();
+        String[] entry;
+        while ((entry = pending.poll()) != null) {
+            pendingSize.decrementAndGet();
+            batch.computeIfAbsent(entry[0], k -> new LinkedHashSet<>()).add(entry[1]);
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                batch.forEach((key, values) -> pfAddWithTtl(connection, key, values));
+                return null;
+            });
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.warn("고유 방문자 HLL 전송 실패 ({}개 키 버림): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void pfAddWithTtl(RedisConnection connection, String key, Set<String> values) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[][] rawValues = values.stream()
+                .map(value -> value.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        long retentionDays = key.contains(":h:") ? hourlyRetentionDays : dailyRetentionDays;
+
+        connection.hyperLogLogCommands().pfAdd(rawKey, rawValues);
+        connection.keyCommands().expire(rawKey, retentionDays * 24 * 3600);
+    }
+
+    /**
+     * 종료 시 남은 기록 전송
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 기간 내 고유 수 조회
+     * - total: 범위 내 모든 버킷을 PFCOUNT 한 번으로 병합한 고유 수 (버킷 간 중복 제거)
+     * - buckets: 버킷별 고유 수 (파이프라인 PFCOUNT)
+     *
+     * @param metric      집계 대상
+     * @param endpoint    엔드포인트 (IPS + DAY 에서만 사용, null이면 전체)
+     * @param granularity 버킷 단위
+     * @param from        시작 시각 (포함, 버킷 단위로 내림)
+     * @param to          종료 시각 (포함, 버킷 단위로 내림)
+     */
+    public UniqueCountResponse count(Metric metric, String endpoint, Granularity granularity,
+                                     LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (endpoint != null && (metric != Metric.IPS || granularity != Granularity.DAY)) {
+            throw new IllegalArgumentException("엔드포인트별 집계는 고유 IP 일별 조회만 지원합니다.");
+        }
+
+        LocalDateTime start = granularity.truncate(from);
+        LocalDateTime end = granularity.truncate(to);
+        long bucketCount = granularity.unit.between(start, end) + 1;
+        if (bucketCount > maxBuckets) {
+            throw new IllegalArgumentException("조회 기간이 너무 깁니다. (최대 " + maxBuckets + "개 버킷)");
+        }
+
+        List<LocalDateTime> bucketStarts = new ArrayList<>((int) bucketCount);
+        List<String> keys = new ArrayList<>((int) bucketCount);
+        for (LocalDateTime bucket = start; !bucket.isAfter(end); bucket = bucket.plus(1, granularity.unit)) {
+            bucketStarts.add(bucket);
+            keys.add(key(metric, endpoint, granularity, bucket));
+        }
+
+        Long total = redisTemplate.opsForHyperLogLog().size(keys.toArray(String[]::new));
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.hyperLogLogCommands().pfCount(key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        List<UniqueCountResponse.Bucket> buckets = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object count = counts.get(i);
+            buckets.add(UniqueCountResponse.Bucket.builder()
+                    .start(bucketStarts.get(i))
+                    .count(count instanceof Number number ? number.longValue() : 0L)
+                    .build());
+        }
+
+        return UniqueCountResponse.builder()
+                .metric(metric.name())
+                .granularity(granularity.name())
+                .endpoint(endpoint)
+                .from(start)
+                .to(end.plus(1, granularity.unit))
+                .total(total != null ? total : 0L)
+                .buckets(buckets)
+                .build();
+    }
+
+    /**
+     * HLL 키 생성
+     * - analytics:uv:users:d:20250101, analytics:uv:ips:h:2025010113
+     * - analytics:uv:ips:ep:GET /documents/{id}:d:20250101
+     */
+    private static String key(Metric metric, String endpoint, Granularity granularity, LocalDateTime bucketStart) {
+        StringBuilder key = new StringBuilder(KEY_PREFIX).append(metric.name().toLowerCase(Locale.ROOT)).append(':');
+        if (endpoint != null) {
+            key.append("ep:").append(endpoint).append(':');
+        }
+        return key.append(granularity.suffix(bucketStart)).toString();
+    }
+}
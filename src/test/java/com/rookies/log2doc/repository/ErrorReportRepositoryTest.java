@@ -0,0 +1,422 @@
+package com.rookies.log2doc.repository;
+
+import com.rookies.log2doc.entity.ErrorReport;
+import com.rookies.log2doc.service.ErrorReportSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * ErrorReportRepository 인덱스/실행 계획 회귀 테스트
+ * - 시드 데이터를 넣고 각 조회 경로의 EXPLAIN 결과가 기대 인덱스(정확한 이름)를 사용하는지 확인
+ * - Repository 메서드가 실제로 보낸 SQL과 바인딩 값을 캡처해 그대로 EXPLAIN
+ *   (catch-all 조건 `(:x IS NULL OR ...)`, 커서 OR 조건이 인덱스를 못 쓰게 되는 회귀 감지)
+ * - 각 Repository 메서드를 실행해 결과 검증 + 시간 예산 확인
+ * - 운영과 같은 MariaDB(Testcontainers)에서 실행 → 엔티티 DDL/실행 계획이 운영과 동일
+ *   (인덱스 누락, DATE() 등 인덱스를 못 쓰는 조건 회귀 감지 목적)
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ErrorReportRepositoryTest.SqlCaptureConfig.class)
+class ErrorReportRepositoryTest {
+
+    /** 운영과 같은 최소 토큰 길이 (한글 두 글자 단어 색인) */
+    private static final int FULLTEXT_TOKEN_SIZE = 2;
+
+    @Container
+    static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4")
+            .withCommand("--innodb-ft-min-token-size=" + FULLTEXT_TOKEN_SIZE);
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+    }
+
+    private static final int SEED_ROWS = 3000;
+    private static final Duration QUERY_BUDGET = Duration.ofMillis(1000);
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private ErrorReportRepository errorReportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 시드 데이터 적재 (클래스 전체에서 한 번)
+     * - 테스트 트랜잭션과 분리된 별도 트랜잭션에서 명시적으로 커밋 (테스트 롤백과 무관하게 유지)
+     * - DDL/ANALYZE 는 테스트 트랜잭션을 중단한 상태(자동 커밋 연결)에서 실행
+     */
+    @BeforeEach
+    void seed() {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM error_report", Long.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        TransactionTemplate seedTransaction = new TransactionTemplate(transactionManager);
+        seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        seedTransaction.executeWithoutResult(status -> insertSeedRows());
+
+        TransactionTemplate noTransaction = new TransactionTemplate(transactionManager);
+        noTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        noTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute(ErrorReportSearchService.fullTextIndexDdl(false, FULLTEXT_TOKEN_SIZE));
+            jdbcTemplate.execute("ANALYZE TABLE error_report");
+        });
+    }
+
+    private void insertSeedRows() {
+        ErrorReport.ReportCategory[] categories = ErrorReport.ReportCategory.values();
+        ErrorReport.ReportStatus[] statuses = ErrorReport.ReportStatus.values();
+
+        List<Object[]> rows = new ArrayList<>(SEED_ROWS);
+        for (int i = 0; i < SEED_ROWS; i++) {
+            rows.add(new Object[]{
+                    "report-" + i,
+                    i % 100 == 7 ? "서버 연결 오류 " + i : "preview-" + i,
+                    categories[i % categories.length].name(),
+                    statuses[(i / categories.length) % statuses.length].name(),
+                    "/reports/report-" + i + ".md",
+                    i % 50 == 0, // 2% 삭제
+                    Timestamp.valueOf(BASE_TIME.plusMinutes(i * 30L))
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO error_report (report_title, report_preview, report_category, report_status, " +
+                        "report_path, is_deleted, created_dt) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // ========================================
+    // 실행 계획 검증
+    // ========================================
+
+    @Test
+    void latestListUsesDeletedCreatedIndex() {
+        assertUsesIndex("SELECT * FROM error_report WHERE is_deleted = FALSE ORDER BY created_dt DESC, id DESC LIMIT 50",
+                "idx_error_report_deleted_created");
+    }
+
+    @Test
+    void dateRangeUsesDeletedCreatedIndex() {
+        assertUsesIndex("SELECT COUNT(*) FROM error_report WHERE is_deleted = FALSE " +
+                        "AND created_dt >= '2025-01-10 00:00:00' AND created_dt < '2025-01-11 00:00:00'",
+                "idx_error_report_deleted_created");
+    }
+
+    @Test
+    void categoryListUsesCategoryIndex() {
+        assertUsesIndex("SELECT * FROM error_report WHERE is_deleted = FALSE AND report_category = 'ATTACK' " +
+                        "ORDER BY created_dt DESC LIMIT 50",
+                "idx_error_report_deleted_category_created");
+    }
+
+    @Test
+    void statusListUsesStatusIndex() {
+        assertUsesIndex("SELECT * FROM error_report WHERE is_deleted = FALSE AND report_status = 'IN_PROGRESS' " +
+                        "ORDER BY created_dt DESC LIMIT 50",
+                "idx_error_report_deleted_status_created");
+    }
+
+    @Test
+    void categoryAndStatusUsesCombinedIndex() {
+        assertUsesIndex("SELECT * FROM error_report WHERE is_deleted = FALSE AND report_category = 'ATTACK' " +
+                        "AND report_status = 'COMPLETED' ORDER BY created_dt DESC LIMIT 50",
+                "idx_error_report_deleted_category_status_created");
+    }
+
+    @Test
+    void reportPathLookupUsesPathIndex() {
+        assertUsesIndex("SELECT * FROM error_report WHERE is_deleted = FALSE AND report_path = '/reports/report-10.md'",
+                "idx_error_report_report_path");
+    }
+
+    @Test
+    void keywordSearchUsesFullTextIndex() {
+        assertUsesIndex("SELECT * FROM error_report WHERE is_deleted = FALSE " +
+                        "AND MATCH(report_title, report_preview) AGAINST ('+report* +1234*' IN BOOLEAN MODE)",
+                ErrorReportSearchService.FULLTEXT_INDEX);
+    }
+
+    // ========================================
+    // Repository 메서드가 실제로 보낸 SQL의 실행 계획 검증
+    // ========================================
+
+    @Test
+    void findPageByCategoryPlanUsesCategoryIndex() {
+        assertRepositoryQueryUsesIndex(() -> errorReportRepository.findPage(
+                        null, ErrorReport.ReportCategory.ATTACK, null, null, null, null, 50),
+                "idx_error_report_deleted_category_created");
+    }
+
+    @Test
+    void findPageWithCursorPlanUsesDeletedCreatedIndex() {
+        assertRepositoryQueryUsesIndex(() -> errorReportRepository.findPage(
+                        null, null, null, null, BASE_TIME.plusDays(20), 1000L, 50),
+                "idx_error_report_deleted_created");
+    }
+
+    @Test
+    void findSummaryPageByStatusPlanUsesStatusIndex() {
+        assertRepositoryQueryUsesIndex(() -> errorReportRepository.findSummaryPage(
+                        ErrorReport.ReportStatus.IN_PROGRESS, null, null, null, null, null, 50),
+                "idx_error_report_deleted_status_created");
+    }
+
+    @Test
+    void findSummaryPageByCategoryStatusWithCursorPlanUsesCombinedIndex() {
+        assertRepositoryQueryUsesIndex(() -> errorReportRepository.findSummaryPage(
+                        ErrorReport.ReportStatus.COMPLETED, ErrorReport.ReportCategory.ATTACK,
+                        null, null, BASE_TIME.plusDays(40), 2000L, 50),
+                "idx_error_report_deleted_category_status_created");
+    }
+
+    // ========================================
+    // Repository 메서드 결과 + 시간 예산 검증
+    // ========================================
+
+    @Test
+    void findPageReturnsNewestFirstWithinBudget() {
+        List<ErrorReport> page = withinBudget(() -> errorReportRepository.findPage(
+                null, ErrorReport.ReportCategory.ATTACK, null, null, null, null, 50));
+
+        assertThat(page).hasSize(50);
+        assertThat(page).allMatch(r -> r.getReportCategory() == ErrorReport.ReportCategory.ATTACK && !r.getIsDeleted());
+        assertThat(page.get(0).getCreatedDt()).isAfterOrEqualTo(page.get(page.size() - 1).getCreatedDt());
+    }
+
+    @Test
+    void countCreatedBetweenMatchesSeedWithinBudget() {
+        LocalDate day = BASE_TIME.toLocalDate().plusDays(3);
+        long count = withinBudget(() -> errorReportRepository.countCreatedBetween(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+
+        // 30분 간격 → 하루 48건, 삭제 행(50건마다 1건) 제외
+        long expectedDeleted = countDeletedOn(day);
+        assertThat(count).isEqualTo(48 - expectedDeleted);
+    }
+
+    @Test
+    void findByCreatedDateWithinBudget() {
+        LocalDate day = BASE_TIME.toLocalDate().plusDays(5);
+        List<ErrorReport> reports = withinBudget(() -> errorReportRepository.findByCreatedDate(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+
+        assertThat(reports).isNotEmpty();
+        assertThat(reports).allMatch(r -> r.getCreatedDt().toLocalDate().equals(day));
+    }
+
+    @Test
+    void statusAndCategoryQueriesWithinBudget() {
+        assertThat(withinBudget(() -> errorReportRepository.findPage(
+                ErrorReport.ReportStatus.IN_PROGRESS, null, null, null, null, null, 50)))
+                .allMatch(ErrorReport::isInProgress);
+        assertThat(withinBudget(() -> errorReportRepository.findPage(
+                null, ErrorReport.ReportCategory.ATTACK, null, null, null, null, 50)))
+                .allMatch(ErrorReport::isAttackCategory);
+        assertThat(withinBudget(() -> errorReportRepository.findLatestByCategoryAndStatus(
+                ErrorReport.ReportCategory.ATTACK, ErrorReport.ReportStatus.COMPLETED, 20)))
+                .hasSizeLessThanOrEqualTo(20)
+                .allMatch(r -> r.isAttackCategory() && r.isCompleted());
+        assertThat(withinBudget(() -> errorReportRepository.countAttackReportsSince(BASE_TIME.plusDays(30))))
+                .isPositive();
+    }
+
+    @Test
+    void searchFullTextRanksExactMatchFirstWithinBudget() {
+        List<ErrorReport> results = withinBudget(() -> errorReportRepository.searchFullText("+report* +1234*", 0, 10));
+
+        assertThat(results).isNotEmpty();
+        assertThat(results.get(0).getReportTitle()).isEqualTo("report-1234");
+    }
+
+    @Test
+    void searchFullTextMatchesTwoSyllableKoreanWords() {
+        List<ErrorReport> results = withinBudget(() -> errorReportRepository.searchFullText("+서버* +오류*", 0, 10));
+
+        assertThat(results).hasSize(10);
+        assertThat(results).allMatch(r -> r.getReportPreview().startsWith("서버 연결 오류") && !r.getIsDeleted());
+    }
+
+    @Test
+    void searchByKeywordPagesWithinBudget() {
+        List<ErrorReport> page = withinBudget(() -> errorReportRepository.searchByKeyword("report-12", null, null, 20));
+
+        assertThat(page).hasSize(20);
+        assertThat(page).allMatch(r -> r.getReportTitle().contains("report-12") && !r.getIsDeleted());
+    }
+
+    @Test
+    void findByReportPathWithinBudget() {
+        assertThat(withinBudget(() -> errorReportRepository.findByReportPath("/reports/report-11.md")))
+                .isPresent();
+    }
+
+    // ========================================
+    // 유틸리티
+    // ========================================
+
+    /**
+     * EXPLAIN 결과의 key가 기대 인덱스(정확한 이름)이고 전체 스캔(type=ALL)이 아닌지 확인
+     */
+    private void assertUsesIndex(String sql, String expectedIndex, Object... params) {
+        Map<String, Object> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params).get(0);
+        String key = String.valueOf(plan.get("key")).toLowerCase(Locale.ROOT);
+
+        assertThat(key).as("실행 계획: %s", plan).isEqualTo(expectedIndex);
+        assertThat(String.valueOf(plan.get("type"))).as("실행 계획: %s", plan).isNotEqualToIgnoringCase("ALL");
+    }
+
+    /**
+     * Repository 메서드 실행 중 보낸 SELECT를 캡처해 같은 바인딩 값으로 EXPLAIN
+     */
+    private void assertRepositoryQueryUsesIndex(Runnable repositoryCall, String expectedIndex) {
+        SqlCapture.QUERIES.clear();
+        repositoryCall.run();
+
+        List<SqlCapture.CapturedQuery> selects = SqlCapture.QUERIES.stream()
+                .filter(query -> query.sql().stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+        assertThat(selects).as("캡처된 SELECT").hasSize(1);
+
+        SqlCapture.CapturedQuery query = selects.get(0);
+        assertUsesIndex(query.sql(), expectedIndex, query.params());
+    }
+
+    private <T> T withinBudget(Supplier<T> query) {
+        return assertTimeout(QUERY_BUDGET, query::get);
+    }
+
+    /**
+     * DataSource를 감싸 PreparedStatement SQL/바인딩 값을 캡처하는 테스트 설정
+     */
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof SqlCapture)
+                            ? new SqlCapture(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 실행된 PreparedStatement의 SQL과 바인딩 값(파라미터 순서대로) 기록
+     */
+    static class SqlCapture extends DelegatingDataSource {
+
+        static final List<CapturedQuery> QUERIES = new CopyOnWriteArrayList<>();
+
+        record CapturedQuery(String sql, Object[] params) {
+        }
+
+        SqlCapture(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+
+        private static Connection wrapConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return wrapStatement(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+            TreeMap<Integer, Object> params = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            params.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            params.clear();
+                        } else if (name.equals("executeQuery") || name.equals("execute")) {
+                            QUERIES.add(new CapturedQuery(sql, params.values().toArray()));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private long countDeletedOn(LocalDate day) {
+        long deleted = 0;
+        for (int i = 0; i < SEED_ROWS; i += 50) {
+            if (BASE_TIME.plusMinutes(i * 30L).toLocalDate().equals(day)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
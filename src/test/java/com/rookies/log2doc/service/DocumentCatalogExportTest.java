@@ -0,0 +1,185 @@
+package com.rookies.log2doc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rookies.log2doc.config.FileStorageConfig;
+import com.rookies.log2doc.export.ExportFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문서 목록 내보내기 테스트
+ * - 내보내기 청크(500건)보다 많은 문서를 넣고 여러 keyset 페이지에 걸쳐 빠짐/중복 없이 기록되는지 확인
+ * - 읽기 권한/카테고리 조건과 청크별 카테고리 이름 조회 결과 확인
+ * - 운영과 같은 MariaDB(Testcontainers)에서 실행, Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DocumentService.class, DocumentCatalogExportTest.ExportTestConfig.class})
+class DocumentCatalogExportTest {
+
+    @Container
+    static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+    }
+
+    /** 내보내기 청크 2개 이상 + 마지막 청크는 일부만 채워지는 건수 */
+    private static final int DOCUMENTS = 1234;
+    private static final long DELETED_ID = 1000L;
+    private static final long INTERN_ROLE_ID = 1L;
+    private static final long CEO_ROLE_ID = 2L;
+    private static final long SECURITY_CATEGORY_ID = 1L;
+    private static final long HR_CATEGORY_ID = 2L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @MockitoBean
+    private FileStorageConfig fileStorageConfig;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 시드 데이터 (테스트 트랜잭션 안에서 적재 → 테스트마다 롤백)
+     * - 짝수 ID는 인턴, 홀수 ID는 대표이사 읽기 권한
+     * - 3의 배수는 "보안", 5의 배수는 "인사" 카테고리
+     */
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO roles (role_id, name, description) VALUES (?, 'INTERN', '인턴'), (?, 'CEO', '대표이사')",
+                INTERN_ROLE_ID, CEO_ROLE_ID);
+        jdbcTemplate.update("INSERT INTO category_type (id, name, is_deleted, created_dt) VALUES " +
+                        "(?, '보안', FALSE, NOW()), (?, '인사', FALSE, NOW())",
+                SECURITY_CATEGORY_ID, HR_CATEGORY_ID);
+
+        List<Object[]> documents = new ArrayList<>(DOCUMENTS);
+        List<Object[]> categories = new ArrayList<>();
+        for (long id = 1; id <= DOCUMENTS; id++) {
+            documents.add(new Object[]{
+                    id, "doc-" + id, "doc-" + id + ".txt", "hash-" + id, "/app/document/hash-" + id,
+                    100L + id, "text/plain", id == DELETED_ID, "COMPLETED", "author", "CEO",
+                    Timestamp.valueOf(BASE_TIME.plusMinutes(id)), id % 2 == 0 ? INTERN_ROLE_ID : CEO_ROLE_ID
+            });
+            if (id % 3 == 0) {
+                categories.add(new Object[]{categories.size() + 1L, id, SECURITY_CATEGORY_ID});
+            }
+            if (id % 5 == 0) {
+                categories.add(new Object[]{categories.size() + 1L, id, HR_CATEGORY_ID});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO documents (id, title, file_name, file_path, file_path_nfs, file_size, " +
+                "mime_type, is_deleted, status, author, created_role, created_at, read_role_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", documents);
+        jdbcTemplate.batchUpdate("INSERT INTO document_category (id, document_id, category_type_id, created_dt) " +
+                "VALUES (?, ?, ?, NOW())", categories);
+    }
+
+    @Test
+    void exportsEveryReadableDocumentAcrossChunksInIdOrder() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = documentService.exportCatalog(ExportFormat.NDJSON, "CEO", null, null, null, out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        List<Long> ids = lines.stream().map(node -> node.get("id").asLong()).toList();
+
+        assertThat(rows).isEqualTo(DOCUMENTS - 1);
+        assertThat(ids).hasSize(DOCUMENTS - 1).isSorted().doesNotHaveDuplicates().doesNotContain(DELETED_ID);
+        assertThat(categoriesOf(lines, 15L)).containsExactlyInAnyOrder("보안", "인사");
+        assertThat(categoriesOf(lines, 999L)).containsExactly("보안");
+        assertThat(categoriesOf(lines, 1L)).containsExactly("");
+    }
+
+    @Test
+    void exportsOnlyDocumentsReadableByRole() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = documentService.exportCatalog(ExportFormat.CSV, "INTERN", null, null, null, out);
+
+        // 헤더 제외, 짝수 ID 중 삭제 문서 제외
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r?\n");
+        assertThat(rows).isEqualTo(DOCUMENTS / 2 - 1);
+        assertThat(lines).hasSize(DOCUMENTS / 2);
+        assertThat(Arrays.stream(lines).skip(1)).allMatch(line -> Long.parseLong(line.split(",")[0]) % 2 == 0);
+    }
+
+    @Test
+    void exportsOnlyDocumentsInCategory() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = documentService.exportCatalog(ExportFormat.NDJSON, "CEO", HR_CATEGORY_ID, null, null, out);
+
+        // 5의 배수 중 삭제 문서 제외
+        assertThat(rows).isEqualTo(DOCUMENTS / 5 - 1);
+    }
+
+    private List<String> categoriesOf(List<JsonNode> lines, long id) {
+        return lines.stream()
+                .filter(node -> node.get("id").asLong() == id)
+                .findFirst()
+                .map(node -> Arrays.asList(node.get("categories").asText().split("\\|")))
+                .orElseThrow();
+    }
+
+    /**
+     * DocumentService 의존성 중 JPA 슬라이스에 포함되지 않는 빈
+     */
+    @TestConfiguration
+    static class ExportTestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean(name = "documentIoExecutor")
+        Executor documentIoExecutor() {
+            return Runnable::run;
+        }
+    }
+}
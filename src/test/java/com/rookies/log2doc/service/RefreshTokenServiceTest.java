@@ -0,0 +1,159 @@
+package com.rookies.log2doc.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RefreshTokenService Redis 스크립트 테스트
+ * - 회전, 이미 회전된 토큰 재사용(replay), 전체 폐기, 사용자 ZSET 만료 멤버 정리 확인
+ * - 실제 Redis(Testcontainers)에서 Lua 스크립트 실행, Docker가 없는 환경에서는 건너뜀
+ * - 감사 기록은 대기열에만 쌓이고 DB에 반영하지 않음 (flushAudits 미호출)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenServiceTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static final long DURATION_MS = 60_000L;
+    private static final Long USER_ID = 7L;
+    private static final String USERNAME = "tester";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        refreshTokenService = new RefreshTokenService(redisTemplate, null, null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenDurationMs", DURATION_MS);
+        ReflectionTestUtils.setField(refreshTokenService, "maxPendingAudits", 10_000);
+        refreshTokenService.init();
+    }
+
+    @Test
+    void rotateReplacesTokenAndKeepsExpiry() {
+        String token = refreshTokenService.createRefreshToken(USER_ID, USERNAME, "device", "127.0.0.1");
+
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(token);
+
+        assertThat(rotation).isPresent();
+        assertThat(rotation.get().session()).isEqualTo(new RefreshTokenService.Session(USER_ID, USERNAME));
+        assertThat(rotation.get().token()).isNotEqualTo(token).startsWith(USER_ID + ".");
+        assertThat(redisTemplate.hasKey(tokenKey(token))).isFalse();
+        assertThat(redisTemplate.getExpire(tokenKey(rotation.get().token()))).isBetween(1L, DURATION_MS / 1000);
+        assertThat(redisTemplate.opsForZSet().range(userKey(), 0, -1)).containsExactly(hash(rotation.get().token()));
+    }
+
+    @Test
+    void replayOfRotatedTokenIsRejected() {
+        String token = refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null);
+        String rotated = refreshTokenService.rotate(token).orElseThrow().token();
+
+        assertThat(refreshTokenService.rotate(token)).isEmpty();
+        assertThat(refreshTokenService.revoke(token)).isEmpty();
+
+        // 재사용 시도가 정상 토큰에는 영향 없음
+        assertThat(refreshTokenService.rotate(rotated)).isPresent();
+    }
+
+    @Test
+    void tokenWithForeignUserPrefixIsRejected() {
+        String token = refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null);
+        String forged = (USER_ID + 1) + token.substring(token.indexOf('.'));
+
+        assertThat(refreshTokenService.rotate(forged)).isEmpty();
+        assertThat(refreshTokenService.rotate("not-a-token")).isEmpty();
+        assertThat(refreshTokenService.rotate(token)).isPresent();
+    }
+
+    @Test
+    void revokeAllRemovesEveryTokenOfUser() {
+        String first = refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null);
+        String second = refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null);
+        String third = refreshTokenService.rotate(
+                refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null)).orElseThrow().token();
+        String otherUser = refreshTokenService.createRefreshToken(USER_ID + 1, "other", null, null);
+
+        long revoked = refreshTokenService.revokeAllForUser(USER_ID);
+
+        assertThat(revoked).isEqualTo(3);
+        assertThat(refreshTokenService.rotate(first)).isEmpty();
+        assertThat(refreshTokenService.rotate(second)).isEmpty();
+        assertThat(refreshTokenService.rotate(third)).isEmpty();
+        assertThat(redisTemplate.hasKey(userKey())).isFalse();
+        assertThat(refreshTokenService.rotate(otherUser)).isPresent();
+    }
+
+    @Test
+    void createPrunesExpiredMembersFromUserSet() throws InterruptedException {
+        // 유효한 토큰이 남아 있어 사용자 키 자체는 만료되지 않는 상태에서 만료 멤버만 정리되는지 확인
+        String earlier = refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenDurationMs", 50L);
+        refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null);
+        refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null);
+        Thread.sleep(100);
+
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenDurationMs", DURATION_MS);
+        String live = refreshTokenService.createRefreshToken(USER_ID, USERNAME, null, null);
+
+        assertThat(redisTemplate.opsForZSet().range(userKey(), 0, -1))
+                .containsExactlyInAnyOrder(hash(earlier), hash(live));
+        assertThat(redisTemplate.getExpire(userKey())).isBetween(1L, DURATION_MS / 1000);
+    }
+
+    private static String userKey() {
+        return "refresh_token:sessions:" + USER_ID;
+    }
+
+    private static String tokenKey(String token) {
+        return "refresh_token:" + hash(token);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}